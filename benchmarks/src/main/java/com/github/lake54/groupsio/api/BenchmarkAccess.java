@@ -0,0 +1,27 @@
+package com.github.lake54.groupsio.api;
+
+import okhttp3.Request;
+
+/**
+ * Gives the benchmarks access to the package-private internals of the
+ * client, which are deliberately kept out of its public API.
+ */
+public final class BenchmarkAccess {
+
+    private BenchmarkAccess() { }
+
+    /**
+     * Converts an API request into the OkHttp {@link Request} sent by a
+     * call, including the URL and the authorization header.
+     *
+     * @param client
+     *      the client to resolve the request with.
+     * @param request
+     *      the request to convert.
+     * @return
+     *      the {@link Request} a call would send.
+     */
+    public static Request createHttpRequest(GroupsIOApiClient client, GroupsIOApiRequest request) {
+        return client.createHttpRequest(request);
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.lake54.groupsio.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.lake54.groupsio.api.util.JacksonCodec;
+import com.github.lake54.groupsio.api.util.JacksonUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Optional;
+
+/**
+ * Generates synthetic JSON fixtures from the domain classes.
+ *
+ * Every abstract property annotated with {@link JsonProperty} is given a
+ * value derived from its type and a seed, so fixtures follow the domain
+ * classes as fields are added, and every fixture is checked by decoding it
+ * before it is used.
+ */
+public class Fixtures {
+
+    /**
+     * The mapper used to build and check fixtures.
+     */
+    private static final ObjectMapper MAPPER = JacksonCodec.shared().getMapper();
+
+    /**
+     * Creates a JSON object for a domain class.
+     *
+     * @param type
+     *      the domain class to create an object for.
+     * @param seed
+     *      the seed used to vary the values.
+     * @return
+     *      an {@link ObjectNode} holding a value for every property.
+     */
+    public static ObjectNode object(Class<?> type, int seed) {
+        ObjectNode node = MAPPER.createObjectNode();
+
+        for (Method method : type.getMethods()) {
+            JsonProperty property = method.getAnnotation(JsonProperty.class);
+
+            if (property == null || !Modifier.isAbstract(method.getModifiers())) {
+                continue;
+            }
+
+            node.set(property.value(), MAPPER.valueToTree(value(property.value(), method.getGenericReturnType(), seed)));
+        }
+
+        return node;
+    }
+
+    /**
+     * Creates the JSON bytes of a single domain object.
+     *
+     * @param type
+     *      the domain class to create an object for.
+     * @param seed
+     *      the seed used to vary the values.
+     * @return
+     *      the encoded JSON object.
+     */
+    public static byte[] single(Class<?> type, int seed) {
+        return check(object(type, seed), MAPPER.constructType(type));
+    }
+
+    /**
+     * Creates the JSON bytes of a page of domain objects.
+     *
+     * @param type
+     *      the domain class to create objects for.
+     * @param rows
+     *      the number of objects in the page.
+     * @return
+     *      the encoded JSON page.
+     */
+    public static byte[] page(Class<?> type, int rows) {
+        ObjectNode page = MAPPER.createObjectNode();
+        ArrayNode data = page.putArray("data");
+
+        for (int i = 0; i < rows; i++) {
+            data.add(object(type, i));
+        }
+
+        page.put("object", "list");
+        page.put("total_count", rows * 10);
+        page.put("start_item", 0);
+        page.put("end_item", rows);
+        page.put("has_more", true);
+        page.put("next_page_token", rows);
+
+        return check(page, JacksonUtils.createPaginationType(type));
+    }
+
+    /**
+     * Encodes a fixture, checking that it decodes into the target type.
+     */
+    private static byte[] check(ObjectNode node, JavaType type) {
+        try {
+            byte[] bytes = MAPPER.writeValueAsBytes(node);
+            JacksonCodec.shared().read(bytes, type);
+            return bytes;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a value for a property of the provided type.
+     */
+    private static Object value(String name, Type type, int seed) {
+        if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() == Optional.class) {
+            return value(name, ((ParameterizedType) type).getActualTypeArguments()[0], seed);
+        }
+        if (type == int.class || type == Integer.class) {
+            return 1000 + seed;
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return seed % 2 == 0;
+        }
+        if (type == String.class) {
+            return name + "-" + seed;
+        }
+        if (type instanceof Class && ((Class<?>) type).isEnum()) {
+            Object[] constants = ((Class<?>) type).getEnumConstants();
+            return constants[seed % constants.length];
+        }
+        throw new IllegalArgumentException("Unsupported fixture type " + type + " for " + name);
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.lake54.groupsio.benchmarks;
+
+import com.github.lake54.groupsio.api.domain.Group;
+import com.github.lake54.groupsio.api.domain.Subscription;
+import com.github.lake54.groupsio.api.util.JacksonCodec;
+import com.github.lake54.groupsio.api.util.JacksonUtils;
+import okhttp3.FormBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding domain objects as the form bodies sent by updates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormEncodingBenchmark {
+
+    private Subscription subscription;
+    private Group group;
+
+    @Setup
+    public void setup() throws IOException {
+        JacksonCodec codec = JacksonCodec.shared();
+
+        this.subscription = codec.read(Fixtures.single(Subscription.class, 1), codec.type(Subscription.class));
+        this.group = codec.read(Fixtures.single(Group.class, 1), codec.type(Group.class));
+    }
+
+    @Benchmark
+    public FormBody subscription() {
+        return JacksonUtils.toFormBody(this.subscription);
+    }
+
+    @Benchmark
+    public FormBody group() {
+        return JacksonUtils.toFormBody(this.group);
+    }
+}
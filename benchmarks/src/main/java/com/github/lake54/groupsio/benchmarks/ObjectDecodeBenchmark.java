@@ -0,0 +1,58 @@
+package com.github.lake54.groupsio.benchmarks;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.github.lake54.groupsio.api.domain.Group;
+import com.github.lake54.groupsio.api.domain.User;
+import com.github.lake54.groupsio.api.util.JacksonCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding full {@link Group} and {@link User} objects from a
+ * response stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectDecodeBenchmark {
+
+    private JacksonCodec codec;
+    private JavaType groupType;
+    private JavaType userType;
+    private byte[] group;
+    private byte[] user;
+
+    @Setup
+    public void setup() {
+        this.codec = JacksonCodec.shared();
+        this.groupType = this.codec.type(Group.class);
+        this.userType = this.codec.type(User.class);
+        this.group = Fixtures.single(Group.class, 1);
+        this.user = Fixtures.single(User.class, 1);
+    }
+
+    @Benchmark
+    public Group group() throws IOException {
+        return this.codec.read(new ByteArrayInputStream(this.group), this.groupType);
+    }
+
+    @Benchmark
+    public User user() throws IOException {
+        return this.codec.read(new ByteArrayInputStream(this.user), this.userType);
+    }
+}
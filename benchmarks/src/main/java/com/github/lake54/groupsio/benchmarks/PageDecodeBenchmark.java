@@ -0,0 +1,63 @@
+package com.github.lake54.groupsio.benchmarks;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.github.lake54.groupsio.api.domain.Page;
+import com.github.lake54.groupsio.api.domain.Subscription;
+import com.github.lake54.groupsio.api.domain.SubscriptionPlus;
+import com.github.lake54.groupsio.api.util.JacksonCodec;
+import com.github.lake54.groupsio.api.util.JacksonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding pages of members, as returned by {@code /getmembers}
+ * and {@code /getsubs}, from a response stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageDecodeBenchmark {
+
+    private static final JavaType SUBSCRIPTION_PAGE_TYPE = JacksonUtils.createPaginationType(Subscription.class);
+    private static final JavaType SUBSCRIPTION_PLUS_PAGE_TYPE = JacksonUtils.createPaginationType(SubscriptionPlus.class);
+
+    @Param({ "10", "100" })
+    public int rows;
+
+    private JacksonCodec codec;
+    private byte[] subscriptionPage;
+    private byte[] subscriptionPlusPage;
+
+    @Setup
+    public void setup() {
+        this.codec = JacksonCodec.shared();
+        this.subscriptionPage = Fixtures.page(Subscription.class, this.rows);
+        this.subscriptionPlusPage = Fixtures.page(SubscriptionPlus.class, this.rows);
+    }
+
+    @Benchmark
+    public Page<Subscription> subscriptionPage() throws IOException {
+        return this.codec.read(new ByteArrayInputStream(this.subscriptionPage), SUBSCRIPTION_PAGE_TYPE);
+    }
+
+    @Benchmark
+    public Page<SubscriptionPlus> subscriptionPlusPage() throws IOException {
+        return this.codec.read(new ByteArrayInputStream(this.subscriptionPlusPage), SUBSCRIPTION_PLUS_PAGE_TYPE);
+    }
+}
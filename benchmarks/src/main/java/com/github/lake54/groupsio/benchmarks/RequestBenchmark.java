@@ -0,0 +1,61 @@
+package com.github.lake54.groupsio.benchmarks;
+
+import com.github.lake54.groupsio.api.BenchmarkAccess;
+import com.github.lake54.groupsio.api.GroupsIOApiClient;
+import com.github.lake54.groupsio.api.GroupsIOApiRequest;
+import okhttp3.Request;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a {@link GroupsIOApiRequest}, and converting it into
+ * the OkHttp {@link Request} sent by a call, including the URL and the
+ * authorization header.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestBenchmark {
+
+    private GroupsIOApiClient client;
+    private GroupsIOApiRequest request;
+
+    @Setup
+    public void setup() {
+        this.client = new GroupsIOApiClient("benchmark-api-key");
+        this.request = buildRequest();
+    }
+
+    @Benchmark
+    public GroupsIOApiRequest buildRequest() {
+        return GroupsIOApiRequest
+            .builder("GET", "/getmembers")
+                .putParam("group_id", "12345")
+                .putParam("limit", "100")
+                .putParam("page_token", "67890")
+            .build();
+    }
+
+    @Benchmark
+    public Request createHttpRequest() {
+        return BenchmarkAccess.createHttpRequest(this.client, this.request);
+    }
+
+    @Benchmark
+    public Request buildAndCreateHttpRequest() {
+        return BenchmarkAccess.createHttpRequest(this.client, buildRequest());
+    }
+}
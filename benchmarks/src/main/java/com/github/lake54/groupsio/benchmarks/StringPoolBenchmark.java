@@ -0,0 +1,215 @@
+package com.github.lake54.groupsio.benchmarks;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.lake54.groupsio.api.domain.Page;
+import com.github.lake54.groupsio.api.domain.Subscription;
+import com.github.lake54.groupsio.api.util.JacksonCodec;
+import com.github.lake54.groupsio.api.util.JacksonUtils;
+import com.github.lake54.groupsio.api.util.StringPool;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the heap retained by decoded members with and without a
+ * {@link StringPool}. The reported time includes the full collections
+ * used to measure the heap, so it is not a measure of decoding speed.
+ *
+ * Members are generated with the cardinality seen in real groups, rather
+ * than a handful of repeated values: timezones and about formats are drawn
+ * from small, skewed sets, most locations and websites are empty with the
+ * rest spread over many values, and emails, names, profiles, photo ids,
+ * moderator notes and timestamps are unique. Each invocation decodes every
+ * page and keeps the members, reporting the heap they retain after a full
+ * collection as {@code retainedBytesPerMember}. The footprint is the same
+ * on every run, and JMH sums event counters across iterations and forks,
+ * so a single iteration is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseSerialGC")
+public class StringPoolBenchmark {
+
+    /**
+     * A sample of common timezones, most used first.
+     */
+    private static final String[] TIMEZONES = {
+        "America/New_York", "America/Los_Angeles", "America/Chicago", "Europe/London",
+        "America/Denver", "Europe/Berlin", "Australia/Sydney", "America/Toronto",
+        "Europe/Paris", "Asia/Kolkata", "America/Phoenix", "Europe/Amsterdam",
+        "Asia/Tokyo", "America/Vancouver", "Pacific/Auckland", "Europe/Madrid",
+        "Europe/Stockholm", "America/Sao_Paulo", "Asia/Singapore", "Europe/Dublin",
+        "Africa/Johannesburg", "America/Halifax", "Europe/Rome", "Asia/Jerusalem",
+        "Europe/Zurich", "America/Mexico_City", "Asia/Hong_Kong", "Europe/Oslo",
+        "Pacific/Honolulu", "America/Anchorage", "Europe/Helsinki", "Asia/Manila",
+        "Europe/Warsaw", "Australia/Melbourne", "America/Bogota", "Europe/Lisbon",
+        "Asia/Shanghai", "Europe/Brussels", "America/Buenos_Aires", "Asia/Seoul"
+    };
+
+    /**
+     * The number of distinct locations members pick from.
+     */
+    private static final int LOCATIONS = 2000;
+
+    @Param({"100"})
+    public int pages;
+
+    @Param({"100"})
+    public int rows;
+
+    @Param({"false", "true"})
+    public boolean pooled;
+
+    private StringPool pool;
+    private JacksonCodec codec;
+    private JavaType pageType;
+    private List<byte[]> fixtures;
+    private List<Page<Subscription>> decoded;
+
+    /**
+     * The retained heap reported by each invocation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long retainedBytesPerMember;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.pool = this.pooled ? new StringPool() : null;
+        this.codec = this.pooled
+            ? new JacksonCodec(JacksonUtils.createMapper(this.pool)).warm()
+            : new JacksonCodec(JacksonUtils.createMapper()).warm();
+        this.pageType = JacksonUtils.createPaginationType(Subscription.class);
+        this.fixtures = new ArrayList<>(this.pages);
+
+        Random random = new Random(42);
+        ObjectMapper mapper = JacksonCodec.shared().getMapper();
+
+        for (int page = 0; page < this.pages; page++) {
+            ObjectNode node = mapper.createObjectNode();
+            ArrayNode data = node.putArray("data");
+
+            for (int row = 0; row < this.rows; row++) {
+                data.add(member(page * this.rows + row, random));
+            }
+
+            node.put("object", "list");
+            node.put("total_count", this.pages * this.rows);
+            node.put("start_item", page * this.rows);
+            node.put("end_item", (page + 1) * this.rows);
+            node.put("has_more", page + 1 < this.pages);
+            node.put("next_page_token", page + 1);
+
+            try {
+                this.fixtures.add(mapper.writeValueAsBytes(node));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void release() {
+        this.decoded = null;
+
+        // strings left in the pool would otherwise be counted as already retained
+        if (this.pool != null) {
+            this.pool.clear();
+        }
+    }
+
+    @Benchmark
+    public void footprint(Footprint footprint) throws IOException {
+        long before = usedHeap();
+        List<Page<Subscription>> decoded = new ArrayList<>(this.pages);
+
+        for (byte[] fixture : this.fixtures) {
+            decoded.add(this.codec.read(fixture, this.pageType));
+        }
+
+        this.decoded = decoded;
+        footprint.retainedBytesPerMember = (usedHeap() - before) / ((long) this.pages * this.rows);
+    }
+
+    /**
+     * Creates a member whose strings follow a realistic cardinality.
+     */
+    private static ObjectNode member(int seed, Random random) {
+        ObjectNode member = Fixtures.object(Subscription.class, seed);
+
+        member.put("email", "member" + seed + "." + Long.toHexString(random.nextLong()) + "@example.com");
+        member.put("full_name", "Member " + Long.toString(random.nextLong() & Long.MAX_VALUE, 36));
+        member.put("user_name", "member" + seed);
+        member.put("created", timestamp(random));
+        member.put("updated", timestamp(random));
+        member.put("timezone", TIMEZONES[skewed(random, TIMEZONES.length)]);
+        member.put("about_format", random.nextInt(10) < 8 ? "plain" : "markdown");
+        member.put("location", random.nextInt(10) < 7 ? "" : "City " + skewed(random, LOCATIONS));
+        member.put("website", random.nextInt(100) < 85 ? "" : "https://example.com/" + Long.toHexString(random.nextLong()));
+        member.put("about_me", random.nextInt(4) < 3 ? "" : "About member " + seed + ": " + Long.toString(random.nextLong(), 36));
+        member.put("profile_photo_id", random.nextInt(10) < 4 ? "" : Long.toHexString(random.nextLong()));
+        member.put("moderator_notes", random.nextInt(100) < 95 ? "" : "Note " + Long.toHexString(random.nextLong()));
+        member.put("moderator_notes_updated", timestamp(random));
+
+        return member;
+    }
+
+    /**
+     * Picks an index favouring the start of a range, as a few values
+     * account for most members.
+     */
+    private static int skewed(Random random, int bound) {
+        double uniform = random.nextDouble();
+        return (int) (bound * uniform * uniform * uniform);
+    }
+
+    /**
+     * Creates a random timestamp in the format used by the API.
+     */
+    private static String timestamp(Random random) {
+        return String.format("20%02d-%02d-%02dT%02d:%02d:%02d.%06dZ",
+            10 + random.nextInt(15), 1 + random.nextInt(12), 1 + random.nextInt(28),
+            random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000));
+    }
+
+    /**
+     * Returns the heap in use after a full collection.
+     */
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.lake54.groupsio.benchmarks;
+
+import com.github.lake54.groupsio.api.GroupsIOApiClient;
+import com.github.lake54.groupsio.api.domain.Group;
+import com.github.lake54.groupsio.api.domain.Subscription;
+import com.github.lake54.groupsio.api.transport.Transport;
+import com.github.lake54.groupsio.api.transport.TransportSettings;
+import com.github.lake54.groupsio.api.transport.Transports;
+import com.github.lake54.groupsio.benchmarks.load.FakeGroupsIOServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the transports available to a client on the same workloads,
+ * run against a {@link FakeGroupsIOServer} without added latency: a
+ * synchronous paginated read, and a burst of concurrent asynchronous
+ * calls. The fake server only speaks HTTP/1.1 over plain text, so both
+ * transports are compared on the same protocol. Run with {@code -prof gc}
+ * to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransportBenchmark {
+
+    /**
+     * The number of asynchronous calls made at once.
+     */
+    private static final int BURST = 32;
+
+    @Param({ "okhttp", "jdk" })
+    public String transport;
+
+    private FakeGroupsIOServer server;
+    private Transport clientTransport;
+    private GroupsIOApiClient client;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.server = FakeGroupsIOServer.builder()
+            .groups(BURST)
+            .membersPerGroup(500)
+            .subgroupsPerGroup(10)
+            .start();
+
+        TransportSettings settings = TransportSettings.defaults();
+
+        this.clientTransport = "jdk".equals(this.transport)
+            ? Transports.jdk(settings)
+            : Transports.okHttp(settings);
+
+        this.client = GroupsIOApiClient
+            .builder("benchmark-api-key")
+                .apiRoot(this.server.apiRoot())
+                .transport(this.clientTransport)
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.client.close();
+        this.clientTransport.close();
+        this.server.close();
+    }
+
+    @Benchmark
+    public List<Subscription> paginate() throws Exception {
+        return this.client.member().getMembersInGroup(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public Object asyncBurst() {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<List<Group>>[] futures = new CompletableFuture[BURST];
+
+        for (int i = 0; i < BURST; i++) {
+            futures[i] = this.client.group().getSubgroupsAsync(i + 1);
+        }
+
+        return CompletableFuture.allOf(futures).join();
+    }
+}
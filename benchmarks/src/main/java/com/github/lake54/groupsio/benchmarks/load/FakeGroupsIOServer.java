@@ -0,0 +1,565 @@
+package com.github.lake54.groupsio.benchmarks.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.lake54.groupsio.api.domain.Error;
+import com.github.lake54.groupsio.api.domain.Group;
+import com.github.lake54.groupsio.api.domain.Login;
+import com.github.lake54.groupsio.api.domain.Permissions;
+import com.github.lake54.groupsio.api.domain.Subscription;
+import com.github.lake54.groupsio.api.domain.SubscriptionPlus;
+import com.github.lake54.groupsio.api.domain.User;
+import com.github.lake54.groupsio.api.domain.enums.error.ErrorType;
+import com.github.lake54.groupsio.api.domain.results.BulkRemoveResults;
+import com.github.lake54.groupsio.api.domain.results.DirectAddResults;
+import com.github.lake54.groupsio.api.domain.results.InviteResults;
+import com.github.lake54.groupsio.api.util.JacksonCodec;
+import com.github.lake54.groupsio.benchmarks.Fixtures;
+import com.google.common.base.Preconditions;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An in-process fake of the Groups.IO endpoints used by the client.
+ *
+ * The fake serves a synthetic, read-only dataset of groups, members and
+ * subgroups generated from the domain classes, paged with realistic
+ * {@code limit}/{@code page_token} handling. Every response can be delayed,
+ * and a configurable fraction of requests fail with a {@code server} error
+ * or an HTTP 429 {@code rate_limit} error, so that the client's retries and
+ * rate limiting can be exercised without a live account.
+ *
+ * Mutating endpoints (adds, removes, updates) answer as the API would but
+ * leave the dataset untouched, so repeated load runs see the same data.
+ */
+public class FakeGroupsIOServer implements Closeable {
+
+    /**
+     * The largest page the fake will return, as with the real API.
+     */
+    private static final int MAX_LIMIT = 100;
+
+    /**
+     * The mapper used to render responses.
+     */
+    private static final ObjectMapper MAPPER = JacksonCodec.shared().getMapper();
+
+    /**
+     * The mock server logs every request, which would drown out any output.
+     */
+    private static final Logger SERVER_LOGGER = Logger.getLogger(MockWebServer.class.getName());
+
+    static {
+        SERVER_LOGGER.setLevel(Level.WARNING);
+    }
+
+    private final MockWebServer server = new MockWebServer();
+    private final Builder config;
+    private final Map<Integer, String[]> members = new HashMap<>();
+    private final Map<Integer, Integer> memberIndex = new HashMap<>();
+    private final String[] subgroups;
+    private final String[] subscriptions;
+    private final String permissions;
+    private final String user;
+    private final String login;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private final AtomicLong injectedRateLimits = new AtomicLong();
+
+    /**
+     * Creates and starts a fake server from a configured builder.
+     */
+    private FakeGroupsIOServer(Builder config) throws IOException {
+        this.config = config;
+
+        for (int group = 1; group <= config.groups; group++) {
+            String[] rendered = new String[config.membersPerGroup];
+
+            for (int i = 0; i < config.membersPerGroup; i++) {
+                int id = memberId(group, i);
+                rendered[i] = render(member(Subscription.class, group, id));
+                this.memberIndex.put(id, i);
+            }
+
+            this.members.put(group, rendered);
+        }
+
+        this.subgroups = renderAll(config.subgroupsPerGroup, i -> {
+            ObjectNode node = Fixtures.object(Group.class, i);
+            node.put("id", 100000 + i);
+            return node;
+        });
+        this.subscriptions = renderAll(config.groups, i -> member(SubscriptionPlus.class, i + 1, memberId(i + 1, 0)));
+        this.permissions = render(Fixtures.object(Permissions.class, 0));
+        this.user = render(Fixtures.object(User.class, 0));
+        this.login = render(MAPPER.valueToTree(Login.create("fake", "fake-token")));
+
+        this.server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                return FakeGroupsIOServer.this.dispatch(request);
+            }
+        });
+        this.server.start();
+    }
+
+    /**
+     * Creates a builder to configure a fake server.
+     *
+     * @return a new {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the API root to point a client at.
+     *
+     * @return the root {@link HttpUrl} of the fake API.
+     */
+    public HttpUrl apiRoot() {
+        return this.server.url("/v1");
+    }
+
+    /**
+     * Returns the number of requests served.
+     *
+     * @return the request count.
+     */
+    public long requestCount() {
+        return this.requests.get();
+    }
+
+    /**
+     * Returns the number of injected server errors.
+     *
+     * @return the server error count.
+     */
+    public long injectedErrorCount() {
+        return this.injectedErrors.get();
+    }
+
+    /**
+     * Returns the number of injected rate limit errors.
+     *
+     * @return the rate limit count.
+     */
+    public long injectedRateLimitCount() {
+        return this.injectedRateLimits.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.server.shutdown();
+    }
+
+    /**
+     * Answers a single request.
+     */
+    private MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+        this.requests.incrementAndGet();
+
+        MockResponse response = route(request);
+
+        // each connection is served on its own thread, and MockWebServer
+        // 3.9 ignores headers delays, so the delay is taken here instead
+        if (this.config.latencyMillis > 0) {
+            long jitter = this.config.latencyJitterMillis > 0
+                ? ThreadLocalRandom.current().nextLong(this.config.latencyJitterMillis + 1)
+                : 0;
+            TimeUnit.MILLISECONDS.sleep(this.config.latencyMillis + jitter);
+        }
+
+        return response;
+    }
+
+    /**
+     * Routes a request to the matching endpoint, after error injection.
+     */
+    private MockResponse route(RecordedRequest request) {
+        double roll = ThreadLocalRandom.current().nextDouble();
+
+        if (roll < this.config.rateLimitRate) {
+            this.injectedRateLimits.incrementAndGet();
+            return error(429, ErrorType.rate_limit).setHeader("Retry-After", "1");
+        }
+        if (roll < this.config.rateLimitRate + this.config.errorRate) {
+            this.injectedErrors.incrementAndGet();
+            return error(500, ErrorType.server);
+        }
+
+        Map<String, String> params = params(request);
+        List<String> segments = request.getRequestUrl().pathSegments();
+        String endpoint = segments.get(segments.size() - 1);
+
+        switch (endpoint) {
+            case "login":
+                return ok(this.login);
+            case "getuser":
+            case "updateuser":
+                return ok(this.user);
+            case "getperms":
+                return ok(this.permissions);
+            case "getgroup":
+            case "updategroup":
+            case "createsubgroup":
+                return ok(this.subgroups.length > 0 ? this.subgroups[0] : render(Fixtures.object(Group.class, 0)));
+            case "deletegroup":
+            case "deletesub":
+                return ok("{}");
+            case "getsubs":
+                return page(Arrays.asList(this.subscriptions), params);
+            case "getsub":
+                return ok(this.subscriptions.length > 0 ? this.subscriptions[0] : "{}");
+            case "getsubgroups":
+                return page(Arrays.asList(this.subgroups), params);
+            case "getmembers":
+                return withGroup(params, rendered -> page(Arrays.asList(rendered), params));
+            case "searchmembers":
+                return withGroup(params, rendered -> page(search(rendered, params.getOrDefault("q", "")), params));
+            case "getmember":
+            case "approvemember":
+            case "banmember":
+            case "removemember":
+            case "sendbounceprobe":
+            case "updatemember":
+                return withGroup(params, rendered -> member(rendered, params));
+            case "directadd":
+                return emails(params, this::directAdd);
+            case "invite":
+                return emails(params, this::invite);
+            case "bulkremovemembers":
+                return emails(params, this::bulkRemove);
+            default:
+                return error(400, ErrorType.bad_request);
+        }
+    }
+
+    /**
+     * Returns a page of pre-rendered objects, honouring the paging parameters.
+     */
+    private MockResponse page(List<String> items, Map<String, String> params) {
+        int limit = Math.min(MAX_LIMIT, Integer.parseInt(params.getOrDefault("limit", "" + MAX_LIMIT)));
+        int start = Integer.parseInt(params.getOrDefault("page_token", "0"));
+        int end = Math.min(items.size(), start + limit);
+        boolean hasMore = end < items.size();
+
+        StringBuilder body = new StringBuilder(Math.max(64, (end - start) * 1024));
+        body.append("{\"object\":\"list\",\"total_count\":").append(items.size())
+            .append(",\"start_item\":").append(start)
+            .append(",\"end_item\":").append(end)
+            .append(",\"has_more\":").append(hasMore)
+            .append(",\"next_page_token\":").append(hasMore ? end : 0)
+            .append(",\"data\":[");
+
+        for (int i = start; i < end; i++) {
+            if (i > start) {
+                body.append(',');
+            }
+            body.append(items.get(i));
+        }
+
+        return ok(body.append("]}").toString());
+    }
+
+    /**
+     * Finds the members of a group whose rendered form contains a query.
+     */
+    private static List<String> search(String[] rendered, String query) {
+        List<String> matches = new ArrayList<>();
+        String needle = query.toLowerCase(Locale.ROOT);
+
+        for (String member : rendered) {
+            if (member.toLowerCase(Locale.ROOT).contains(needle)) {
+                matches.add(member);
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * Returns a single member by subscription identifier.
+     */
+    private MockResponse member(String[] rendered, Map<String, String> params) {
+        Integer index = this.memberIndex.get(Integer.parseInt(params.getOrDefault("sub_id", "-1")));
+
+        if (index == null || index >= rendered.length) {
+            return error(400, ErrorType.invalid_value);
+        }
+
+        return ok(rendered[index]);
+    }
+
+    private Object directAdd(int groupId, List<String> emails) {
+        List<Subscription> added = new ArrayList<>(emails.size());
+
+        for (int i = 0; i < emails.size(); i++) {
+            ObjectNode node = member(Subscription.class, groupId, 900000000 + i);
+            node.put("email", emails.get(i));
+            added.add(MAPPER.convertValue(node, Subscription.class));
+        }
+
+        return DirectAddResults.builder()
+            .totalEmails(emails.size())
+            .addAllAddedMembers(added)
+            .build();
+    }
+
+    private Object invite(int groupId, List<String> emails) {
+        return InviteResults.builder()
+            .totalEmails(emails.size())
+            .addAllInvited(emails)
+            .build();
+    }
+
+    private Object bulkRemove(int groupId, List<String> emails) {
+        return BulkRemoveResults.builder()
+            .totalEmails(emails.size())
+            .removed(emails.size())
+            .build();
+    }
+
+    /**
+     * Answers a request acting on a batch of emails within a group.
+     */
+    private MockResponse emails(Map<String, String> params, EmailsHandler handler) {
+        String emails = params.getOrDefault("emails", "");
+        List<String> list = emails.isEmpty() ? new ArrayList<>() : Arrays.asList(emails.split("\n"));
+
+        return withGroup(params, rendered -> ok(render(MAPPER.valueToTree(
+            handler.handle(Integer.parseInt(params.get("group_id")), list)))));
+    }
+
+    /**
+     * Looks up the group of a request, failing if it does not exist.
+     */
+    private MockResponse withGroup(Map<String, String> params, GroupHandler handler) {
+        String groupId = params.get("group_id");
+        String[] rendered = groupId == null ? null : this.members.get(Integer.parseInt(groupId));
+
+        if (rendered == null) {
+            return error(400, ErrorType.invalid_value);
+        }
+
+        return handler.handle(rendered);
+    }
+
+    /**
+     * Creates a member fixture of the provided type.
+     */
+    private static ObjectNode member(Class<?> type, int groupId, int id) {
+        ObjectNode node = Fixtures.object(type, id);
+        node.put("id", id);
+        node.put("group_id", groupId);
+        node.put("user_id", id);
+        node.put("email", "member" + id + "@example.com");
+        node.put("created", "2017-01-01T00:00:00Z");
+        node.put("updated", "2017-06-01T00:00:00Z");
+        return node;
+    }
+
+    private static int memberId(int groupId, int index) {
+        return groupId * 1000000 + index;
+    }
+
+    private static String[] renderAll(int count, IntFunction<ObjectNode> generator) {
+        String[] rendered = new String[count];
+        for (int i = 0; i < count; i++) {
+            rendered[i] = render(generator.apply(i));
+        }
+        return rendered;
+    }
+
+    private static String render(Object node) {
+        try {
+            return MAPPER.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MockResponse ok(String body) {
+        return new MockResponse()
+            .setResponseCode(200)
+            .setHeader("Content-Type", "application/json")
+            .setBody(body);
+    }
+
+    private static MockResponse error(int code, ErrorType type) {
+        return new MockResponse()
+            .setResponseCode(code)
+            .setHeader("Content-Type", "application/json")
+            .setBody(render(Error.create(type)));
+    }
+
+    /**
+     * Collects the query and form parameters of a request.
+     */
+    private static Map<String, String> params(RecordedRequest request) {
+        Map<String, String> params = new HashMap<>();
+        HttpUrl url = request.getRequestUrl();
+
+        for (String name : url.queryParameterNames()) {
+            params.put(name, url.queryParameter(name));
+        }
+
+        if (request.getBodySize() > 0) {
+            HttpUrl form = HttpUrl.parse("http://localhost/?" + request.getBody().readUtf8());
+
+            if (form != null) {
+                for (String name : form.queryParameterNames()) {
+                    params.put(name, form.queryParameter(name));
+                }
+            }
+        }
+
+        return params;
+    }
+
+    @FunctionalInterface
+    private interface GroupHandler {
+        MockResponse handle(String[] rendered);
+    }
+
+    @FunctionalInterface
+    private interface EmailsHandler {
+        Object handle(int groupId, List<String> emails);
+    }
+
+    /**
+     * Builder used to configure a {@link FakeGroupsIOServer}.
+     */
+    public static class Builder {
+
+        private int groups = 1;
+        private int membersPerGroup = 1000;
+        private int subgroupsPerGroup = 10;
+        private long latencyMillis;
+        private long latencyJitterMillis;
+        private double errorRate;
+        private double rateLimitRate;
+
+        private Builder() { }
+
+        /**
+         * Sets the number of groups, numbered from 1.
+         *
+         * @param groups
+         *      the number of groups.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        public Builder groups(int groups) {
+            Preconditions.checkArgument(groups > 0, "groups must be positive");
+            this.groups = groups;
+            return this;
+        }
+
+        /**
+         * Sets the number of members in each group.
+         *
+         * @param membersPerGroup
+         *      the number of members.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        public Builder membersPerGroup(int membersPerGroup) {
+            Preconditions.checkArgument(membersPerGroup >= 0, "membersPerGroup must not be negative");
+            this.membersPerGroup = membersPerGroup;
+            return this;
+        }
+
+        /**
+         * Sets the number of subgroups returned for each group.
+         *
+         * @param subgroupsPerGroup
+         *      the number of subgroups.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        public Builder subgroupsPerGroup(int subgroupsPerGroup) {
+            Preconditions.checkArgument(subgroupsPerGroup >= 0, "subgroupsPerGroup must not be negative");
+            this.subgroupsPerGroup = subgroupsPerGroup;
+            return this;
+        }
+
+        /**
+         * Sets the delay before each response, plus up to a random jitter.
+         *
+         * @param latencyMillis
+         *      the fixed delay in milliseconds.
+         * @param latencyJitterMillis
+         *      the maximum extra random delay in milliseconds.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        public Builder latency(long latencyMillis, long latencyJitterMillis) {
+            Preconditions.checkArgument(latencyMillis >= 0 && latencyJitterMillis >= 0, "latency must not be negative");
+            this.latencyMillis = latencyMillis;
+            this.latencyJitterMillis = latencyJitterMillis;
+            return this;
+        }
+
+        /**
+         * Sets the fraction of requests failing with a {@code server} error.
+         *
+         * @param errorRate
+         *      the fraction of requests, between 0 and 1.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        public Builder errorRate(double errorRate) {
+            Preconditions.checkArgument(errorRate >= 0 && errorRate <= 1, "errorRate must be between 0 and 1");
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        /**
+         * Sets the fraction of requests failing with a {@code rate_limit} error.
+         *
+         * @param rateLimitRate
+         *      the fraction of requests, between 0 and 1.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        public Builder rateLimitRate(double rateLimitRate) {
+            Preconditions.checkArgument(rateLimitRate >= 0 && rateLimitRate <= 1, "rateLimitRate must be between 0 and 1");
+            this.rateLimitRate = rateLimitRate;
+            return this;
+        }
+
+        /**
+         * Generates the dataset and starts the fake server.
+         *
+         * @return
+         *      a running {@link FakeGroupsIOServer}.
+         * @throws IOException
+         *      if the server cannot be started.
+         */
+        public FakeGroupsIOServer start() throws IOException {
+            return new FakeGroupsIOServer(this);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.github.lake54.groupsio.benchmarks.load;
+
+import com.github.lake54.groupsio.api.GroupsIOApiClient;
+import com.github.lake54.groupsio.api.retry.RetryPolicy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures throughput and tail latency of the client against a
+ * {@link FakeGroupsIOServer}, at increasing levels of concurrency.
+ *
+ * Two workloads are measured: paginating every member of a group, and
+ * adding a batch of members in chunks. Each operation is timed end to end,
+ * including any retries of injected failures.
+ *
+ * Usage: {@code LoadHarness [members] [operations] [latencyMillis] [errorRate] [rateLimitRate] [concurrency,...]}
+ */
+public class LoadHarness {
+
+    /**
+     * The number of emails in each bulk add.
+     */
+    private static final int BULK_SIZE = 500;
+
+    public static void main(String[] args) throws Exception {
+        int members = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        long latency = args.length > 2 ? Long.parseLong(args[2]) : 5;
+        double errorRate = args.length > 3 ? Double.parseDouble(args[3]) : 0.01;
+        double rateLimitRate = args.length > 4 ? Double.parseDouble(args[4]) : 0.01;
+        int[] levels = args.length > 5
+            ? Arrays.stream(args[5].split(",")).mapToInt(Integer::parseInt).toArray()
+            : new int[] { 1, 4, 16, 64 };
+
+        int groups = Arrays.stream(levels).max().orElse(1);
+
+        List<String> emails = new ArrayList<>(BULK_SIZE);
+        for (int i = 0; i < BULK_SIZE; i++) {
+            emails.add("load" + i + "@example.com");
+        }
+
+        try (FakeGroupsIOServer server = FakeGroupsIOServer.builder()
+                .groups(groups)
+                .membersPerGroup(members)
+                .latency(latency, latency)
+                .errorRate(errorRate)
+                .rateLimitRate(rateLimitRate)
+                .start();
+             GroupsIOApiClient client = GroupsIOApiClient
+                .builder("load-harness")
+                    .apiRoot(server.apiRoot())
+                    .retryPolicy(RetryPolicy
+                        .builder()
+                            .initialBackoffMillis(10)
+                            .maxBackoffMillis(200)
+                        .build())
+                .build()) {
+
+            System.out.printf(Locale.ROOT, "%-10s %6s %8s %10s %10s %10s %10s %8s%n",
+                "workload", "conc", "ops", "ops/s", "p50 ms", "p99 ms", "p999 ms", "failed");
+
+            for (int concurrency : levels) {
+                report("paginate", concurrency, run(concurrency, operations, worker ->
+                    client.member().getMembersInGroup(worker + 1)));
+            }
+            for (int concurrency : levels) {
+                report("bulk-add", concurrency, run(concurrency, operations, worker ->
+                    client.member().directAddMemberInChunks(worker + 1, emails)));
+            }
+
+            System.out.printf(Locale.ROOT, "%nrequests=%d injected errors=%d injected rate limits=%d%n",
+                server.requestCount(), server.injectedErrorCount(), server.injectedRateLimitCount());
+        }
+    }
+
+    /**
+     * Runs a number of operations spread across a number of workers, each
+     * worker acting on its own group.
+     */
+    private static Result run(int concurrency, int operations, Operation operation) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        AtomicInteger remaining = new AtomicInteger(operations);
+        AtomicInteger failed = new AtomicInteger();
+        long[] latencies = new long[operations];
+        AtomicInteger recorded = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> workers = new ArrayList<>(concurrency);
+
+            for (int i = 0; i < concurrency; i++) {
+                int worker = i;
+                workers.add(pool.submit(() -> {
+                    start.await();
+                    while (remaining.getAndDecrement() > 0) {
+                        long begin = System.nanoTime();
+                        try {
+                            operation.run(worker);
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                        }
+                        latencies[recorded.getAndIncrement()] = System.nanoTime() - begin;
+                    }
+                    return null;
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+
+            return new Result(latencies, System.nanoTime() - begin, failed.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void report(String workload, int concurrency, Result result) {
+        long[] sorted = result.latencies.clone();
+        Arrays.sort(sorted);
+
+        System.out.printf(Locale.ROOT, "%-10s %6d %8d %10.1f %10.2f %10.2f %10.2f %8d%n",
+            workload,
+            concurrency,
+            sorted.length,
+            sorted.length / (result.elapsedNanos / 1e9),
+            percentile(sorted, 0.50),
+            percentile(sorted, 0.99),
+            percentile(sorted, 0.999),
+            result.failed);
+    }
+
+    /**
+     * Returns a percentile of sorted latencies, in milliseconds.
+     */
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run(int worker) throws Exception;
+    }
+
+    private static class Result {
+
+        private final long[] latencies;
+        private final long elapsedNanos;
+        private final int failed;
+
+        private Result(long[] latencies, long elapsedNanos, int failed) {
+            this.latencies = latencies;
+            this.elapsedNanos = elapsedNanos;
+            this.failed = failed;
+        }
+    }
+}
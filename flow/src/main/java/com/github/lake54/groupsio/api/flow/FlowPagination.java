@@ -0,0 +1,91 @@
+package com.github.lake54.groupsio.api.flow;
+
+import com.github.lake54.groupsio.api.GroupsIOApiClient;
+import com.github.lake54.groupsio.api.domain.Group;
+import com.github.lake54.groupsio.api.domain.Subscription;
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.Flow;
+
+/**
+ * Reactive pagination of the API, as {@link Flow.Publisher}s.
+ *
+ * Each publisher only requests a page of results once its subscriber has
+ * asked for more items than were already fetched, and stops requesting
+ * pages as soon as its subscription is cancelled. This makes it possible
+ * to walk very large groups from a reactive pipeline without buffering
+ * every page in memory.
+ *
+ * <pre>
+ * Flow.Publisher&lt;Subscription&gt; members = FlowPagination.membersInGroup(client, groupId);
+ * </pre>
+ *
+ * Publishers are cold, so every subscriber pages through the results from
+ * the start. Shipped in the {@code groupsio-api-java-flow} artifact, as it
+ * requires Java 9 or later.
+ */
+public class FlowPagination {
+
+    private FlowPagination() { }
+
+    /**
+     * Publishes the members subscribed to a particular group.
+     *
+     * @param apiClient
+     *      the client used to request each page.
+     * @param groupId
+     *      the group identifier to lookup.
+     * @return
+     *      a {@link Flow.Publisher} of the subscribed members.
+     */
+    public static Flow.Publisher<Subscription> membersInGroup(@Nonnull GroupsIOApiClient apiClient, int groupId) {
+        Preconditions.checkNotNull(apiClient);
+        return new PagePublisher<>(() -> apiClient.member().getMembersInGroupPagesAsync(groupId));
+    }
+
+    /**
+     * Publishes the results of a member search within a group.
+     *
+     * @param apiClient
+     *      the client used to request each page.
+     * @param groupId
+     *      the group identifier to search in.
+     * @param query
+     *      what to search for (will search over email or name).
+     * @return
+     *      a {@link Flow.Publisher} of the matching members.
+     */
+    public static Flow.Publisher<Subscription> searchMembers(@Nonnull GroupsIOApiClient apiClient, int groupId, String query) {
+        Preconditions.checkNotNull(apiClient);
+        return new PagePublisher<>(() -> apiClient.member().searchMembersPagesAsync(groupId, query));
+    }
+
+    /**
+     * Publishes the {@link Subscription}s that the current user is subscribed to.
+     *
+     * @param apiClient
+     *      the client used to request each page.
+     * @return
+     *      a {@link Flow.Publisher} of the subscriptions.
+     */
+    public static Flow.Publisher<Subscription> subscriptions(@Nonnull GroupsIOApiClient apiClient) {
+        Preconditions.checkNotNull(apiClient);
+        return new PagePublisher<>(() -> apiClient.user().getSubscriptionsPagesAsync());
+    }
+
+    /**
+     * Publishes the subgroups of a given group identifier.
+     *
+     * @param apiClient
+     *      the client used to request each page.
+     * @param groupId
+     *      the group identifier to fetch subgroups for.
+     * @return
+     *      a {@link Flow.Publisher} of the subgroups.
+     */
+    public static Flow.Publisher<Group> subgroups(@Nonnull GroupsIOApiClient apiClient, int groupId) {
+        Preconditions.checkNotNull(apiClient);
+        return new PagePublisher<>(() -> apiClient.group().getSubgroupsPagesAsync(groupId));
+    }
+}
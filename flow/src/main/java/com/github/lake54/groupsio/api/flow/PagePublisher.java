@@ -0,0 +1,258 @@
+package com.github.lake54.groupsio.api.flow;
+
+import com.github.lake54.groupsio.api.AsyncPageIterator;
+import com.github.lake54.groupsio.api.domain.Page;
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nonnull;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * {@link Flow.Publisher} of the items of a paginated request.
+ *
+ * Pages are fetched with an {@link AsyncPageIterator}, and only when
+ * downstream demand cannot be met by the items already fetched; at most
+ * one page is requested at a time. Cancelling a subscription stops any
+ * further pages from being requested, and drops the items of any page
+ * which was already fetched.
+ *
+ * The publisher is cold: each subscriber pages through the request from
+ * the start, using its own {@link AsyncPageIterator}.
+ *
+ * @param <T>
+ *      the type of the items published.
+ */
+public class PagePublisher<T> implements Flow.Publisher<T> {
+
+    /**
+     * The source of an iterator for each new subscriber.
+     */
+    private final Supplier<AsyncPageIterator<T>> pages;
+
+    /**
+     * Creates a publisher of the items of a paginated request.
+     *
+     * @param pages
+     *      the source of a fresh {@link AsyncPageIterator} for each subscriber.
+     */
+    public PagePublisher(@Nonnull Supplier<AsyncPageIterator<T>> pages) {
+        this.pages = Preconditions.checkNotNull(pages);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Preconditions.checkNotNull(subscriber);
+
+        AsyncPageIterator<T> iterator;
+
+        try {
+            iterator = this.pages.get();
+        } catch (RuntimeException e) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(e);
+            return;
+        }
+
+        PageSubscription<T> subscription = new PageSubscription<>(subscriber, iterator);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    /**
+     * Subscription emitting the items of each page as demand arrives.
+     *
+     * All signals to the subscriber are made from a single drain loop, so
+     * that they are never concurrent, regardless of whether they follow a
+     * call to {@link #request(long)} or the completion of a page.
+     */
+    private static class PageSubscription<T> implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AsyncPageIterator<T> pages;
+
+        /**
+         * The number of pending calls to {@link #drain()}.
+         */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /**
+         * The outstanding demand, capped at {@link Long#MAX_VALUE}.
+         */
+        private final AtomicLong requested = new AtomicLong();
+
+        /**
+         * The items of the current page, only accessed within the drain loop.
+         */
+        private Iterator<T> items;
+
+        /**
+         * The page fetched but not yet handed to the drain loop.
+         */
+        private volatile Page<T> fetched;
+
+        /**
+         * The failure of the last fetch, if any.
+         */
+        private volatile Throwable failure;
+
+        /**
+         * Whether a page is currently being fetched.
+         */
+        private volatile boolean fetching;
+
+        /**
+         * Whether the subscription was cancelled or has terminated.
+         */
+        private volatile boolean done;
+
+        private PageSubscription(Flow.Subscriber<? super T> subscriber, AsyncPageIterator<T> pages) {
+            this.subscriber = subscriber;
+            this.pages = pages;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.failure = new IllegalArgumentException("non-positive subscription request: " + n);
+            } else {
+                this.requested.accumulateAndGet(n, (current, added) -> {
+                    long total = current + added;
+                    return total < 0 ? Long.MAX_VALUE : total;
+                });
+            }
+
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            this.done = true;
+            drain();
+        }
+
+        /**
+         * Emits as many items as there is demand for, fetching the next page
+         * once the current one is exhausted.
+         */
+        private void drain() {
+            if (this.wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+
+            do {
+                if (this.done) {
+                    this.items = null;
+                    this.fetched = null;
+                } else {
+                    emit();
+                }
+
+                missed = this.wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Runs a single pass of the drain loop.
+         */
+        private void emit() {
+            Page<T> page = this.fetched;
+
+            if (page != null) {
+                this.fetched = null;
+                this.items = page.data().iterator();
+            }
+
+            long requested = this.requested.get();
+            long emitted = 0;
+
+            while (emitted != requested && this.items != null && this.items.hasNext()) {
+                if (this.done) {
+                    return;
+                }
+
+                this.subscriber.onNext(this.items.next());
+                emitted++;
+            }
+
+            if (emitted != 0 && requested != Long.MAX_VALUE) {
+                this.requested.addAndGet(-emitted);
+            }
+
+            if (this.done) {
+                return;
+            }
+
+            Throwable failure = this.failure;
+
+            if (failure != null) {
+                this.done = true;
+                this.subscriber.onError(failure);
+                return;
+            }
+
+            // a page landing mid-pass is picked up by the pass its completion triggers
+            if (this.fetching || this.fetched != null) {
+                return;
+            }
+
+            if (this.items != null && this.items.hasNext()) {
+                return;
+            }
+
+            if (!this.pages.hasNext()) {
+                this.done = true;
+                this.subscriber.onComplete();
+                return;
+            }
+
+            if (this.requested.get() != 0) {
+                fetch();
+            }
+        }
+
+        /**
+         * Requests the next page, draining again once it is available.
+         */
+        private void fetch() {
+            this.fetching = true;
+
+            CompletableFuture<Page<T>> next;
+
+            try {
+                next = this.pages.next();
+            } catch (RuntimeException e) {
+                next = new CompletableFuture<>();
+                next.completeExceptionally(e);
+            }
+
+            next.whenComplete((page, throwable) -> {
+                if (throwable != null) {
+                    this.failure = throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause()
+                        : throwable;
+                } else {
+                    this.fetched = page;
+                }
+
+                this.fetching = false;
+                drain();
+            });
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.lake54.groupsio.api;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.github.lake54.groupsio.api.domain.Page;
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous iterator over the pages of a paginated request.
+ *
+ * Each page is only requested when {@link #next()} is called, and no
+ * thread is held while waiting for the API. Pages must be requested one
+ * at a time: {@link #next()} may only be called again once the future it
+ * previously returned has completed, as the request for each page relies
+ * on the token returned with the page before it.
+ *
+ * This is the building block for demand-driven consumers, such as the
+ * {@code Flow.Publisher} pagination available on Java 9 and later.
+ *
+ * @param <T>
+ *      the type of the items within each page.
+ */
+public class AsyncPageIterator<T> {
+
+    /**
+     * The client used to request each page.
+     */
+    private final GroupsIOApiClient apiClient;
+
+    /**
+     * The type of each page in the response.
+     */
+    private final JavaType type;
+
+    /**
+     * The check to complete before the first page is requested, if any.
+     */
+    private Supplier<? extends CompletableFuture<?>> precondition;
+
+    /**
+     * The request for the next page, or null once all pages are requested.
+     */
+    private volatile GroupsIOApiRequest request;
+
+    /**
+     * The number of pages fetched so far.
+     */
+    private volatile int pages;
+
+    /**
+     * Creates an iterator over the pages of a request.
+     *
+     * @param apiClient
+     *      the client used to request each page.
+     * @param request
+     *      the request for the first page.
+     * @param type
+     *      the type of each page in the response.
+     * @param precondition
+     *      a check to complete before the first page is requested, such as
+     *      a permissions check, or null if there is none.
+     */
+    AsyncPageIterator(@Nonnull GroupsIOApiClient apiClient, @Nonnull GroupsIOApiRequest request, @Nonnull JavaType type,
+                      @Nullable Supplier<? extends CompletableFuture<?>> precondition) {
+        this.apiClient = Preconditions.checkNotNull(apiClient);
+        this.request = Preconditions.checkNotNull(request);
+        this.type = Preconditions.checkNotNull(type);
+        this.precondition = precondition;
+    }
+
+    /**
+     * Returns whether there are more pages to request.
+     *
+     * @return true if {@link #next()} may be called.
+     */
+    public boolean hasNext() {
+        return this.request != null;
+    }
+
+    /**
+     * Requests the next page.
+     *
+     * @return
+     *      a future completed with the next {@link Page}, or with either a
+     *      {@code GroupsIOApiException} or an {@code IOException} on failure.
+     * @throws NoSuchElementException
+     *      if there are no more pages.
+     */
+    public CompletableFuture<Page<T>> next() {
+        GroupsIOApiRequest current = this.request;
+
+        if (current == null) {
+            throw new NoSuchElementException();
+        }
+
+        Supplier<? extends CompletableFuture<?>> precondition = this.precondition;
+        this.precondition = null;
+
+        CompletableFuture<Page<T>> page = precondition == null
+            ? this.apiClient.callAsync(current, this.type)
+            : precondition.get().thenCompose(ignored -> this.apiClient.<Page<T>>callAsync(current, this.type));
+
+        return page.thenApply(result -> {
+            this.pages++;
+
+            if (result.hasMore()) {
+                this.request = GroupsIOApiClient.createNextPageRequest(current, result);
+            } else {
+                this.request = null;
+                this.apiClient.getMetricsListener().onPaginate(current.path(), this.pages);
+            }
+
+            return result;
+        });
+    }
+}
@@ -2,31 +2,66 @@ package com.github.lake54.groupsio.api;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.lake54.groupsio.api.cache.PermissionsCache;
+import com.github.lake54.groupsio.api.directory.MemberDirectory;
 import com.github.lake54.groupsio.api.domain.Error;
 import com.github.lake54.groupsio.api.domain.Login;
 import com.github.lake54.groupsio.api.domain.Page;
 import com.github.lake54.groupsio.api.exception.GroupsIOApiException;
+import com.github.lake54.groupsio.api.fanout.FanOut;
+import com.github.lake54.groupsio.api.fanout.FanOutResult;
+import com.github.lake54.groupsio.api.fanout.GroupOperation;
+import com.github.lake54.groupsio.api.metrics.CallTimings;
+import com.github.lake54.groupsio.api.metrics.MetricsListener;
+import com.github.lake54.groupsio.api.ratelimit.AdaptiveRateLimiter;
+import com.github.lake54.groupsio.api.retry.RetryPolicy;
 import com.github.lake54.groupsio.api.resource.ArchiveResource;
 import com.github.lake54.groupsio.api.resource.GroupResource;
 import com.github.lake54.groupsio.api.resource.MemberResource;
 import com.github.lake54.groupsio.api.resource.UserResource;
+import com.github.lake54.groupsio.api.transport.NetworkTimings;
+import com.github.lake54.groupsio.api.transport.OkHttpTransport;
+import com.github.lake54.groupsio.api.transport.Transport;
+import com.github.lake54.groupsio.api.transport.TransportRequest;
+import com.github.lake54.groupsio.api.transport.TransportResponse;
+import com.github.lake54.groupsio.api.transport.TransportSettings;
+import com.github.lake54.groupsio.api.util.Delays;
+import com.github.lake54.groupsio.api.util.JacksonCodec;
 import com.github.lake54.groupsio.api.util.JacksonUtils;
+import com.github.lake54.groupsio.api.util.StringPool;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Maps;
 import okhttp3.HttpUrl;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
-import okhttp3.Response;
-import okhttp3.ResponseBody;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.github.lake54.groupsio.api.domain.enums.error.ErrorType.rate_limit;
+import static com.github.lake54.groupsio.api.domain.enums.error.ErrorType.server;
 
 /**
  * Main interface with Groups.io.
@@ -43,7 +78,7 @@ import java.util.Map;
  * subscriptions.get(0).getGroupId();
  * </pre>
  */
-public class GroupsIOApiClient {
+public class GroupsIOApiClient implements AutoCloseable {
 
     /**
      * The default hostname to use when calling the API.
@@ -56,24 +91,64 @@ public class GroupsIOApiClient {
     private static final String DEFAULT_VERSION = "v1";
 
     /**
-     * A singleton client instance to use for all API calls.
+     * The API key use for authorization.
      */
-    private static final OkHttpClient CLIENT = new OkHttpClient();
+    private final String apiKey;
 
     /**
-     * A mapper instance to use for all JSON interactions.
+     * The generated API root host/path combination.
      */
-    private static final ObjectMapper MAPPER = JacksonUtils.createMapper();
+    private final HttpUrl apiRoot;
 
     /**
-     * The API key use for authorization.
+     * The transport used to send requests.
      */
-    private final String apiKey;
+    private final Transport transport;
 
     /**
-     * The generated API root host/path combination.
+     * Whether the transport was created by, and so belongs to, this client.
      */
-    private final HttpUrl apiRoot;
+    private final boolean ownsTransport;
+
+    /**
+     * The codec used to decode responses.
+     */
+    private final JacksonCodec codec;
+
+    /**
+     * The executor used to decode responses of asynchronous calls.
+     */
+    private final Executor executor;
+
+    /**
+     * The cache of permissions for the logged in user.
+     */
+    private final PermissionsCache permissionsCache;
+
+    /**
+     * The rate limiter shared by all calls, or null if calls are unlimited.
+     */
+    private final AdaptiveRateLimiter rateLimiter;
+
+    /**
+     * The policy used to retry failed calls, or null if calls are not retried.
+     */
+    private final RetryPolicy retryPolicy;
+
+    /**
+     * The registry used to share identical calls, or null if calls are never shared.
+     */
+    private final InFlightRequests inFlightRequests;
+
+    /**
+     * The listener notified of each call, to record metrics.
+     */
+    private final MetricsListener metricsListener;
+
+    /**
+     * The member directories kept up to date by this client, keyed by group.
+     */
+    private final ConcurrentMap<Integer, MemberDirectory> memberDirectories = new ConcurrentHashMap<>();
 
     /**
      * The API token retrieved after login.
@@ -101,13 +176,73 @@ public class GroupsIOApiClient {
      *      the API version (e.g. v1) to use.
      */
     public GroupsIOApiClient(@Nonnull String apiKey, @Nonnull String hostname, @Nonnull String version) {
-        Preconditions.checkNotNull(version);
-        Preconditions.checkNotNull(hostname);
-        this.apiKey = Preconditions.checkNotNull(apiKey);
-        this.apiRoot = HttpUrl.parse("https://" + hostname + "/" + version);
+        this(apiKey, hostname, version, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * More in-depth constructor to override the defaults, including the
+     * executor used when completing asynchronous calls.
+     *
+     * HTTP calls made asynchronously are dispatched by OkHttp, so the
+     * provided executor is only used to decode the responses; a small
+     * pool is therefore able to serve a large number of calls in flight.
+     *
+     * @param apiKey
+     *      TODO: Update with details once published.
+     * @param hostname
+     *      the base hostname (e.g. api.groups.io) to use.
+     * @param version
+     *      the API version (e.g. v1) to use.
+     * @param executor
+     *      the {@link Executor} used to complete asynchronous calls.
+     */
+    public GroupsIOApiClient(@Nonnull String apiKey, @Nonnull String hostname, @Nonnull String version, @Nonnull Executor executor) {
+        this(builder(apiKey).hostname(hostname).version(version).executor(executor));
+    }
+
+    /**
+     * Creates a client from a configured builder.
+     *
+     * @param builder
+     *      the {@link Builder} holding the client configuration.
+     */
+    private GroupsIOApiClient(@Nonnull Builder builder) {
+        this.apiKey = builder.apiKey;
+        this.executor = builder.executor;
+        this.ownsTransport = builder.transport == null;
+        this.transport = this.ownsTransport ? new OkHttpTransport(builder.transportSettings) : builder.transport;
+        this.codec = builder.stringPool == null ? JacksonCodec.shared() : new JacksonCodec(JacksonUtils.createMapper(builder.stringPool)).warm();
+        this.permissionsCache = builder.permissionsCache;
+        this.rateLimiter = builder.rateLimiter;
+        this.retryPolicy = builder.retryPolicy;
+        this.inFlightRequests = builder.coalesceRequests ? new InFlightRequests() : null;
+        this.metricsListener = builder.metricsListener;
+        this.apiRoot = builder.apiRoot != null
+            ? builder.apiRoot
+            : HttpUrl.parse("https://" + builder.hostname + "/" + builder.version);
         Preconditions.checkNotNull(this.apiRoot);
     }
 
+    /**
+     * Creates a builder to configure a client beyond the defaults.
+     *
+     * <pre>
+     * GroupsIOApiClient client = GroupsIOApiClient
+     *     .builder(apiKey)
+     *         .permissionsCache(new PermissionsCache(1, TimeUnit.MINUTES, 500))
+     *     .build();
+     * </pre>
+     *
+     * @param apiKey
+     *      TODO: Update with details once published.
+     * @return
+     *      a new {@link Builder} instance.
+     */
+    @Nonnull
+    public static Builder builder(@Nonnull String apiKey) {
+        return new Builder(apiKey);
+    }
+
     /**
      * Actions involving message archives.
      *
@@ -168,7 +303,7 @@ public class GroupsIOApiClient {
      */
     @Nonnull
     public <T> T call(GroupsIOApiRequest request, Class<T> type) throws GroupsIOApiException, IOException {
-        return call(request, JacksonUtils.generateType(typeFactory -> typeFactory.constructType(type)));
+        return call(request, this.codec.type(type));
     }
 
     /**
@@ -188,7 +323,7 @@ public class GroupsIOApiClient {
      */
     @Nonnull
     public <T> T call(GroupsIOApiRequest request, TypeReference<T> type) throws GroupsIOApiException, IOException {
-        return call(request, JacksonUtils.generateType(typeFactory -> typeFactory.constructType(type)));
+        return call(request, this.codec.type(type));
     }
 
     /**
@@ -208,49 +343,298 @@ public class GroupsIOApiClient {
      */
     @Nonnull
     public <T> T call(GroupsIOApiRequest request, JavaType type) throws GroupsIOApiException, IOException {
-        HttpUrl.Builder endpointBuilder = this.apiRoot.newBuilder()
-            .addPathSegment(request.path());
+        if (this.inFlightRequests != null && InFlightRequests.isShareable(request)) {
+            return this.inFlightRequests.call(request, this.apiToken, type, () -> callWithRetries(request, type));
+        }
+        return callWithRetries(request, type);
+    }
 
-        for (Map.Entry<String, List<String>> param : request.params().entrySet()) {
-            for (String value : param.getValue()) {
-                endpointBuilder.addQueryParameter(param.getKey(), value);
+    /**
+     * Makes a request, retrying it according to the retry policy.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of the expected response body.
+     * @return
+     *      a parsed response body as a T instance.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API.
+     */
+    private <T> T callWithRetries(GroupsIOApiRequest request, JavaType type) throws GroupsIOApiException, IOException {
+        if (this.retryPolicy == null || !request.idempotent()) {
+            return execute(request, type);
+        }
+
+        long start = System.nanoTime();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return execute(request, type);
+            } catch (GroupsIOApiException | IOException e) {
+                long delay = nextRetryDelay(e, attempt, start);
+
+                if (delay < 0) {
+                    throw e;
+                }
+
+                this.metricsListener.onRetry(request.path(), attempt);
+
+                try {
+                    TimeUnit.NANOSECONDS.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted waiting to retry");
+                }
             }
         }
+    }
+
+    /**
+     * Executes a single attempt of a request against the API.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of the expected response body.
+     * @return
+     *      a parsed response body as a T instance.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API.
+     */
+    private <T> T execute(GroupsIOApiRequest request, JavaType type) throws GroupsIOApiException, IOException {
+        if (this.rateLimiter != null) {
+            this.rateLimiter.acquire();
+        }
 
-        HttpUrl endpoint = endpointBuilder.build();
+        long start = System.nanoTime();
+
+        try (TransportResponse response = this.transport.execute(createTransportRequest(request))) {
+            if (!response.isSuccessful()) {
+                long bodyStart = System.nanoTime();
+                byte[] body = response.bytes();
+                return decode(request, response, body, type, start, System.nanoTime() - bodyStart);
+            }
 
-        Request.Builder requestBuilder = new Request.Builder()
-            .url(endpoint)
-            .method(request.method(), request.body().orElse(null));
+            // decoding reads the body as it arrives, so time spent blocked
+            // on the socket is counted as body transfer rather than decode
+            MeteredInputStream body = new MeteredInputStream(response.body());
+            long decodeStart = System.nanoTime();
+            T result = this.codec.read(body, type);
+            long end = System.nanoTime();
 
-        for (Map.Entry<String, String> header : request.headers().entrySet()) {
-            requestBuilder.header(header.getKey(), header.getValue());
+            responded(request, response, start, body.getCount(), body.getReadNanos(), end - decodeStart - body.getReadNanos(), end);
+            accepted();
+            return result;
+        } catch (IOException e) {
+            this.metricsListener.onFailure(request.path(), e);
+            throw e;
         }
+    }
 
-        if (!request.headers().containsKey("Authorization")) {
-            requestBuilder.header("Authorization", "Basic " + encodeBase64(this.apiToken + ":"));
+    /**
+     * Makes an asynchronous request to the groups.io API, based on the
+     * provided request instance.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of the expected response body.
+     * @return
+     *      a future completed with a parsed response body as a T instance.
+     */
+    @Nonnull
+    public <T> CompletableFuture<T> callAsync(GroupsIOApiRequest request, Class<T> type) {
+        return callAsync(request, this.codec.type(type));
+    }
+
+    /**
+     * Makes an asynchronous request to the groups.io API, based on the
+     * provided request instance.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of the expected response body.
+     * @return
+     *      a future completed with a parsed response body as a T instance.
+     */
+    @Nonnull
+    public <T> CompletableFuture<T> callAsync(GroupsIOApiRequest request, TypeReference<T> type) {
+        return callAsync(request, this.codec.type(type));
+    }
+
+    /**
+     * Makes an asynchronous request to the groups.io API, based on the
+     * provided request instance.
+     *
+     * The request is enqueued with OkHttp rather than executed on the
+     * calling thread, and the response is decoded on the executor this
+     * client was configured with. Failures complete the future with
+     * either a {@link GroupsIOApiException} or an {@link IOException}.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of the expected response body.
+     * @return
+     *      a future completed with a parsed response body as a T instance.
+     */
+    @Nonnull
+    public <T> CompletableFuture<T> callAsync(GroupsIOApiRequest request, JavaType type) {
+        if (this.inFlightRequests != null && InFlightRequests.isShareable(request)) {
+            return this.inFlightRequests.callAsync(request, this.apiToken, type, () -> callWithRetriesAsync(request, type));
+        }
+        return callWithRetriesAsync(request, type);
+    }
+
+    /**
+     * Makes an asynchronous request, retrying it according to the retry policy.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of the expected response body.
+     * @return
+     *      a future completed with a parsed response body as a T instance.
+     */
+    private <T> CompletableFuture<T> callWithRetriesAsync(GroupsIOApiRequest request, JavaType type) {
+        if (this.retryPolicy == null || !request.idempotent()) {
+            return executeAsync(request, type);
         }
 
-        Response response = CLIENT
-            .newCall(requestBuilder.build())
-            .execute();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        retryAsync(request, type, future, 1, System.nanoTime());
+        return future;
+    }
+
+    /**
+     * Executes an asynchronous attempt of a request, scheduling another
+     * attempt if it fails and the retry policy allows it.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of the expected response body.
+     * @param future
+     *      the future to complete with the final result.
+     * @param attempt
+     *      the number of this attempt, starting from one.
+     * @param start
+     *      the time the first attempt started.
+     */
+    private <T> void retryAsync(GroupsIOApiRequest request, JavaType type, CompletableFuture<T> future, int attempt, long start) {
+        this.<T>executeAsync(request, type).whenComplete((result, throwable) -> {
+            if (throwable == null) {
+                future.complete(result);
+                return;
+            }
+
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+
+            long delay = nextRetryDelay(cause, attempt, start);
+
+            if (delay < 0) {
+                future.completeExceptionally(cause);
+            } else {
+                this.metricsListener.onRetry(request.path(), attempt);
+                Delays.after(delay, TimeUnit.NANOSECONDS).thenRun(() -> retryAsync(request, type, future, attempt + 1, start));
+            }
+        });
+    }
+
+    /**
+     * Executes a single asynchronous attempt of a request against the API.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of the expected response body.
+     * @return
+     *      a future completed with a parsed response body as a T instance.
+     */
+    private <T> CompletableFuture<T> executeAsync(GroupsIOApiRequest request, JavaType type) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long wait = this.rateLimiter == null ? 0 : this.rateLimiter.reserve();
 
-        ResponseBody responseBody = response.body();
-        Preconditions.checkNotNull(responseBody);
+        if (wait > 0) {
+            Delays.after(wait, TimeUnit.NANOSECONDS).thenRun(() -> enqueue(request, type, future));
+        } else {
+            enqueue(request, type, future);
+        }
 
-//        byte[] bodyBytes = responseBody.bytes();
-//
-//        if (response.code() != 200) {
-//            throw createErrorException(bodyBytes);
-//        }
+        return future;
+    }
 
-        String bodyBytes = responseBody.string();
+    /**
+     * Sends a request with the transport, completing the provided future
+     * once the response has been decoded.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of the expected response body.
+     * @param future
+     *      the future to complete with the result.
+     */
+    private <T> void enqueue(GroupsIOApiRequest request, JavaType type, CompletableFuture<T> future) {
+        long start = System.nanoTime();
+        CompletableFuture<TransportResponse> sent;
 
         try {
-            return MAPPER.readValue(bodyBytes, type);
-        } catch (IOException e) {
-            throw createErrorException(bodyBytes.getBytes());
+            sent = this.transport.executeAsync(createTransportRequest(request));
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            return;
         }
+
+        sent.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable;
+
+                if (cause instanceof IOException) {
+                    this.metricsListener.onFailure(request.path(), (IOException) cause);
+                }
+                future.completeExceptionally(cause);
+                return;
+            }
+
+            long bodyStart = System.nanoTime();
+            byte[] body;
+
+            try (TransportResponse closing = response) {
+                body = closing.bytes();
+            } catch (IOException e) {
+                this.metricsListener.onFailure(request.path(), e);
+                future.completeExceptionally(e);
+                return;
+            }
+
+            long bodyNanos = System.nanoTime() - bodyStart;
+
+            try {
+                this.executor.execute(() -> {
+                    try {
+                        future.complete(decode(request, response, body, type, start, bodyNanos));
+                    } catch (GroupsIOApiException e) {
+                        future.completeExceptionally(e);
+                    } catch (IOException e) {
+                        this.metricsListener.onFailure(request.path(), e);
+                        future.completeExceptionally(e);
+                    }
+                });
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
     }
 
     /**
@@ -263,6 +647,59 @@ public class GroupsIOApiClient {
         return this.apiKey;
     }
 
+    /**
+     * Returns the rate limiter shared by all calls of this client.
+     *
+     * @return the {@link AdaptiveRateLimiter}, or null if calls are unlimited.
+     */
+    @Nullable
+    public AdaptiveRateLimiter getRateLimiter() {
+        return this.rateLimiter;
+    }
+
+    /**
+     * Returns the policy used to retry failed calls of this client.
+     *
+     * @return the {@link RetryPolicy}, or null if calls are not retried.
+     */
+    @Nullable
+    public RetryPolicy getRetryPolicy() {
+        return this.retryPolicy;
+    }
+
+    /**
+     * Returns the member directory registered for a group.
+     *
+     * @param groupId
+     *      the group identifier to lookup.
+     * @return the {@link MemberDirectory}, or null if none is registered.
+     */
+    @Nullable
+    public MemberDirectory getMemberDirectory(int groupId) {
+        return this.memberDirectories.get(groupId);
+    }
+
+    /**
+     * Registers a member directory, so that changes to members of its group
+     * made through this client are written through to it.
+     *
+     * @param directory
+     *      the {@link MemberDirectory} to register.
+     */
+    public void registerMemberDirectory(@Nonnull MemberDirectory directory) {
+        this.memberDirectories.put(directory.getGroupId(), directory);
+    }
+
+    /**
+     * Stops writing changes through to the directory of a group.
+     *
+     * @param groupId
+     *      the group identifier to unregister.
+     */
+    public void unregisterMemberDirectory(int groupId) {
+        this.memberDirectories.remove(groupId);
+    }
+
     /**
      * Returns the API token configured inside this client.
      *
@@ -281,6 +718,39 @@ public class GroupsIOApiClient {
         return this.apiRoot;
     }
 
+    /**
+     * Returns the listener notified of each call made by this client.
+     *
+     * @return the {@link MetricsListener} used by this client.
+     */
+    @Nonnull
+    public MetricsListener getMetricsListener() {
+        return this.metricsListener;
+    }
+
+    /**
+     * Releases the connections and threads of the transport created by
+     * this client. Calls already in flight are allowed to complete, but no
+     * further calls can be made asynchronously. A transport provided to
+     * the builder is left open, as it may be shared.
+     */
+    @Override
+    public void close() {
+        if (this.ownsTransport) {
+            this.transport.close();
+        }
+    }
+
+    /**
+     * Returns the cache of permissions for the logged in user.
+     *
+     * @return the {@link PermissionsCache} used by this client.
+     */
+    @Nonnull
+    public PermissionsCache getPermissionsCache() {
+        return this.permissionsCache;
+    }
+
     /**
      * Carries out initial login call to the remote API.
      *
@@ -328,6 +798,7 @@ public class GroupsIOApiClient {
 
         GroupsIOApiRequest request = requestBuilder.build();
         this.apiToken = call(request, Login.class).token();
+        this.permissionsCache.invalidateAll();
     }
 
     /**
@@ -347,7 +818,7 @@ public class GroupsIOApiClient {
      */
     @Nonnull
     public <T> List<T> paginate(GroupsIOApiRequest request, Class<T> type) throws GroupsIOApiException, IOException {
-        return paginate(request, JacksonUtils.generateType(typeFactory -> typeFactory.constructType(type)));
+        return paginate(request, this.codec.type(type));
     }
 
     /**
@@ -367,7 +838,7 @@ public class GroupsIOApiClient {
      */
     @Nonnull
     public <T> List<T> paginate(GroupsIOApiRequest request, TypeReference<T> type) throws GroupsIOApiException, IOException {
-        return paginate(request, JacksonUtils.generateType(typeFactory -> typeFactory.constructType(type)));
+        return paginate(request, this.codec.type(type));
     }
 
     /**
@@ -387,38 +858,847 @@ public class GroupsIOApiClient {
      */
     @Nonnull
     public <T> List<T> paginate(GroupsIOApiRequest request, JavaType type) throws GroupsIOApiException, IOException {
-        Page<T> page = this.call(request, type);
         List<T> results = new ArrayList<>();
-        results.addAll(page.data());
-
-        while (page.hasMore()) {
-            request = new GroupsIOApiRequest.Builder()
-                .from(request)
-                    .putParam("page_token", "" + page.nextPageToken())
-                .build();
-
-            page = this.call(request, type);
-            results.addAll(page.data());
-        }
-
+        this.<T>paginate(request, type, results::add);
         return results;
     }
 
     /**
-     * Given an error response, return an {@link Error} object.
+     * Paginates through a request, passing each object to a consumer
+     * as each page arrives rather than buffering them.
      *
-     * @param bytes
-     *      from a previously completed API request.
-     * @return
-     *      an {@link Error} representing the APIs response.
-     * @throws IOException
-     *      on any errors reading the bytes as an error.
-     */
-    private GroupsIOApiException createErrorException(byte[] bytes) throws IOException {
-        return new GroupsIOApiException(MAPPER.readValue(bytes, Error.class));
-    }
-
+     * This allows results to be collected into a more compact structure
+     * than a {@link List}, such as a {@code SubscriptionTable}.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of each page in the response.
+     * @param consumer
+     *      the consumer to receive each object.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API.
+     */
+    public <T> void paginate(GroupsIOApiRequest request, JavaType type, Consumer<? super T> consumer) throws GroupsIOApiException, IOException {
+        Page<T> page = this.call(request, type);
+        page.data().forEach(consumer);
+        int pages = 1;
+
+        while (page.hasMore()) {
+            request = createNextPageRequest(request, page);
+            page = this.call(request, type);
+            page.data().forEach(consumer);
+            pages++;
+        }
+
+        this.metricsListener.onPaginate(request.path(), pages);
+    }
+
+    /**
+     * Lazily paginates through a request, one page at a time.
+     *
+     * Each page is only requested once the previous page has been
+     * consumed, so no more than a single page is held in memory.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of each page in the response.
+     * @return
+     *      a {@link PageIterator} over the pages of the response.
+     */
+    @Nonnull
+    public <T> PageIterator<T> pages(GroupsIOApiRequest request, JavaType type) {
+        return new PageIterator<>(this, request, type);
+    }
+
+    /**
+     * Paginates through a request, fetching pages in the background ahead
+     * of the caller.
+     *
+     * While the caller works on one page, up to {@code depth} following
+     * pages are requested and decoded, so the time spent processing each
+     * page overlaps with the time spent waiting for the next.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of each page in the response.
+     * @param depth
+     *      the maximum number of pages to buffer ahead of the caller.
+     * @return
+     *      a {@link PrefetchingPageIterator} over the pages of the response.
+     */
+    @Nonnull
+    public <T> PrefetchingPageIterator<T> pages(GroupsIOApiRequest request, JavaType type, int depth) {
+        return new PrefetchingPageIterator<>(this, request, type, depth);
+    }
+
+    /**
+     * Paginates through a request asynchronously, one page at a time.
+     *
+     * Each page is only requested when asked for, and no thread is held
+     * while waiting for the API.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of each page in the response.
+     * @return
+     *      an {@link AsyncPageIterator} over the pages of the response.
+     */
+    @Nonnull
+    public <T> AsyncPageIterator<T> pagesAsync(GroupsIOApiRequest request, JavaType type) {
+        return new AsyncPageIterator<>(this, request, type, null);
+    }
+
+    /**
+     * Paginates through a request asynchronously, one page at a time,
+     * after a check such as a permissions check has passed.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of each page in the response.
+     * @param precondition
+     *      a check to complete before the first page is requested; if it
+     *      fails, so does the request for the first page.
+     * @return
+     *      an {@link AsyncPageIterator} over the pages of the response.
+     */
+    @Nonnull
+    public <T> AsyncPageIterator<T> pagesAsync(GroupsIOApiRequest request, JavaType type, @Nonnull Supplier<? extends CompletableFuture<?>> precondition) {
+        return new AsyncPageIterator<>(this, request, type, Preconditions.checkNotNull(precondition));
+    }
+
+    /**
+     * Lazily paginates through a request, one item at a time.
+     *
+     * Pages are requested as the iterator reaches them, and any errors are
+     * rethrown unchecked as described in {@link PageIterator}.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of each page in the response.
+     * @return
+     *      an {@link Iterator} over the items of the response.
+     */
+    @Nonnull
+    public <T> Iterator<T> iterate(GroupsIOApiRequest request, JavaType type) {
+        return Iterators.concat(Iterators.transform(this.<T>pages(request, type), page -> page.data().iterator()));
+    }
+
+    /**
+     * Lazily paginates through a request as a sequential {@link Stream}.
+     *
+     * Pages are requested as the stream reaches them, so processing can
+     * begin as soon as the first page has arrived.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of each page in the response.
+     * @return
+     *      a {@link Stream} over the items of the response.
+     */
+    @Nonnull
+    public <T> Stream<T> stream(GroupsIOApiRequest request, JavaType type) {
+        return toStream(iterate(request, type));
+    }
+
+    /**
+     * Paginates through a request as a sequential {@link Stream}, fetching
+     * pages in the background ahead of the stream.
+     *
+     * Closing the stream stops any further pages from being fetched.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of each page in the response.
+     * @param depth
+     *      the maximum number of pages to buffer ahead of the stream.
+     * @return
+     *      a {@link Stream} over the items of the response.
+     */
+    @Nonnull
+    public <T> Stream<T> stream(GroupsIOApiRequest request, JavaType type, int depth) {
+        PrefetchingPageIterator<T> pages = pages(request, type, depth);
+        return this.<T>toStream(Iterators.concat(Iterators.transform(pages, page -> page.data().iterator())))
+            .onClose(pages::close);
+    }
+
+    /**
+     * Asynchronously paginates through a request, buffering all objects
+     * into the defined type before completing.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of the expected response body.
+     * @return
+     *      a future completed with a collection of T instances.
+     */
+    @Nonnull
+    public <T> CompletableFuture<List<T>> paginateAsync(GroupsIOApiRequest request, Class<T> type) {
+        return paginateAsync(request, this.codec.type(type));
+    }
+
+    /**
+     * Asynchronously paginates through a request, buffering all objects
+     * into the defined type before completing.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of the expected response body.
+     * @return
+     *      a future completed with a collection of T instances.
+     */
+    @Nonnull
+    public <T> CompletableFuture<List<T>> paginateAsync(GroupsIOApiRequest request, TypeReference<T> type) {
+        return paginateAsync(request, this.codec.type(type));
+    }
+
+    /**
+     * Asynchronously paginates through a request, buffering all objects
+     * into the defined type before completing.
+     *
+     * Pages are still requested one after another, as each request relies
+     * on the token returned by the previous page, but no thread is held
+     * while waiting for the API to respond.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of the expected response body.
+     * @return
+     *      a future completed with a collection of T instances.
+     */
+    @Nonnull
+    public <T> CompletableFuture<List<T>> paginateAsync(GroupsIOApiRequest request, JavaType type) {
+        return paginateAsync(request, type, new ArrayList<>(), 1);
+    }
+
+    /**
+     * Recursively requests pages, appending each page to the results.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @param type
+     *      the type of the expected response body.
+     * @param results
+     *      the results collected so far.
+     * @param pages
+     *      the number of the page being requested, starting from one.
+     * @return
+     *      a future completed with a collection of T instances.
+     */
+    private <T> CompletableFuture<List<T>> paginateAsync(GroupsIOApiRequest request, JavaType type, List<T> results, int pages) {
+        return this.<Page<T>>callAsync(request, type).thenCompose(page -> {
+            results.addAll(page.data());
+
+            if (!page.hasMore()) {
+                this.metricsListener.onPaginate(request.path(), pages);
+                return CompletableFuture.completedFuture(results);
+            }
+
+            return paginateAsync(createNextPageRequest(request, page), type, results, pages + 1);
+        });
+    }
+
+    /**
+     * Wraps an iterator as a sequential, ordered {@link Stream}.
+     *
+     * @param iterator
+     *      the iterator to wrap.
+     * @return
+     *      a {@link Stream} over the iterator.
+     */
+    private <T> Stream<T> toStream(Iterator<T> iterator) {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Runs an operation for every provided group concurrently, collecting
+     * the result or failure of each, with up to {@link FanOut#DEFAULT_CONCURRENCY}
+     * operations running at once.
+     *
+     * @param groupIds
+     *      the group identifiers to run the operation for.
+     * @param operation
+     *      the operation to run for each group.
+     * @return
+     *      a {@link FanOutResult} holding the outcome for each group.
+     * @throws InterruptedIOException
+     *      if interrupted while waiting for the operations.
+     */
+    @Nonnull
+    public <T> FanOutResult<T> forEachGroup(@Nonnull Collection<Integer> groupIds, @Nonnull GroupOperation<T> operation) throws InterruptedIOException {
+        return forEachGroup(groupIds, FanOut.DEFAULT_CONCURRENCY, operation);
+    }
+
+    /**
+     * Runs an operation for every provided group concurrently, collecting
+     * the result or failure of each.
+     *
+     * <pre>
+     * FanOutResult&lt;List&lt;Subscription&gt;&gt; members = client.forEachGroup(groupIds, 64, client.member()::getMembersInGroup);
+     * </pre>
+     *
+     * Operations run on virtual threads on Java 21 and later, and on a
+     * bounded pool of platform threads otherwise. See {@link FanOut}.
+     *
+     * @param groupIds
+     *      the group identifiers to run the operation for.
+     * @param concurrency
+     *      the maximum number of operations to run at once.
+     * @param operation
+     *      the operation to run for each group.
+     * @return
+     *      a {@link FanOutResult} holding the outcome for each group.
+     * @throws InterruptedIOException
+     *      if interrupted while waiting for the operations.
+     */
+    @Nonnull
+    public <T> FanOutResult<T> forEachGroup(@Nonnull Collection<Integer> groupIds, int concurrency, @Nonnull GroupOperation<T> operation) throws InterruptedIOException {
+        return FanOut.run(groupIds, concurrency, operation);
+    }
+
+    /**
+     * Creates a request for the page following the provided page.
+     *
+     * @param request
+     *      the request used to retrieve the provided page.
+     * @param page
+     *      the most recently retrieved page.
+     * @return
+     *      a new {@link GroupsIOApiRequest} for the next page.
+     */
+    static GroupsIOApiRequest createNextPageRequest(GroupsIOApiRequest request, Page<?> page) {
+        return new GroupsIOApiRequest.Builder()
+            .from(request)
+                .params(Maps.filterKeys(request.params(), key -> !"page_token".equals(key)))
+                .putParam("page_token", "" + page.nextPageToken())
+            .build();
+    }
+
+    /**
+     * Converts an API request into an OkHttp {@link Request}, resolving
+     * the URL and authorization header exactly as a call would.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @return
+     *      a {@link Request} ready to be executed.
+     */
+    @Nonnull
+    Request createHttpRequest(GroupsIOApiRequest request) {
+        return OkHttpTransport.createHttpRequest(createTransportRequest(request));
+    }
+
+    /**
+     * Converts an API request into a {@link TransportRequest}, resolving
+     * the URL and authorization header of the call. The request is timed
+     * if a metrics listener is configured.
+     *
+     * @param request
+     *      the request meta info to use for calls to the API.
+     * @return
+     *      a {@link TransportRequest} ready to be sent.
+     */
+    @Nonnull
+    TransportRequest createTransportRequest(GroupsIOApiRequest request) {
+        HttpUrl.Builder endpointBuilder = this.apiRoot.newBuilder()
+            .addPathSegment(request.path());
+
+        for (Map.Entry<String, List<String>> param : request.params().entrySet()) {
+            for (String value : param.getValue()) {
+                endpointBuilder.addQueryParameter(param.getKey(), value);
+            }
+        }
+
+        TransportRequest.Builder requestBuilder = TransportRequest.builder()
+            .request(request)
+            .url(endpointBuilder.build())
+            .headers(request.headers())
+            .timed(this.metricsListener != MetricsListener.NONE);
+
+        if (!request.headers().containsKey("Authorization")) {
+            requestBuilder.putHeaders("Authorization", "Basic " + encodeBase64(this.apiToken + ":"));
+        }
+
+        return requestBuilder.build();
+    }
+
+    /**
+     * Decodes a buffered response body into the provided type, feeding the
+     * outcome back to the rate limiter and metrics listener.
+     *
+     * @param request
+     *      the request meta info used for the call.
+     * @param response
+     *      the completed HTTP response.
+     * @param body
+     *      the response body of a completed API request.
+     * @param type
+     *      the type of the expected response body.
+     * @param start
+     *      the time the request was sent.
+     * @param bodyNanos
+     *      the time spent reading the response body.
+     * @return
+     *      a parsed response body as a T instance.
+     * @throws GroupsIOApiException
+     *      if the body represents an API error.
+     * @throws IOException
+     *      on any errors reading the body.
+     */
+    private <T> T decode(GroupsIOApiRequest request, TransportResponse response, byte[] body, JavaType type,
+                         long start, long bodyNanos) throws GroupsIOApiException, IOException {
+        if (!response.isSuccessful()) {
+            responded(request, response, start, body.length, bodyNanos, 0, System.nanoTime());
+            throw rejected(request, response, body);
+        }
+
+        long decodeStart = System.nanoTime();
+        T result = this.codec.read(body, type);
+        long end = System.nanoTime();
+
+        responded(request, response, start, body.length, bodyNanos, end - decodeStart, end);
+        accepted();
+        return result;
+    }
+
+    /**
+     * Reports a response to the metrics listener, along with the timings
+     * of the call if the transport measured them.
+     *
+     * @param request
+     *      the request meta info used for the call.
+     * @param response
+     *      the completed HTTP response.
+     * @param start
+     *      the time the request was sent.
+     * @param bytes
+     *      the size of the response body.
+     * @param bodyNanos
+     *      the time spent reading the response body.
+     * @param decodeNanos
+     *      the time spent decoding the response body.
+     * @param end
+     *      the time the response was decoded.
+     */
+    private void responded(GroupsIOApiRequest request, TransportResponse response,
+                           long start, long bytes, long bodyNanos, long decodeNanos, long end) {
+        this.metricsListener.onResponse(request.path(), response.code(), end - start, bytes, decodeNanos);
+
+        NetworkTimings network = response.timings();
+
+        if (network == null) {
+            return;
+        }
+
+        this.metricsListener.onTimings(CallTimings
+            .builder()
+                .path(request.path())
+                .status(response.code())
+                .connectionReused(network.connectionReused())
+                .dnsNanos(network.dnsNanos())
+                .connectNanos(network.connectNanos())
+                .tlsNanos(network.tlsNanos())
+                .requestNanos(network.requestNanos())
+                .timeToFirstByteNanos(network.timeToFirstByteNanos())
+                .bodyTransferNanos(bodyNanos)
+                .decodeNanos(decodeNanos)
+                .totalNanos(end - start)
+            .build());
+    }
+
+    /**
+     * Records a successful response with the rate limiter, if one is configured.
+     */
+    private void accepted() {
+        if (this.rateLimiter != null) {
+            this.rateLimiter.onSuccess();
+        }
+    }
+
+    /**
+     * Creates the exception for an unsuccessful response, feeding any
+     * rate limit back to the rate limiter if one is configured.
+     *
+     * @param request
+     *      the request meta info used for the call.
+     * @param response
+     *      the completed HTTP response.
+     * @param body
+     *      the response body of the completed API request.
+     * @return
+     *      a {@link GroupsIOApiException} representing the API's response.
+     * @throws IOException
+     *      if the body is not an API error.
+     */
+    private GroupsIOApiException rejected(GroupsIOApiRequest request, TransportResponse response, byte[] body) throws IOException {
+        GroupsIOApiException exception = createErrorException(response, body);
+        this.metricsListener.onError(request.path(), exception.getErrorType());
+
+        if (this.rateLimiter != null && exception.getErrorType() == rate_limit) {
+            this.rateLimiter.onRateLimited(parseRetryAfter(response));
+        }
+
+        return exception;
+    }
+
+    /**
+     * Returns the delay before retrying a failed attempt, or a negative
+     * value if the failure should not be retried.
+     *
+     * @param throwable
+     *      the failure of the attempt.
+     * @param attempt
+     *      the number of attempts made so far.
+     * @param start
+     *      the time the first attempt started.
+     * @return
+     *      the delay in nanoseconds, or a negative value to give up.
+     */
+    private long nextRetryDelay(Throwable throwable, int attempt, long start) {
+        if (!this.retryPolicy.isRetryable(throwable)) {
+            return -1;
+        }
+        return this.retryPolicy.nextDelayNanos(attempt, System.nanoTime() - start);
+    }
+
+    /**
+     * Reads the Retry-After header of a response, if it is present and
+     * expressed in seconds.
+     *
+     * @param response
+     *      the completed HTTP response.
+     * @return
+     *      the hinted delay in nanoseconds, or zero if there is no hint.
+     */
+    private static long parseRetryAfter(TransportResponse response) {
+        String retryAfter = response.header("Retry-After");
+
+        if (retryAfter == null) {
+            return 0;
+        }
+
+        try {
+            return TimeUnit.SECONDS.toNanos(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Given an error response, return an {@link Error} object.
+     *
+     * @param response
+     *      the completed HTTP response.
+     * @param bytes
+     *      from a previously completed API request.
+     * @return
+     *      an {@link Error} representing the APIs response.
+     * @throws IOException
+     *      on any errors reading the bytes as an error.
+     */
+    private GroupsIOApiException createErrorException(TransportResponse response, byte[] bytes) throws IOException {
+        try {
+            return new GroupsIOApiException(this.codec.<Error>read(bytes, this.codec.type(Error.class)));
+        } catch (IOException e) {
+            if (response.code() == 429) {
+                return new GroupsIOApiException(rate_limit);
+            }
+            if (response.code() >= 500) {
+                return new GroupsIOApiException(server);
+            }
+            throw new IOException("Unexpected response: HTTP " + response.code(), e);
+        }
+    }
+
     private static String encodeBase64(String value) {
         return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
     }
+
+    /**
+     * Builder used to configure a {@link GroupsIOApiClient}.
+     */
+    public static class Builder {
+
+        /**
+         * The API key use for authorization.
+         */
+        private final String apiKey;
+
+        /**
+         * The base hostname to use when calling the API.
+         */
+        private String hostname = DEFAULT_HOSTNAME;
+
+        /**
+         * The version tag to use for calls to the API.
+         */
+        private String version = DEFAULT_VERSION;
+
+        /**
+         * The full API root, overriding the hostname and version if set.
+         */
+        private HttpUrl apiRoot;
+
+        /**
+         * The executor used to decode responses of asynchronous calls.
+         */
+        private Executor executor = ForkJoinPool.commonPool();
+
+        /**
+         * The cache of permissions for the logged in user.
+         */
+        private PermissionsCache permissionsCache = new PermissionsCache();
+
+        /**
+         * The rate limiter shared by all calls, or null if calls are unlimited.
+         */
+        private AdaptiveRateLimiter rateLimiter;
+
+        /**
+         * The policy used to retry failed calls, or null if calls are not retried.
+         */
+        private RetryPolicy retryPolicy;
+
+        /**
+         * Whether concurrent identical calls should share a single call.
+         */
+        private boolean coalesceRequests;
+
+        /**
+         * The pool used to deduplicate strings, or null if strings are not pooled.
+         */
+        private StringPool stringPool;
+
+        /**
+         * The listener notified of each call.
+         */
+        private MetricsListener metricsListener = MetricsListener.NONE;
+
+        /**
+         * The settings of the HTTP transport owned by the client.
+         */
+        private TransportSettings transportSettings = TransportSettings.defaults();
+
+        /**
+         * The transport used to send requests, or null to create one.
+         */
+        private Transport transport;
+
+        /**
+         * Creates a new builder for the provided API key.
+         *
+         * @param apiKey
+         *      TODO: Update with details once published.
+         */
+        Builder(@Nonnull String apiKey) {
+            this.apiKey = Preconditions.checkNotNull(apiKey);
+        }
+
+        /**
+         * Sets the base hostname (e.g. api.groups.io) to use.
+         *
+         * @param hostname
+         *      the base hostname to use.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        public Builder hostname(@Nonnull String hostname) {
+            this.hostname = Preconditions.checkNotNull(hostname);
+            return this;
+        }
+
+        /**
+         * Sets the API version (e.g. v1) to use.
+         *
+         * @param version
+         *      the API version to use.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        public Builder version(@Nonnull String version) {
+            this.version = Preconditions.checkNotNull(version);
+            return this;
+        }
+
+        /**
+         * Sets the full root URL of the API, overriding the hostname and
+         * version. This allows pointing the client at a local or proxied
+         * server, including over plain HTTP.
+         *
+         * @param apiRoot
+         *      the root URL of the API, such as {@code http://localhost:8080/v1}.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        public Builder apiRoot(@Nonnull HttpUrl apiRoot) {
+            this.apiRoot = Preconditions.checkNotNull(apiRoot);
+            return this;
+        }
+
+        /**
+         * Sets the executor used to complete asynchronous calls.
+         *
+         * @param executor
+         *      the {@link Executor} to use.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        public Builder executor(@Nonnull Executor executor) {
+            this.executor = Preconditions.checkNotNull(executor);
+            return this;
+        }
+
+        /**
+         * Sets the cache used to hold permissions for the logged in user.
+         *
+         * @param permissionsCache
+         *      the {@link PermissionsCache} to use.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        public Builder permissionsCache(@Nonnull PermissionsCache permissionsCache) {
+            this.permissionsCache = Preconditions.checkNotNull(permissionsCache);
+            return this;
+        }
+
+        /**
+         * Sets a rate limiter to be shared by all calls made by the client.
+         *
+         * By default calls are not limited on the client side.
+         *
+         * @param rateLimiter
+         *      the {@link AdaptiveRateLimiter} to use.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        public Builder rateLimiter(@Nonnull AdaptiveRateLimiter rateLimiter) {
+            this.rateLimiter = Preconditions.checkNotNull(rateLimiter);
+            return this;
+        }
+
+        /**
+         * Sets the policy used to retry idempotent calls which fail with a
+         * transient error.
+         *
+         * By default calls are not retried.
+         *
+         * @param retryPolicy
+         *      the {@link RetryPolicy} to use.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        public Builder retryPolicy(@Nonnull RetryPolicy retryPolicy) {
+            this.retryPolicy = Preconditions.checkNotNull(retryPolicy);
+            return this;
+        }
+
+        /**
+         * Sets whether concurrent identical calls should share a single call.
+         *
+         * When enabled, an idempotent request without a body which is made
+         * while an identical request (same method, path, params, headers,
+         * token and response type) is already in flight will not be sent,
+         * and will instead receive the result of the call in flight.
+         *
+         * @param coalesceRequests
+         *      true to share identical calls.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        public Builder coalesceRequests(boolean coalesceRequests) {
+            this.coalesceRequests = coalesceRequests;
+            return this;
+        }
+
+        /**
+         * Sets a pool used to deduplicate low-cardinality string fields
+         * (timezones, locations, websites and the like) of decoded members,
+         * users and groups. This reduces the memory held by large numbers
+         * of decoded objects, at a small cost per decoded field.
+         *
+         * @param stringPool
+         *      the {@link StringPool} to intern strings into.
+         * @return
+         *      the same {@link Builder} for chaining.
+         */
+        public Builder stringPool(@Nonnull StringPool stringPool) {
+            this.stringPool = Preconditions.checkNotNull(stringPool);
+            return this;
+        }
+
+        /**
+         * Sets a listener notified of every call made by the client, such
+         * as an {@link com.github.lake54.groupsio.api.metrics.InMemoryMetrics},
+         * to record per-path latencies, response sizes, errors and retries.
+         *
+         * @param metricsListener
+         *      the {@link MetricsListener} to notify.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        public Builder metricsListener(@Nonnull MetricsListener metricsListener) {
+            this.metricsListener = Preconditions.checkNotNull(metricsListener);
+            return this;
+        }
+
+        /**
+         * Sets the settings of the HTTP transport owned by the client, such
+         * as its connection pool size, request limits, timeouts, HTTP/2
+         * preference and DNS caching.
+         *
+         * Every client gets a transport of its own, so that clients never
+         * share connections; {@link TransportSettings#defaults()} is used
+         * unless set. This is ignored if a {@link Transport} is provided.
+         *
+         * @param transportSettings
+         *      the {@link TransportSettings} to use.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        public Builder transport(@Nonnull TransportSettings transportSettings) {
+            this.transportSettings = Preconditions.checkNotNull(transportSettings);
+            return this;
+        }
+
+        /**
+         * Sets the transport used to send requests, replacing the OkHttp
+         * transport created by default, such as one created by
+         * {@link com.github.lake54.groupsio.api.transport.Transports}.
+         *
+         * The transport is not closed along with the client, so it may be
+         * shared between clients.
+         *
+         * @param transport
+         *      the {@link Transport} to use.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        public Builder transport(@Nonnull Transport transport) {
+            this.transport = Preconditions.checkNotNull(transport);
+            return this;
+        }
+
+        /**
+         * Constructs a new {@link GroupsIOApiClient} from this builder.
+         *
+         * @return
+         *      a new {@link GroupsIOApiClient} instance.
+         */
+        public GroupsIOApiClient build() {
+            return new GroupsIOApiClient(this);
+        }
+    }
 }
@@ -65,6 +65,20 @@ public abstract class GroupsIOApiRequest {
      */
     public abstract Optional<RequestBody> body();
 
+    /**
+     * Returns whether the request can safely be repeated.
+     *
+     * By default only requests reading data (those against the get and
+     * search endpoints, and login) are treated as idempotent. Only
+     * idempotent requests are retried after a transient failure.
+     *
+     * @return true if the request is idempotent.
+     */
+    @Value.Default
+    public boolean idempotent() {
+        return path().startsWith("get") || path().startsWith("search") || path().equals("login");
+    }
+
     /**
      * Returns a builder from the provided method and path.
      *
@@ -96,6 +110,16 @@ public abstract class GroupsIOApiRequest {
          */
         RequestBuilder body(RequestBody body);
 
+        /**
+         * Sets whether the request can safely be repeated.
+         *
+         * @param idempotent
+         *      true if the request is idempotent.
+         * @return
+         *      this {@link RequestBuilder} instance.
+         */
+        RequestBuilder idempotent(boolean idempotent);
+
         /**
          * Sets the method for the request.
          *
@@ -0,0 +1,224 @@
+package com.github.lake54.groupsio.api;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.github.lake54.groupsio.api.exception.GroupsIOApiException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the calls currently in flight for a client, used to share a
+ * single call between concurrent identical requests.
+ *
+ * Requests are considered identical when they have the same method, path,
+ * params and headers, are made with the same API token and are decoded
+ * into the same type. Requests with a body are never shared. The first
+ * caller of a request makes the call, and any caller arriving while it is
+ * in flight receives the same decoded result (or failure).
+ */
+class InFlightRequests {
+
+    /**
+     * Functional interface for a blocking call made by the first caller.
+     *
+     * @param <T>
+     *      the type of the decoded result.
+     */
+    interface Call<T> {
+
+        /**
+         * Executes the call.
+         *
+         * @return the decoded result.
+         * @throws GroupsIOApiException
+         *      on any errors dealing with data.
+         * @throws IOException
+         *      on any errors calling the API.
+         */
+        T execute() throws GroupsIOApiException, IOException;
+    }
+
+    /**
+     * The calls currently in flight, keyed by request.
+     */
+    private final ConcurrentMap<Key, CompletableFuture<Object>> calls = new ConcurrentHashMap<>();
+
+    /**
+     * Returns whether a request is eligible to be shared.
+     *
+     * @param request
+     *      the request to check.
+     * @return
+     *      true if the request may be shared.
+     */
+    static boolean isShareable(GroupsIOApiRequest request) {
+        return request.idempotent() && !request.body().isPresent();
+    }
+
+    /**
+     * Makes a blocking call, or waits on an identical call already in flight.
+     *
+     * @param request
+     *      the request being made.
+     * @param token
+     *      the API token the request is made with.
+     * @param type
+     *      the type of the decoded result.
+     * @param call
+     *      the call to make if no identical call is in flight.
+     * @return
+     *      the decoded result.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T call(GroupsIOApiRequest request, String token, JavaType type, Call<T> call) throws GroupsIOApiException, IOException {
+        Key key = new Key(request, token, type);
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = this.calls.putIfAbsent(key, created);
+
+        if (existing != null) {
+            return (T) await(existing);
+        }
+
+        try {
+            T result = call.execute();
+            created.complete(result);
+            return result;
+        } catch (Throwable t) {
+            created.completeExceptionally(t);
+            throw t;
+        } finally {
+            this.calls.remove(key, created);
+        }
+    }
+
+    /**
+     * Makes an asynchronous call, or joins an identical call already in flight.
+     *
+     * @param request
+     *      the request being made.
+     * @param token
+     *      the API token the request is made with.
+     * @param type
+     *      the type of the decoded result.
+     * @param call
+     *      the call to make if no identical call is in flight.
+     * @return
+     *      a future completed with the decoded result.
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> callAsync(GroupsIOApiRequest request, String token, JavaType type, Supplier<CompletableFuture<T>> call) {
+        Key key = new Key(request, token, type);
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = this.calls.putIfAbsent(key, created);
+
+        if (existing != null) {
+            return existing.thenApply(result -> (T) result);
+        }
+
+        CompletableFuture<T> future;
+
+        try {
+            future = call.get();
+        } catch (Throwable t) {
+            created.completeExceptionally(t);
+            this.calls.remove(key, created);
+            throw t;
+        }
+
+        future.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                created.completeExceptionally(throwable);
+            } else {
+                created.complete(result);
+            }
+
+            this.calls.remove(key, created);
+        });
+
+        return created.thenApply(result -> (T) result);
+    }
+
+    /**
+     * Waits for a shared call, rethrowing its failure in checked form.
+     *
+     * @param future
+     *      the shared call to wait for.
+     * @return
+     *      the decoded result.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API.
+     */
+    private static Object await(CompletableFuture<Object> future) throws GroupsIOApiException, IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for shared call");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof GroupsIOApiException) {
+                throw (GroupsIOApiException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Key identifying identical requests.
+     */
+    private static final class Key {
+
+        private final GroupsIOApiRequest request;
+
+        private final String token;
+
+        private final JavaType type;
+
+        Key(GroupsIOApiRequest request, String token, JavaType type) {
+            this.request = request;
+            this.token = token;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return this.request.equals(key.request)
+                && Objects.equals(this.token, key.token)
+                && this.type.equals(key.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.request, this.token, this.type);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.lake54.groupsio.api;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Stream counting the bytes read through it and the time spent reading them.
+ *
+ * Wrapping a response body with this stream while it is decoded separates
+ * the time spent waiting on the network from the time spent decoding.
+ */
+class MeteredInputStream extends FilterInputStream {
+
+    private long count;
+    private long readNanos;
+
+    /**
+     * Wraps a stream.
+     *
+     * @param in
+     *      the stream to read from.
+     */
+    MeteredInputStream(InputStream in) {
+        super(in);
+    }
+
+    /**
+     * Returns the number of bytes read so far.
+     *
+     * @return the byte count.
+     */
+    long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the time spent in reads so far.
+     *
+     * @return the read time in nanoseconds.
+     */
+    long getReadNanos() {
+        return this.readNanos;
+    }
+
+    @Override
+    public int read() throws IOException {
+        long start = System.nanoTime();
+        int read = this.in.read();
+        this.readNanos += System.nanoTime() - start;
+
+        if (read != -1) {
+            this.count++;
+        }
+        return read;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        long start = System.nanoTime();
+        int read = this.in.read(b, off, len);
+        this.readNanos += System.nanoTime() - start;
+
+        if (read != -1) {
+            this.count += read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long start = System.nanoTime();
+        long skipped = this.in.skip(n);
+        this.readNanos += System.nanoTime() - start;
+        this.count += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+}
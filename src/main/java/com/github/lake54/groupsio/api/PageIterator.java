@@ -0,0 +1,107 @@
+package com.github.lake54.groupsio.api;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.github.lake54.groupsio.api.domain.Page;
+import com.github.lake54.groupsio.api.exception.GroupsIOApiException;
+import com.github.lake54.groupsio.api.exception.UncheckedGroupsIOApiException;
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy iterator over the pages of a paginated request.
+ *
+ * Each page is only requested once the caller asks for it, so at most a
+ * single page is held by the iterator at any time. Errors are rethrown as
+ * {@link UncheckedGroupsIOApiException} or {@link UncheckedIOException};
+ * in that case the iterator is left on the failed page, so calling
+ * {@link #next()} again will request the same page.
+ *
+ * @param <T>
+ *      the type of the items contained in each page.
+ */
+public class PageIterator<T> implements Iterator<Page<T>> {
+
+    /**
+     * The client used to request each page.
+     */
+    private final GroupsIOApiClient apiClient;
+
+    /**
+     * The type of each page being requested.
+     */
+    private final JavaType type;
+
+    /**
+     * The request for the next page, or null once all pages are consumed.
+     */
+    private GroupsIOApiRequest request;
+
+    /**
+     * The number of pages fetched so far.
+     */
+    private int pages;
+
+    /**
+     * Creates a new iterator starting from the provided request.
+     *
+     * @param apiClient
+     *      the {@link GroupsIOApiClient} used for requests.
+     * @param request
+     *      the request for the first page.
+     * @param type
+     *      the type of each page being requested.
+     */
+    PageIterator(@Nonnull GroupsIOApiClient apiClient, @Nonnull GroupsIOApiRequest request, @Nonnull JavaType type) {
+        this.apiClient = Preconditions.checkNotNull(apiClient);
+        this.request = Preconditions.checkNotNull(request);
+        this.type = Preconditions.checkNotNull(type);
+    }
+
+    /**
+     * Returns whether there is a further page to request.
+     *
+     * @return true if another page is available.
+     */
+    @Override
+    public boolean hasNext() {
+        return this.request != null;
+    }
+
+    /**
+     * Requests and returns the next page.
+     *
+     * @return the next {@link Page} of results.
+     */
+    @Override
+    public Page<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        Page<T> page;
+
+        try {
+            page = this.apiClient.call(this.request, this.type);
+        } catch (GroupsIOApiException e) {
+            throw new UncheckedGroupsIOApiException(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.pages++;
+
+        if (page.hasMore()) {
+            this.request = GroupsIOApiClient.createNextPageRequest(this.request, page);
+        } else {
+            this.apiClient.getMetricsListener().onPaginate(this.request.path(), this.pages);
+            this.request = null;
+        }
+
+        return page;
+    }
+}
@@ -0,0 +1,214 @@
+package com.github.lake54.groupsio.api;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.github.lake54.groupsio.api.domain.Page;
+import com.github.lake54.groupsio.api.exception.GroupsIOApiException;
+import com.github.lake54.groupsio.api.exception.UncheckedGroupsIOApiException;
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Iterator over the pages of a paginated request which fetches pages ahead
+ * of the caller.
+ *
+ * Pages are requested asynchronously, and decoded on the executor of the
+ * client, while the caller is still working on earlier pages. At most
+ * {@code depth} pages are buffered ahead of the caller, after which
+ * fetching pauses until the caller catches up. As each page depends on the
+ * token of the previous page, only one request is ever in flight.
+ *
+ * Errors are rethrown in the same way as {@link PageIterator}, and leave
+ * the iterator on the failed page so that it can be requested again.
+ *
+ * @param <T>
+ *      the type of the items contained in each page.
+ */
+public class PrefetchingPageIterator<T> implements Iterator<Page<T>>, AutoCloseable {
+
+    /**
+     * The client used to request each page.
+     */
+    private final GroupsIOApiClient apiClient;
+
+    /**
+     * The type of each page being requested.
+     */
+    private final JavaType type;
+
+    /**
+     * The maximum number of pages to buffer ahead of the caller.
+     */
+    private final int depth;
+
+    /**
+     * The pages fetched but not yet returned to the caller.
+     */
+    private final ArrayDeque<Page<T>> buffer;
+
+    /**
+     * The request for the next page to fetch, or null once all pages are fetched.
+     */
+    private GroupsIOApiRequest request;
+
+    /**
+     * The failure of the most recent fetch, if any.
+     */
+    private Throwable failure;
+
+    /**
+     * Whether a page is currently being fetched.
+     */
+    private boolean fetching;
+
+    /**
+     * Whether the iterator has been closed by the caller.
+     */
+    private boolean closed;
+
+    /**
+     * The number of pages fetched so far.
+     */
+    private int pages;
+
+    /**
+     * Creates a new iterator starting from the provided request, and begins
+     * fetching the first page immediately.
+     *
+     * @param apiClient
+     *      the {@link GroupsIOApiClient} used for requests.
+     * @param request
+     *      the request for the first page.
+     * @param type
+     *      the type of each page being requested.
+     * @param depth
+     *      the maximum number of pages to buffer ahead of the caller.
+     */
+    PrefetchingPageIterator(@Nonnull GroupsIOApiClient apiClient, @Nonnull GroupsIOApiRequest request, @Nonnull JavaType type, int depth) {
+        Preconditions.checkArgument(depth > 0, "depth must be positive");
+        this.apiClient = Preconditions.checkNotNull(apiClient);
+        this.request = Preconditions.checkNotNull(request);
+        this.type = Preconditions.checkNotNull(type);
+        this.depth = depth;
+        this.buffer = new ArrayDeque<>(depth);
+        this.fetch();
+    }
+
+    /**
+     * Returns whether there is a further page to return.
+     *
+     * @return true if another page is available.
+     */
+    @Override
+    public synchronized boolean hasNext() {
+        return !this.buffer.isEmpty() || this.failure != null || (this.request != null && !this.closed);
+    }
+
+    /**
+     * Returns the next page, waiting for it to arrive if necessary.
+     *
+     * @return the next {@link Page} of results.
+     */
+    @Override
+    public synchronized Page<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        this.fetch();
+
+        while (this.buffer.isEmpty() && this.failure == null) {
+            try {
+                this.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UncheckedIOException(new InterruptedIOException("Interrupted waiting for page"));
+            }
+        }
+
+        if (this.buffer.isEmpty()) {
+            Throwable cause = this.failure;
+            this.failure = null;
+
+            if (cause instanceof GroupsIOApiException) {
+                throw new UncheckedGroupsIOApiException((GroupsIOApiException) cause);
+            }
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException((IOException) cause);
+            }
+            throw new CompletionException(cause);
+        }
+
+        Page<T> page = this.buffer.poll();
+        this.fetch();
+        return page;
+    }
+
+    /**
+     * Stops fetching any further pages. A page already in flight will still
+     * complete, but will not trigger further requests.
+     */
+    @Override
+    public synchronized void close() {
+        this.closed = true;
+        this.buffer.clear();
+    }
+
+    /**
+     * Starts fetching the next page if there is room in the buffer and no
+     * other page is currently being fetched.
+     */
+    private synchronized void fetch() {
+        if (this.fetching || this.closed || this.failure != null
+            || this.request == null || this.buffer.size() >= this.depth) {
+            return;
+        }
+
+        GroupsIOApiRequest current = this.request;
+        this.fetching = true;
+
+        this.apiClient.<Page<T>>callAsync(current, this.type)
+            .whenComplete((page, throwable) -> this.complete(current, page, throwable));
+    }
+
+    /**
+     * Handles the completion of a page fetch, buffering the page and moving
+     * on to the following page.
+     *
+     * @param current
+     *      the request that was used to fetch the page.
+     * @param page
+     *      the fetched page, or null on failure.
+     * @param throwable
+     *      the failure of the fetch, or null on success.
+     */
+    private synchronized void complete(GroupsIOApiRequest current, Page<T> page, Throwable throwable) {
+        this.fetching = false;
+
+        if (throwable != null) {
+            this.failure = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        } else if (!this.closed) {
+            this.buffer.add(page);
+            this.pages++;
+
+            if (page.hasMore()) {
+                this.request = GroupsIOApiClient.createNextPageRequest(current, page);
+            } else {
+                this.apiClient.getMetricsListener().onPaginate(current.path(), this.pages);
+                this.request = null;
+            }
+        }
+
+        this.notifyAll();
+        this.fetch();
+    }
+}
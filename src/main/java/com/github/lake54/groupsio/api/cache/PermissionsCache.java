@@ -0,0 +1,138 @@
+package com.github.lake54.groupsio.api.cache;
+
+import com.github.lake54.groupsio.api.domain.Permissions;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of the current user's {@link Permissions}, keyed by group identifier.
+ *
+ * Most group and member operations check permissions before acting, so
+ * caching them avoids a second round trip on every operation. Entries
+ * expire after a fixed time since they were fetched, and the least
+ * recently used entries are evicted once the cache reaches its size.
+ */
+public class PermissionsCache {
+
+    /**
+     * The default time to hold permissions before fetching them again.
+     */
+    public static final long DEFAULT_TTL_SECONDS = 300;
+
+    /**
+     * The default maximum number of groups to hold permissions for.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    /**
+     * The underlying cache instance.
+     */
+    private final Cache<Integer, Permissions> cache;
+
+    /**
+     * Creates a new cache with the default expiry and size.
+     */
+    public PermissionsCache() {
+        this(DEFAULT_TTL_SECONDS, TimeUnit.SECONDS, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a new cache with a custom expiry and size.
+     *
+     * A zero duration or size effectively disables caching.
+     *
+     * @param ttl
+     *      how long to hold permissions after they are fetched.
+     * @param unit
+     *      the unit of the ttl value.
+     * @param maximumSize
+     *      the maximum number of groups to hold permissions for.
+     */
+    public PermissionsCache(long ttl, @Nonnull TimeUnit unit, long maximumSize) {
+        Preconditions.checkArgument(ttl >= 0, "ttl must not be negative");
+        Preconditions.checkArgument(maximumSize >= 0, "maximumSize must not be negative");
+
+        this.cache = CacheBuilder.newBuilder()
+            .expireAfterWrite(ttl, Preconditions.checkNotNull(unit))
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Returns the cached permissions for a group, if present.
+     *
+     * @param groupId
+     *      the group identifier to lookup.
+     * @return
+     *      the cached {@link Permissions}, or null if not cached.
+     */
+    @Nullable
+    public Permissions get(int groupId) {
+        return this.cache.getIfPresent(groupId);
+    }
+
+    /**
+     * Stores the permissions for a group.
+     *
+     * @param groupId
+     *      the group identifier to store under.
+     * @param permissions
+     *      the {@link Permissions} to store.
+     */
+    public void put(int groupId, @Nonnull Permissions permissions) {
+        this.cache.put(groupId, permissions);
+    }
+
+    /**
+     * Removes the permissions for a group, forcing them to be fetched on
+     * next use.
+     *
+     * @param groupId
+     *      the group identifier to invalidate.
+     */
+    public void invalidate(int groupId) {
+        this.cache.invalidate(groupId);
+    }
+
+    /**
+     * Removes the permissions for all groups.
+     */
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+
+    /**
+     * Returns the number of lookups served from the cache.
+     *
+     * @return the hit count.
+     */
+    public long hitCount() {
+        return this.cache.stats().hitCount();
+    }
+
+    /**
+     * Returns the number of lookups which were not served from the cache.
+     *
+     * @return the miss count.
+     */
+    public long missCount() {
+        return this.cache.stats().missCount();
+    }
+
+    /**
+     * Returns a snapshot of all statistics recorded by the cache.
+     *
+     * @return a {@link CacheStats} snapshot.
+     */
+    @Nonnull
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+}
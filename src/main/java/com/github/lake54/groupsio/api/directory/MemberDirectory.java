@@ -0,0 +1,391 @@
+package com.github.lake54.groupsio.api.directory;
+
+import com.github.lake54.groupsio.api.domain.Subscription;
+import com.github.lake54.groupsio.api.domain.enums.subscription.SubscriptionStatus;
+import com.github.lake54.groupsio.api.domain.enums.user.UserStatus;
+import com.google.common.collect.ImmutableList;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory directory of the members of a single group.
+ *
+ * Members are indexed by email (case insensitive), user identifier and
+ * subscription identifier for constant time lookups, with secondary
+ * indexes on subscription status and user status. A directory is filled
+ * from the API once, and then kept up to date by {@code MemberResource}
+ * whenever a member of the group is changed through the same client.
+ *
+ * Lookups may run concurrently with each other; updates are serialized.
+ * A reload builds the new contents aside and swaps them in once complete,
+ * so lookups are never blocked for the duration of a download.
+ */
+public class MemberDirectory {
+
+    /**
+     * The group the directory holds members for.
+     */
+    private final int groupId;
+
+    /**
+     * Lock guarding the indexes and pending changes.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Lock serializing reloads, which are mostly spent outside of {@link #lock}.
+     */
+    private final Lock reloadLock = new ReentrantLock();
+
+    /**
+     * The current indexes of the directory.
+     */
+    private Indexes indexes = new Indexes();
+
+    /**
+     * Changes made while a reload is in progress, to be applied to the
+     * reloaded indexes; null when no reload is in progress.
+     */
+    private List<Consumer<Indexes>> pending;
+
+    /**
+     * Creates an empty directory for a group.
+     *
+     * @param groupId
+     *      the group the directory holds members for.
+     */
+    public MemberDirectory(int groupId) {
+        this.groupId = groupId;
+    }
+
+    /**
+     * Returns the group the directory holds members for.
+     *
+     * @return the group identifier.
+     */
+    public int getGroupId() {
+        return this.groupId;
+    }
+
+    /**
+     * Replaces the contents of the directory with the provided members.
+     *
+     * The new contents are built without holding the lock, so lookups keep
+     * being served from the previous contents until all members have been
+     * read; changes made in the meantime are applied to both. If reading
+     * the members fails, the previous contents are kept.
+     *
+     * @param members
+     *      an iterator over the full set of members.
+     */
+    public void reload(@Nonnull Iterator<Subscription> members) {
+        this.reloadLock.lock();
+        try {
+            Indexes reloaded = new Indexes();
+
+            this.lock.writeLock().lock();
+            try {
+                this.pending = new ArrayList<>();
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+
+            try {
+                while (members.hasNext()) {
+                    reloaded.put(members.next());
+                }
+            } catch (RuntimeException | Error e) {
+                this.lock.writeLock().lock();
+                try {
+                    this.pending = null;
+                } finally {
+                    this.lock.writeLock().unlock();
+                }
+                throw e;
+            }
+
+            this.lock.writeLock().lock();
+            try {
+                for (Consumer<Indexes> change : this.pending) {
+                    change.accept(reloaded);
+                }
+                this.indexes = reloaded;
+                this.pending = null;
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        } finally {
+            this.reloadLock.unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces a member in the directory. Members of other groups
+     * are ignored.
+     *
+     * @param member
+     *      the member's {@link Subscription}.
+     */
+    public void put(@Nonnull Subscription member) {
+        if (member.groupId() != this.groupId) {
+            return;
+        }
+
+        change(indexes -> indexes.put(member));
+    }
+
+    /**
+     * Removes a member from the directory by subscription identifier.
+     *
+     * @param subscriptionId
+     *      the identifier of the subscription to remove.
+     */
+    public void remove(int subscriptionId) {
+        change(indexes -> indexes.remove(indexes.byId.get(subscriptionId)));
+    }
+
+    /**
+     * Removes a member from the directory by email.
+     *
+     * @param email
+     *      the email of the member to remove.
+     */
+    public void removeByEmail(@Nonnull String email) {
+        String normalized = normalize(email);
+        change(indexes -> indexes.remove(indexes.byEmail.get(normalized)));
+    }
+
+    /**
+     * Looks up a member by subscription identifier.
+     *
+     * @param subscriptionId
+     *      the subscription identifier to lookup.
+     * @return
+     *      the member's {@link Subscription}, if present.
+     */
+    public Optional<Subscription> getById(int subscriptionId) {
+        this.lock.readLock().lock();
+        try {
+            return Optional.ofNullable(this.indexes.byId.get(subscriptionId));
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Looks up a member by email, ignoring case.
+     *
+     * @param email
+     *      the email to lookup.
+     * @return
+     *      the member's {@link Subscription}, if present.
+     */
+    public Optional<Subscription> getByEmail(@Nonnull String email) {
+        this.lock.readLock().lock();
+        try {
+            return Optional.ofNullable(this.indexes.byEmail.get(normalize(email)));
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Looks up a member by user identifier.
+     *
+     * @param userId
+     *      the user identifier to lookup.
+     * @return
+     *      the member's {@link Subscription}, if present.
+     */
+    public Optional<Subscription> getByUserId(int userId) {
+        this.lock.readLock().lock();
+        try {
+            return Optional.ofNullable(this.indexes.byUserId.get(userId));
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns all members with the provided subscription status.
+     *
+     * @param status
+     *      the {@link SubscriptionStatus} to filter on.
+     * @return
+     *      a snapshot {@link List} of matching members.
+     */
+    public List<Subscription> getByStatus(@Nonnull SubscriptionStatus status) {
+        this.lock.readLock().lock();
+        try {
+            return collect(this.indexes.byStatus.get(status));
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns all members with the provided user status.
+     *
+     * @param userStatus
+     *      the {@link UserStatus} to filter on.
+     * @return
+     *      a snapshot {@link List} of matching members.
+     */
+    public List<Subscription> getByUserStatus(@Nonnull UserStatus userStatus) {
+        this.lock.readLock().lock();
+        try {
+            return collect(this.indexes.byUserStatus.get(userStatus));
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of all members in the directory.
+     *
+     * @return a {@link List} of all members.
+     */
+    public List<Subscription> getAll() {
+        this.lock.readLock().lock();
+        try {
+            return ImmutableList.copyOf(this.indexes.byId.values());
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of members in the directory.
+     *
+     * @return the member count.
+     */
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.indexes.byId.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a change to the indexes, and to the indexes being reloaded
+     * if a reload is in progress.
+     */
+    private void change(Consumer<Indexes> change) {
+        this.lock.writeLock().lock();
+        try {
+            change.accept(this.indexes);
+
+            if (this.pending != null) {
+                this.pending.add(change);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Resolves a set of identifiers to members. Must be called under a lock.
+     */
+    private List<Subscription> collect(Set<Integer> ids) {
+        if (ids == null) {
+            return ImmutableList.of();
+        }
+
+        ImmutableList.Builder<Subscription> members = ImmutableList.builder();
+        for (Integer id : ids) {
+            members.add(this.indexes.byId.get(id));
+        }
+        return members.build();
+    }
+
+    /**
+     * Normalizes an email for case insensitive lookups.
+     */
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The indexes over a set of members, which are not thread safe.
+     */
+    private static final class Indexes {
+
+        /**
+         * Members keyed by subscription identifier; the primary index.
+         */
+        private final Map<Integer, Subscription> byId = new HashMap<>();
+
+        /**
+         * Members keyed by lower cased email.
+         */
+        private final Map<String, Subscription> byEmail = new HashMap<>();
+
+        /**
+         * Members keyed by user identifier.
+         */
+        private final Map<Integer, Subscription> byUserId = new HashMap<>();
+
+        /**
+         * Subscription identifiers grouped by subscription status.
+         */
+        private final Map<SubscriptionStatus, Set<Integer>> byStatus = new EnumMap<>(SubscriptionStatus.class);
+
+        /**
+         * Subscription identifiers grouped by user status.
+         */
+        private final Map<UserStatus, Set<Integer>> byUserStatus = new EnumMap<>(UserStatus.class);
+
+        /**
+         * Adds a member to all indexes, replacing any previous version.
+         */
+        void put(Subscription member) {
+            remove(this.byId.get(member.id()));
+
+            this.byId.put(member.id(), member);
+            this.byEmail.put(normalize(member.email()), member);
+            this.byUserId.put(member.userId(), member);
+            this.byStatus.computeIfAbsent(member.status(), status -> new LinkedHashSet<>()).add(member.id());
+            this.byUserStatus.computeIfAbsent(member.userStatus(), status -> new LinkedHashSet<>()).add(member.id());
+        }
+
+        /**
+         * Removes a member from all indexes.
+         */
+        void remove(Subscription member) {
+            if (member == null) {
+                return;
+            }
+
+            this.byId.remove(member.id());
+            this.byEmail.remove(normalize(member.email()), member);
+            this.byUserId.remove(member.userId(), member);
+
+            Set<Integer> withStatus = this.byStatus.get(member.status());
+            if (withStatus != null) {
+                withStatus.remove(member.id());
+            }
+
+            Set<Integer> withUserStatus = this.byUserStatus.get(member.userStatus());
+            if (withUserStatus != null) {
+                withUserStatus.remove(member.id());
+            }
+        }
+    }
+}
@@ -3,12 +3,19 @@ package com.github.lake54.groupsio.api.exception;
 import com.github.lake54.groupsio.api.domain.Error;
 import com.github.lake54.groupsio.api.domain.enums.error.ErrorType;
 
+import javax.annotation.Nullable;
+
 /**
  * Exception class to be thrown during errors encountered
  * during requests to the groups.io API.
  */
 public class GroupsIOApiException extends Exception {
 
+    /**
+     * The type of error returned by the API, if any.
+     */
+    private final ErrorType errorType;
+
     /**
      * Creates an exception from an error instance.
      *
@@ -26,7 +33,8 @@ public class GroupsIOApiException extends Exception {
      *      the error type to create from.
      */
     public GroupsIOApiException(ErrorType errorType) {
-        this(errorType.toString());
+        super(errorType.toString());
+        this.errorType = errorType;
     }
 
     /**
@@ -37,5 +45,16 @@ public class GroupsIOApiException extends Exception {
      */
     public GroupsIOApiException(String message) {
         super(message);
+        this.errorType = null;
+    }
+
+    /**
+     * Returns the type of error returned by the API.
+     *
+     * @return the {@link ErrorType}, or null for internal errors.
+     */
+    @Nullable
+    public ErrorType getErrorType() {
+        return this.errorType;
     }
 }
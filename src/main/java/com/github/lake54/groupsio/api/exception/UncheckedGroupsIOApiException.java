@@ -0,0 +1,28 @@
+package com.github.lake54.groupsio.api.exception;
+
+/**
+ * Unchecked wrapper around a {@link GroupsIOApiException}, used in places
+ * where checked exceptions cannot be thrown (such as inside an iterator).
+ */
+public class UncheckedGroupsIOApiException extends RuntimeException {
+
+    /**
+     * Creates an unchecked exception from a checked API exception.
+     *
+     * @param cause
+     *      the {@link GroupsIOApiException} being wrapped.
+     */
+    public UncheckedGroupsIOApiException(GroupsIOApiException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    /**
+     * Returns the wrapped API exception.
+     *
+     * @return the wrapped {@link GroupsIOApiException}.
+     */
+    @Override
+    public synchronized GroupsIOApiException getCause() {
+        return (GroupsIOApiException) super.getCause();
+    }
+}
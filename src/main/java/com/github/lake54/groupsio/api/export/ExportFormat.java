@@ -0,0 +1,17 @@
+package com.github.lake54.groupsio.api.export;
+
+/**
+ * Output formats supported when exporting members.
+ */
+public enum ExportFormat {
+
+    /**
+     * Newline delimited JSON, with one object per member.
+     */
+    NDJSON,
+
+    /**
+     * Comma separated values, with a header row naming each column.
+     */
+    CSV
+}
@@ -0,0 +1,76 @@
+package com.github.lake54.groupsio.api.export;
+
+import org.immutables.value.Value;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.immutables.value.Value.Style.ImplementationVisibility.PACKAGE;
+
+/**
+ * Snapshot of the progress of a running export.
+ */
+@Value.Immutable(builder = false, copy = false)
+@Value.Style(visibility = PACKAGE)
+public abstract class ExportProgress {
+
+    /**
+     * The number of pages written so far.
+     *
+     * @return the page count.
+     */
+    @Value.Parameter
+    public abstract int pages();
+
+    /**
+     * The number of rows written so far.
+     *
+     * @return the row count.
+     */
+    @Value.Parameter
+    public abstract long rows();
+
+    /**
+     * The time elapsed since the export started, in nanoseconds.
+     *
+     * @return the elapsed time.
+     */
+    @Value.Parameter
+    public abstract long elapsedNanos();
+
+    /**
+     * The total number of rows the export is expected to write, as
+     * reported by the API.
+     *
+     * @return the expected row count.
+     */
+    @Value.Parameter
+    public abstract long totalRows();
+
+    /**
+     * The average throughput of the export so far.
+     *
+     * @return the number of rows written per second.
+     */
+    @Value.Derived
+    public double rowsPerSecond() {
+        return elapsedNanos() == 0 ? 0 : rows() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos();
+    }
+
+    /**
+     * Creates a progress snapshot.
+     *
+     * @param pages
+     *      the number of pages written so far.
+     * @param rows
+     *      the number of rows written so far.
+     * @param elapsedNanos
+     *      the time elapsed since the export started.
+     * @param totalRows
+     *      the total number of rows expected.
+     * @return
+     *      a new {@link ExportProgress} instance.
+     */
+    public static ExportProgress create(int pages, long rows, long elapsedNanos, long totalRows) {
+        return ImmutableExportProgress.of(pages, rows, elapsedNanos, totalRows);
+    }
+}
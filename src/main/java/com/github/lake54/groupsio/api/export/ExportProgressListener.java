@@ -0,0 +1,21 @@
+package com.github.lake54.groupsio.api.export;
+
+/**
+ * Listener notified after each page of an export has been written.
+ */
+@FunctionalInterface
+public interface ExportProgressListener {
+
+    /**
+     * A listener which ignores all progress.
+     */
+    ExportProgressListener NONE = progress -> { };
+
+    /**
+     * Called after each page of an export has been written.
+     *
+     * @param progress
+     *      the progress of the export so far.
+     */
+    void onProgress(ExportProgress progress);
+}
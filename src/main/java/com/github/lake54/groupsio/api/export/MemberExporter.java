@@ -0,0 +1,213 @@
+package com.github.lake54.groupsio.api.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.github.lake54.groupsio.api.domain.Page;
+import com.github.lake54.groupsio.api.domain.SubscriptionBase;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Writes pages of members to a {@link Writer} as they arrive.
+ *
+ * Each page is written and flushed before the next page is requested, so
+ * memory use is bounded by a single page regardless of the number of
+ * members exported.
+ */
+public class MemberExporter {
+
+    /**
+     * A factory for JSON generators used for NDJSON output.
+     */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    /**
+     * The writer to export to.
+     */
+    private final Writer writer;
+
+    /**
+     * The format to export in.
+     */
+    private final ExportFormat format;
+
+    /**
+     * The columns to export, in order.
+     */
+    private final List<SubscriptionColumn> columns;
+
+    /**
+     * The listener notified after each page.
+     */
+    private final ExportProgressListener listener;
+
+    /**
+     * Creates an exporter writing all columns.
+     *
+     * @param writer
+     *      the {@link Writer} to export to.
+     * @param format
+     *      the {@link ExportFormat} to export in.
+     */
+    public MemberExporter(@Nonnull Writer writer, @Nonnull ExportFormat format) {
+        this(writer, format, Arrays.asList(SubscriptionColumn.values()), ExportProgressListener.NONE);
+    }
+
+    /**
+     * Creates an exporter writing the selected columns.
+     *
+     * @param writer
+     *      the {@link Writer} to export to.
+     * @param format
+     *      the {@link ExportFormat} to export in.
+     * @param columns
+     *      the {@link SubscriptionColumn}s to export, in order.
+     * @param listener
+     *      the {@link ExportProgressListener} notified after each page.
+     */
+    public MemberExporter(@Nonnull Writer writer,
+                          @Nonnull ExportFormat format,
+                          @Nonnull List<SubscriptionColumn> columns,
+                          @Nonnull ExportProgressListener listener) {
+        Preconditions.checkArgument(!columns.isEmpty(), "at least one column must be exported");
+        this.writer = Preconditions.checkNotNull(writer);
+        this.format = Preconditions.checkNotNull(format);
+        this.columns = ImmutableList.copyOf(columns);
+        this.listener = Preconditions.checkNotNull(listener);
+    }
+
+    /**
+     * Exports all pages provided by an iterator, requesting each page only
+     * once the previous page has been written.
+     *
+     * The writer is flushed after each page, but is not closed.
+     *
+     * @param pages
+     *      an iterator over the pages to export.
+     * @return
+     *      the number of rows written.
+     * @throws IOException
+     *      on any errors writing the output.
+     */
+    public long export(@Nonnull Iterator<? extends Page<? extends SubscriptionBase>> pages) throws IOException {
+        long start = System.nanoTime();
+        long rows = 0;
+        int pageCount = 0;
+
+        JsonGenerator generator = null;
+
+        if (this.format == ExportFormat.NDJSON) {
+            generator = JSON_FACTORY.createGenerator(this.writer);
+            generator.setRootValueSeparator(null);
+        } else {
+            writeCsvHeader();
+        }
+
+        while (pages.hasNext()) {
+            Page<? extends SubscriptionBase> page = pages.next();
+
+            for (SubscriptionBase subscription : page.data()) {
+                if (generator != null) {
+                    writeJson(generator, subscription);
+                } else {
+                    writeCsv(subscription);
+                }
+            }
+
+            if (generator != null) {
+                generator.flush();
+            } else {
+                this.writer.flush();
+            }
+
+            rows += page.data().size();
+            pageCount++;
+
+            this.listener.onProgress(ExportProgress.create(pageCount, rows, System.nanoTime() - start, page.totalCount()));
+        }
+
+        if (generator != null) {
+            generator.close();
+        }
+
+        return rows;
+    }
+
+    /**
+     * Writes a subscription as a single line JSON object.
+     */
+    private void writeJson(JsonGenerator generator, SubscriptionBase subscription) throws IOException {
+        generator.writeStartObject();
+
+        for (SubscriptionColumn column : this.columns) {
+            Object value = column.extract(subscription);
+            generator.writeFieldName(column.header());
+
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof Integer) {
+                generator.writeNumber((Integer) value);
+            } else if (value instanceof Boolean) {
+                generator.writeBoolean((Boolean) value);
+            } else {
+                generator.writeString(value.toString());
+            }
+        }
+
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Writes the header row naming each column.
+     */
+    private void writeCsvHeader() throws IOException {
+        for (int i = 0; i < this.columns.size(); i++) {
+            if (i > 0) {
+                this.writer.write(',');
+            }
+            this.writer.write(escapeCsv(this.columns.get(i).header()));
+        }
+        this.writer.write('\n');
+    }
+
+    /**
+     * Writes a subscription as a single CSV row.
+     */
+    private void writeCsv(SubscriptionBase subscription) throws IOException {
+        for (int i = 0; i < this.columns.size(); i++) {
+            if (i > 0) {
+                this.writer.write(',');
+            }
+
+            Object value = this.columns.get(i).extract(subscription);
+
+            if (value != null) {
+                this.writer.write(escapeCsv(value.toString()));
+            }
+        }
+        this.writer.write('\n');
+    }
+
+    /**
+     * Quotes a CSV value if it contains any special characters.
+     */
+    private static String escapeCsv(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+}
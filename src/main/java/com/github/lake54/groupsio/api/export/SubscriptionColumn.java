@@ -0,0 +1,91 @@
+package com.github.lake54.groupsio.api.export;
+
+import com.github.lake54.groupsio.api.domain.SubscriptionBase;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.function.Function;
+
+/**
+ * Columns of a {@link SubscriptionBase} which can be selected when
+ * exporting members.
+ *
+ * Each column is named after the JSON property of the field in the API.
+ * Optional fields which are absent are exported as empty values.
+ */
+public enum SubscriptionColumn {
+    ID("id", subscription -> subscription.id()),
+    CREATED("created", subscription -> subscription.created()),
+    UPDATED("updated", subscription -> subscription.updated()),
+    USER_ID("user_id", subscription -> subscription.userId()),
+    GROUP_ID("group_id", subscription -> subscription.groupId()),
+    STATUS("status", subscription -> subscription.status()),
+    POST_STATUS("post_status", subscription -> subscription.postStatus()),
+    EMAIL_DELIVERY("email_delivery", subscription -> subscription.emailDelivery().orElse(null)),
+    MESSAGE_SELECTION("message_selection", subscription -> subscription.messageSelection().orElse(null)),
+    AUTO_FOLLOW_REPLIES("auto_follow_replies", subscription -> subscription.autoFollowReplies().orElse(null)),
+    MAX_ATTACHMENT_SIZE("max_attachment_size", subscription -> subscription.maxAttachmentSize().orElse(null)),
+    APPROVED_POSTS("approved_posts", subscription -> subscription.approvedPosts()),
+    MOD_STATUS("mod_status", subscription -> subscription.modStatus()),
+    PENDING_MSG_NOTIFY("pending_msg_notify", subscription -> subscription.pendingMsgNotify().orElse(null)),
+    PENDING_SUB_NOTIFY("pending_sub_notify", subscription -> subscription.pendingSubNotify().orElse(null)),
+    SUB_NOTIFY("sub_notify", subscription -> subscription.subNotify().orElse(null)),
+    STORAGE_NOTIFY("storage_notify", subscription -> subscription.storageNotify().orElse(null)),
+    SUB_GROUP_NOTIFY("sub_group_notify", subscription -> subscription.subGroupNotify().orElse(null)),
+    MESSAGE_REPORT_NOTIFY("message_report_notify", subscription -> subscription.messageReportNotify().orElse(null)),
+    OWNER_MSG_NOTIFY("owner_msg_notify", subscription -> subscription.ownerMsgNotify().orElse(null)),
+    EMAIL("email", subscription -> subscription.email()),
+    USER_STATUS("user_status", subscription -> subscription.userStatus()),
+    USER_NAME("user_name", subscription -> subscription.userName()),
+    TIMEZONE("timezone", subscription -> subscription.timezone()),
+    FULL_NAME("full_name", subscription -> subscription.fullName()),
+    ABOUT_ME("about_me", subscription -> subscription.aboutMe()),
+    ABOUT_FORMAT("about_format", subscription -> subscription.aboutFormat()),
+    LOCATION("location", subscription -> subscription.location()),
+    WEBSITE("website", subscription -> subscription.website()),
+    PROFILE_PHOTO_ID("profile_photo_id", subscription -> subscription.profilePhotoId()),
+    PROFILE_PRIVACY("profile_privacy", subscription -> subscription.profilePrivacy()),
+    DONT_MUNGE_MESSAGE_ID("dont_munge_message_id", subscription -> subscription.dontMungeMessageId()),
+    MODERATOR_NOTES("moderator_notes", subscription -> subscription.moderatorNotes()),
+    MODERATOR_NOTES_UPDATED("moderator_notes_updated", subscription -> subscription.moderatorNotesUpdated()),
+    USE_SIGNATURE("use_signature", subscription -> subscription.useSignature()),
+    USE_SIGNATURE_EMAIL("use_signature_email", subscription -> subscription.useSignatureEmail());
+
+    /**
+     * The name of the column, matching the API property name.
+     */
+    private final String header;
+
+    /**
+     * The function extracting the column value from a subscription.
+     */
+    private final Function<SubscriptionBase, Object> extractor;
+
+    SubscriptionColumn(String header, Function<SubscriptionBase, Object> extractor) {
+        this.header = header;
+        this.extractor = extractor;
+    }
+
+    /**
+     * Returns the name of the column.
+     *
+     * @return the column header.
+     */
+    @Nonnull
+    public String header() {
+        return this.header;
+    }
+
+    /**
+     * Extracts the value of the column from a subscription.
+     *
+     * @param subscription
+     *      the subscription to read from.
+     * @return
+     *      the column value, or null if the field is absent.
+     */
+    @Nullable
+    public Object extract(@Nonnull SubscriptionBase subscription) {
+        return this.extractor.apply(subscription);
+    }
+}
@@ -0,0 +1,145 @@
+package com.github.lake54.groupsio.api.fanout;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+
+import javax.annotation.Nonnull;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs an operation across many groups concurrently.
+ *
+ * On Java 21 and later each operation runs on its own virtual thread, so
+ * thousands of blocking calls can be in flight without a thread each. On
+ * earlier versions the operations run on a pool of platform threads sized
+ * to the concurrency. Either way, no more than the requested number of
+ * operations run at once, which keeps the load on the API bounded.
+ *
+ * Failures of individual groups do not stop the fan-out; they are
+ * collected alongside the results of the other groups. An {@link Error}
+ * is not a failure of a single group, so it is rethrown instead, once
+ * every running operation has finished.
+ */
+public class FanOut {
+
+    /**
+     * The default number of operations to run at once.
+     */
+    public static final int DEFAULT_CONCURRENCY = 16;
+
+    private FanOut() { }
+
+    /**
+     * Whether fan-outs run on virtual threads in this JVM.
+     *
+     * @return true if virtual threads are used.
+     */
+    public static boolean isVirtual() {
+        return FanOutThreads.isVirtual();
+    }
+
+    /**
+     * Runs an operation for every provided group, collecting the result or
+     * failure of each. Duplicate group identifiers are only run once.
+     *
+     * @param groupIds
+     *      the group identifiers to run the operation for.
+     * @param concurrency
+     *      the maximum number of operations to run at once.
+     * @param operation
+     *      the operation to run for each group, which must not return null.
+     * @return
+     *      a {@link FanOutResult} holding the outcome for each group.
+     * @throws InterruptedIOException
+     *      if interrupted while waiting, in which case running operations
+     *      are interrupted and no further operations are started.
+     * @throws Error
+     *      if any operation threw an {@link Error}, with those thrown by
+     *      other operations added as suppressed.
+     */
+    public static <T> FanOutResult<T> run(@Nonnull Collection<Integer> groupIds, int concurrency, @Nonnull GroupOperation<T> operation) throws InterruptedIOException {
+        Preconditions.checkNotNull(groupIds);
+        Preconditions.checkNotNull(operation);
+        Preconditions.checkArgument(concurrency > 0, "concurrency must be positive");
+
+        List<Integer> groups = new ArrayList<>(new LinkedHashSet<>(groupIds));
+        Object[] outcomes = new Object[groups.size()];
+        boolean[] failed = new boolean[groups.size()];
+
+        Semaphore permits = new Semaphore(concurrency);
+        ExecutorService executor = FanOutThreads.newExecutor(Math.min(concurrency, Math.max(1, groups.size())));
+        long start = System.nanoTime();
+
+        try {
+            for (int i = 0; i < groups.size(); i++) {
+                int index = i;
+                int groupId = groups.get(i);
+
+                permits.acquire();
+
+                try {
+                    executor.execute(() -> {
+                        try {
+                            outcomes[index] = Preconditions.checkNotNull(operation.apply(groupId), "operation returned null");
+                        } catch (Throwable e) {
+                            outcomes[index] = e;
+                            failed[index] = true;
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    permits.release();
+                    outcomes[index] = e;
+                    failed[index] = true;
+                }
+            }
+
+            // every operation has finished once all permits are returned
+            permits.acquire(concurrency);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for fan-out");
+        } finally {
+            executor.shutdown();
+        }
+
+        long elapsed = System.nanoTime() - start;
+
+        Map<Integer, T> results = new LinkedHashMap<>();
+        Map<Integer, Exception> failures = new LinkedHashMap<>();
+        Throwable error = null;
+
+        for (int i = 0; i < groups.size(); i++) {
+            if (failed[i] && !(outcomes[i] instanceof Exception)) {
+                if (error == null) {
+                    error = (Throwable) outcomes[i];
+                } else if (error != outcomes[i]) {
+                    error.addSuppressed((Throwable) outcomes[i]);
+                }
+            } else if (failed[i]) {
+                failures.put(groups.get(i), (Exception) outcomes[i]);
+            } else {
+                @SuppressWarnings("unchecked")
+                T result = (T) outcomes[i];
+                results.put(groups.get(i), result);
+            }
+        }
+
+        if (error != null) {
+            Throwables.throwIfUnchecked(error);
+            throw new IllegalStateException(error);
+        }
+
+        return FanOutResult.create(results, failures, elapsed, FanOutThreads.isVirtual());
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.lake54.groupsio.api.fanout;
+
+import org.immutables.value.Value;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.immutables.value.Value.Style.ImplementationVisibility.PACKAGE;
+
+/**
+ * Outcome of running an operation across many groups.
+ *
+ * Every group appears in exactly one of {@link #results()} and
+ * {@link #failures()}, in the order the groups were provided.
+ *
+ * @param <T>
+ *      the type of the result of the operation.
+ */
+@Value.Immutable(builder = false, copy = false)
+@Value.Style(visibility = PACKAGE)
+public abstract class FanOutResult<T> {
+
+    /**
+     * The result of each group the operation succeeded for.
+     *
+     * @return a {@link Map} of results by group identifier.
+     */
+    @Value.Parameter
+    public abstract Map<Integer, T> results();
+
+    /**
+     * The failure of each group the operation failed for.
+     *
+     * @return a {@link Map} of failures by group identifier.
+     */
+    @Value.Parameter
+    public abstract Map<Integer, Exception> failures();
+
+    /**
+     * The time taken to run the operation across all groups, in nanoseconds.
+     *
+     * @return the elapsed time.
+     */
+    @Value.Parameter
+    public abstract long elapsedNanos();
+
+    /**
+     * Whether the operations ran on virtual threads.
+     *
+     * @return true if virtual threads were used.
+     */
+    @Value.Parameter
+    public abstract boolean virtualThreads();
+
+    /**
+     * Whether the operation succeeded for every group.
+     *
+     * @return true if there were no failures.
+     */
+    public boolean isSuccessful() {
+        return failures().isEmpty();
+    }
+
+    /**
+     * The average throughput of the fan-out.
+     *
+     * @return the number of groups completed per second.
+     */
+    @Value.Derived
+    public double groupsPerSecond() {
+        int groups = results().size() + failures().size();
+        return elapsedNanos() == 0 ? 0 : groups * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos();
+    }
+
+    /**
+     * Creates a fan-out result.
+     *
+     * @param results
+     *      the result of each successful group.
+     * @param failures
+     *      the failure of each failed group.
+     * @param elapsedNanos
+     *      the time taken to run the fan-out.
+     * @param virtualThreads
+     *      whether virtual threads were used.
+     * @return
+     *      a new {@link FanOutResult} instance.
+     */
+    public static <T> FanOutResult<T> create(Map<Integer, T> results, Map<Integer, Exception> failures, long elapsedNanos, boolean virtualThreads) {
+        return ImmutableFanOutResult.of(results, failures, elapsedNanos, virtualThreads);
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.lake54.groupsio.api.fanout;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the threads used to run a fan-out.
+ *
+ * This is the implementation used before Java 21, which runs each fan-out
+ * on a bounded pool of platform threads. The multi-release jar replaces
+ * this class on Java 21 and later with one using virtual threads.
+ */
+class FanOutThreads {
+
+    /**
+     * Counter used to name the threads of each pool.
+     */
+    private static final AtomicInteger POOLS = new AtomicInteger();
+
+    /**
+     * Whether fan-outs run on virtual threads.
+     *
+     * @return false, as virtual threads are not available.
+     */
+    static boolean isVirtual() {
+        return false;
+    }
+
+    /**
+     * Creates an executor able to run the provided number of operations
+     * at the same time.
+     *
+     * @param concurrency
+     *      the maximum number of operations running at once.
+     * @return
+     *      a new {@link ExecutorService}, to be shut down by the caller.
+     */
+    static ExecutorService newExecutor(int concurrency) {
+        int pool = POOLS.incrementAndGet();
+        AtomicInteger threads = new AtomicInteger();
+
+        return Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "groupsio-fanout-" + pool + "-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.lake54.groupsio.api.fanout;
+
+import com.github.lake54.groupsio.api.exception.GroupsIOApiException;
+
+import java.io.IOException;
+
+/**
+ * Operation run against a single group as part of a fan-out.
+ *
+ * @param <T>
+ *      the type of the result of the operation.
+ */
+@FunctionalInterface
+public interface GroupOperation<T> {
+
+    /**
+     * Runs the operation against a group.
+     *
+     * @param groupId
+     *      the group identifier to run against.
+     * @return
+     *      the result for the group.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API.
+     */
+    T apply(int groupId) throws GroupsIOApiException, IOException;
+}
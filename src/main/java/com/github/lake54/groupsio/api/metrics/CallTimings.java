@@ -0,0 +1,272 @@
+package com.github.lake54.groupsio.api.metrics;
+
+import org.immutables.value.Value;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import static org.immutables.value.Value.Style.ImplementationVisibility.PACKAGE;
+
+/**
+ * Breakdown of the time spent in each phase of a single call to the API.
+ *
+ * Network phases are measured by the transport, while the body
+ * transfer and decode phases are measured by the client: time spent
+ * waiting on the socket for more of the body counts as body transfer, and
+ * only the remaining time counts as decode, even when the body is decoded
+ * as it streams in. A phase which did not happen, such as DNS and connect
+ * on a pooled connection, is zero, while a phase the transport cannot
+ * observe is absent; see {@link com.github.lake54.groupsio.api.transport.NetworkTimings}.
+ */
+@Value.Immutable(copy = false)
+@Value.Style(visibility = PACKAGE)
+public abstract class CallTimings {
+
+    /**
+     * The path of the request, such as {@code getmembers}.
+     *
+     * @return the request path.
+     */
+    public abstract String path();
+
+    /**
+     * The HTTP status code of the response.
+     *
+     * @return the status code.
+     */
+    public abstract int status();
+
+    /**
+     * Whether the call used a pooled connection rather than a new one.
+     *
+     * @return true if no connection was established for the call, or empty if unknown.
+     */
+    public abstract Optional<Boolean> connectionReused();
+
+    /**
+     * The time spent resolving the hostname, in nanoseconds.
+     *
+     * @return the DNS time, or empty if unknown.
+     */
+    public abstract Optional<Long> dnsNanos();
+
+    /**
+     * The time spent establishing a connection, including the TLS
+     * handshake, in nanoseconds.
+     *
+     * @return the connect time, or empty if unknown.
+     */
+    public abstract Optional<Long> connectNanos();
+
+    /**
+     * The time spent on the TLS handshake, in nanoseconds.
+     *
+     * @return the TLS time, or empty if unknown.
+     */
+    public abstract Optional<Long> tlsNanos();
+
+    /**
+     * The time spent writing the request headers and body, in nanoseconds.
+     *
+     * @return the request write time, or empty if unknown.
+     */
+    public abstract Optional<Long> requestNanos();
+
+    /**
+     * The time from the request being written to the response headers
+     * being read, in nanoseconds, or from it being sent when the request
+     * write time is unknown. This is dominated by the time the API takes
+     * to handle the request.
+     *
+     * @return the time to first byte.
+     */
+    public abstract long timeToFirstByteNanos();
+
+    /**
+     * The time spent waiting for the response body, in nanoseconds.
+     *
+     * @return the body transfer time.
+     */
+    public abstract long bodyTransferNanos();
+
+    /**
+     * The time spent decoding the response body, in nanoseconds.
+     *
+     * @return the decode time, or zero for error responses.
+     */
+    public abstract long decodeNanos();
+
+    /**
+     * The time from the call starting to the response being decoded, in
+     * nanoseconds.
+     *
+     * @return the total time.
+     */
+    public abstract long totalNanos();
+
+    /**
+     * Formats the timings in milliseconds, for logging. Phases which were
+     * not measured are left out.
+     *
+     * @return a single line description of the timings.
+     */
+    public String describe() {
+        StringBuilder description = new StringBuilder(path())
+            .append(" status=").append(status())
+            .append(" total=").append(millis(totalNanos()));
+
+        dnsNanos().ifPresent(nanos -> description.append(" dns=").append(millis(nanos)));
+        connectNanos().ifPresent(nanos -> description.append(" connect=").append(millis(nanos)));
+        tlsNanos().ifPresent(nanos -> description.append(" tls=").append(millis(nanos)));
+        requestNanos().ifPresent(nanos -> description.append(" request=").append(millis(nanos)));
+
+        description
+            .append(" ttfb=").append(millis(timeToFirstByteNanos()))
+            .append(" body=").append(millis(bodyTransferNanos()))
+            .append(" decode=").append(millis(decodeNanos()));
+
+        if (connectionReused().orElse(false)) {
+            description.append(" reused");
+        }
+
+        return description.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1fms", nanos / 1e6);
+    }
+
+    /**
+     * Returns a builder for the timings of a call.
+     *
+     * @return
+     *      a new {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return ImmutableCallTimings.builder();
+    }
+
+    /**
+     * Builder of {@link CallTimings}.
+     */
+    public interface Builder {
+
+        /**
+         * Sets the path of the request.
+         *
+         * @param path
+         *      the request path.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder path(String path);
+
+        /**
+         * Sets the HTTP status code of the response.
+         *
+         * @param status
+         *      the status code.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder status(int status);
+
+        /**
+         * Sets whether the call used a pooled connection.
+         *
+         * @param connectionReused
+         *      true if no connection was established, or empty if unknown.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder connectionReused(Optional<Boolean> connectionReused);
+
+        /**
+         * Sets the time spent resolving the hostname.
+         *
+         * @param dnsNanos
+         *      the DNS time in nanoseconds, or empty if unknown.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder dnsNanos(Optional<Long> dnsNanos);
+
+        /**
+         * Sets the time spent establishing a connection.
+         *
+         * @param connectNanos
+         *      the connect time in nanoseconds, or empty if unknown.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder connectNanos(Optional<Long> connectNanos);
+
+        /**
+         * Sets the time spent on the TLS handshake.
+         *
+         * @param tlsNanos
+         *      the TLS time in nanoseconds, or empty if unknown.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder tlsNanos(Optional<Long> tlsNanos);
+
+        /**
+         * Sets the time spent writing the request.
+         *
+         * @param requestNanos
+         *      the request write time in nanoseconds, or empty if unknown.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder requestNanos(Optional<Long> requestNanos);
+
+        /**
+         * Sets the time spent waiting for the response headers.
+         *
+         * @param timeToFirstByteNanos
+         *      the time to first byte, in nanoseconds.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder timeToFirstByteNanos(long timeToFirstByteNanos);
+
+        /**
+         * Sets the time spent waiting for the response body.
+         *
+         * @param bodyTransferNanos
+         *      the body transfer time, in nanoseconds.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder bodyTransferNanos(long bodyTransferNanos);
+
+        /**
+         * Sets the time spent decoding the response body.
+         *
+         * @param decodeNanos
+         *      the decode time, in nanoseconds.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder decodeNanos(long decodeNanos);
+
+        /**
+         * Sets the time from the call starting to the response being decoded.
+         *
+         * @param totalNanos
+         *      the total time, in nanoseconds.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder totalNanos(long totalNanos);
+
+        /**
+         * Constructs a new {@link CallTimings} from this builder.
+         *
+         * @return
+         *      a new {@link CallTimings} instance.
+         */
+        CallTimings build();
+    }
+}
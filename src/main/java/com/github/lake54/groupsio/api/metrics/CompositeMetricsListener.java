@@ -0,0 +1,66 @@
+package com.github.lake54.groupsio.api.metrics;
+
+import com.github.lake54.groupsio.api.domain.enums.error.ErrorType;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * {@link MetricsListener} notifying several listeners in turn.
+ */
+class CompositeMetricsListener implements MetricsListener {
+
+    private final List<MetricsListener> listeners;
+
+    /**
+     * Creates a listener notifying each of the provided listeners.
+     *
+     * @param listeners
+     *      the listeners to notify.
+     */
+    CompositeMetricsListener(List<MetricsListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    @Override
+    public void onResponse(String path, int status, long latencyNanos, long responseBytes, long decodeNanos) {
+        for (MetricsListener listener : this.listeners) {
+            listener.onResponse(path, status, latencyNanos, responseBytes, decodeNanos);
+        }
+    }
+
+    @Override
+    public void onError(String path, ErrorType errorType) {
+        for (MetricsListener listener : this.listeners) {
+            listener.onError(path, errorType);
+        }
+    }
+
+    @Override
+    public void onTimings(CallTimings timings) {
+        for (MetricsListener listener : this.listeners) {
+            listener.onTimings(timings);
+        }
+    }
+
+    @Override
+    public void onFailure(String path, IOException exception) {
+        for (MetricsListener listener : this.listeners) {
+            listener.onFailure(path, exception);
+        }
+    }
+
+    @Override
+    public void onRetry(String path, int attempt) {
+        for (MetricsListener listener : this.listeners) {
+            listener.onRetry(path, attempt);
+        }
+    }
+
+    @Override
+    public void onPaginate(String path, int pages) {
+        for (MetricsListener listener : this.listeners) {
+            listener.onPaginate(path, pages);
+        }
+    }
+}
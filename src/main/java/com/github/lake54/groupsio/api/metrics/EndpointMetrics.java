@@ -0,0 +1,169 @@
+package com.github.lake54.groupsio.api.metrics;
+
+import com.github.lake54.groupsio.api.domain.enums.error.ErrorType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics recorded for a single API path by {@link InMemoryMetrics}.
+ *
+ * All values are updated without locking, and can be read at any time.
+ */
+public class EndpointMetrics {
+
+    private final String path;
+    private final Histogram latency = new Histogram();
+    private final Histogram decode = new Histogram();
+    private final Histogram timeToFirstByte = new Histogram();
+    private final Histogram bodyTransfer = new Histogram();
+    private final Histogram responseBytes = new Histogram();
+    private final Histogram pages = new Histogram();
+    private final AtomicLongArray errors = new AtomicLongArray(ErrorType.values().length);
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+
+    /**
+     * Creates empty metrics for a path.
+     *
+     * @param path
+     *      the path the metrics are recorded for.
+     */
+    EndpointMetrics(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Returns the path these metrics are recorded for.
+     *
+     * @return the API path, such as {@code getmembers}.
+     */
+    public String path() {
+        return this.path;
+    }
+
+    /**
+     * Returns the latency of each response, from sending the request to
+     * decoding the response, in nanoseconds.
+     *
+     * @return the latency {@link Histogram.Snapshot}.
+     */
+    public Histogram.Snapshot latency() {
+        return this.latency.snapshot();
+    }
+
+    /**
+     * Returns the time spent decoding each successful response, in nanoseconds.
+     *
+     * @return the decode time {@link Histogram.Snapshot}.
+     */
+    public Histogram.Snapshot decode() {
+        return this.decode.snapshot();
+    }
+
+    /**
+     * Returns the time from each request being written to its response
+     * headers being read, in nanoseconds.
+     *
+     * @return the time to first byte {@link Histogram.Snapshot}.
+     */
+    public Histogram.Snapshot timeToFirstByte() {
+        return this.timeToFirstByte.snapshot();
+    }
+
+    /**
+     * Returns the time spent waiting for each response body, in nanoseconds.
+     *
+     * @return the body transfer time {@link Histogram.Snapshot}.
+     */
+    public Histogram.Snapshot bodyTransfer() {
+        return this.bodyTransfer.snapshot();
+    }
+
+    /**
+     * Returns the size of each response body, in bytes.
+     *
+     * @return the response size {@link Histogram.Snapshot}.
+     */
+    public Histogram.Snapshot responseBytes() {
+        return this.responseBytes.snapshot();
+    }
+
+    /**
+     * Returns the number of pages read by each paginated request.
+     *
+     * @return the page count {@link Histogram.Snapshot}.
+     */
+    public Histogram.Snapshot pages() {
+        return this.pages.snapshot();
+    }
+
+    /**
+     * Returns the number of errors returned by the API, by type.
+     *
+     * @return a {@link Map} of error counts, omitting types never seen.
+     */
+    public Map<ErrorType, Long> errors() {
+        Map<ErrorType, Long> errors = new EnumMap<>(ErrorType.class);
+
+        for (ErrorType type : ErrorType.values()) {
+            long count = this.errors.get(type.ordinal());
+
+            if (count > 0) {
+                errors.put(type, count);
+            }
+        }
+
+        return errors;
+    }
+
+    /**
+     * Returns the number of calls which failed without a response.
+     *
+     * @return the number of failures.
+     */
+    public long failures() {
+        return this.failures.sum();
+    }
+
+    /**
+     * Returns the number of retries made.
+     *
+     * @return the number of retries.
+     */
+    public long retries() {
+        return this.retries.sum();
+    }
+
+    void recordResponse(long latencyNanos, long responseBytes, long decodeNanos, boolean successful) {
+        this.latency.record(latencyNanos);
+        this.responseBytes.record(responseBytes);
+
+        if (successful) {
+            this.decode.record(decodeNanos);
+        }
+    }
+
+    void recordTimings(CallTimings timings) {
+        this.timeToFirstByte.record(timings.timeToFirstByteNanos());
+        this.bodyTransfer.record(timings.bodyTransferNanos());
+    }
+
+    void recordError(ErrorType errorType) {
+        this.errors.incrementAndGet(errorType.ordinal());
+    }
+
+    void recordFailure() {
+        this.failures.increment();
+    }
+
+    void recordRetry() {
+        this.retries.increment();
+    }
+
+    void recordPages(int pages) {
+        this.pages.record(pages);
+    }
+}
@@ -0,0 +1,184 @@
+package com.github.lake54.groupsio.api.metrics;
+
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative values, such as latencies in nanoseconds.
+ *
+ * Values are counted into log-linear buckets in the style of an HDR
+ * histogram: each power of two is split into 32 linear sub-buckets, so any
+ * recorded value is reported within about 3% of its true value while the
+ * whole range of a {@code long} fits in under two thousand counters.
+ *
+ * Recording a value is a handful of atomic increments and never blocks,
+ * so it is safe to use on the request path. Snapshots are taken without
+ * stopping writers, and so may include some values recorded while the
+ * snapshot was being taken.
+ */
+public class Histogram {
+
+    /**
+     * The number of bits used to split each power of two into sub-buckets.
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * The number of sub-buckets in each power of two.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The number of buckets needed to cover every non-negative long.
+     */
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a single value.
+     *
+     * @param value
+     *      the value to record, with negative values recorded as zero.
+     */
+    public void record(long value) {
+        long recorded = Math.max(0, value);
+
+        this.counts.incrementAndGet(bucket(recorded));
+        this.sum.add(recorded);
+        this.max.accumulate(recorded);
+    }
+
+    /**
+     * Takes a snapshot of the values recorded so far.
+     *
+     * @return a {@link Snapshot} of this histogram.
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = this.counts.get(i);
+            total += counts[i];
+        }
+
+        return new Snapshot(counts, total, this.sum.sum(), this.max.get());
+    }
+
+    /**
+     * Returns the bucket a value is counted in.
+     */
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    /**
+     * Returns the highest value counted in a bucket.
+     */
+    static long highestValue(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS + SUB_BUCKETS;
+
+        // wraps to Long.MAX_VALUE for the last bucket
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * A point in time view of a {@link Histogram}.
+     */
+    public static class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        /**
+         * Returns the number of values recorded.
+         *
+         * @return the number of values.
+         */
+        public long count() {
+            return this.count;
+        }
+
+        /**
+         * Returns the sum of all values recorded.
+         *
+         * @return the sum of the values.
+         */
+        public long sum() {
+            return this.sum;
+        }
+
+        /**
+         * Returns the largest value recorded.
+         *
+         * @return the largest value, or zero if none were recorded.
+         */
+        public long max() {
+            return this.max;
+        }
+
+        /**
+         * Returns the mean of all values recorded.
+         *
+         * @return the mean value, or zero if none were recorded.
+         */
+        public double mean() {
+            return this.count == 0 ? 0 : (double) this.sum / this.count;
+        }
+
+        /**
+         * Returns the value at a percentile, such as 99.9.
+         *
+         * @param percentile
+         *      the percentile to find, between 0 and 100.
+         * @return
+         *      the highest value of the bucket holding the percentile, or
+         *      zero if no values were recorded.
+         */
+        public long percentile(double percentile) {
+            Preconditions.checkArgument(percentile >= 0 && percentile <= 100, "percentile must be between 0 and 100");
+
+            if (this.count == 0) {
+                return 0;
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * this.count));
+            long seen = 0;
+
+            for (int i = 0; i < this.counts.length; i++) {
+                seen += this.counts[i];
+
+                if (seen >= rank) {
+                    return Math.min(highestValue(i), this.max);
+                }
+            }
+
+            return this.max;
+        }
+    }
+}
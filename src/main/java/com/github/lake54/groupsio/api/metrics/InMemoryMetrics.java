@@ -0,0 +1,103 @@
+package com.github.lake54.groupsio.api.metrics;
+
+import com.github.lake54.groupsio.api.domain.enums.error.ErrorType;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link MetricsListener} which keeps metrics in memory, per API path.
+ *
+ * Metrics are held in lock-free {@link Histogram}s and counters, so that
+ * recording never blocks a call. The metrics for a path are created the
+ * first time it is called, and can be read at any time.
+ *
+ * <pre>
+ * InMemoryMetrics metrics = new InMemoryMetrics();
+ * GroupsIOApiClient client = GroupsIOApiClient
+ *     .builder(apiKey)
+ *         .metricsListener(metrics)
+ *     .build();
+ *
+ * EndpointMetrics members = metrics.get("getmembers");
+ * long p99 = members.latency().percentile(99);
+ * </pre>
+ */
+public class InMemoryMetrics implements MetricsListener {
+
+    /**
+     * The metrics recorded for each path.
+     */
+    private final ConcurrentMap<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the metrics recorded for a path.
+     *
+     * @param path
+     *      the path to lookup, such as {@code getmembers}.
+     * @return
+     *      the {@link EndpointMetrics} of the path, or null if it was never called.
+     */
+    @Nullable
+    public EndpointMetrics get(String path) {
+        return this.endpoints.get(path);
+    }
+
+    /**
+     * Returns the metrics recorded for every path called so far.
+     *
+     * @return a {@link Map} of {@link EndpointMetrics}, sorted by path.
+     */
+    public Map<String, EndpointMetrics> getAll() {
+        return new TreeMap<>(this.endpoints);
+    }
+
+    /**
+     * Discards all metrics recorded so far.
+     */
+    public void reset() {
+        this.endpoints.clear();
+    }
+
+    @Override
+    public void onResponse(String path, int status, long latencyNanos, long responseBytes, long decodeNanos) {
+        endpoint(path).recordResponse(latencyNanos, responseBytes, decodeNanos, status >= 200 && status < 300);
+    }
+
+    @Override
+    public void onError(String path, ErrorType errorType) {
+        endpoint(path).recordError(errorType);
+    }
+
+    @Override
+    public void onTimings(CallTimings timings) {
+        endpoint(timings.path()).recordTimings(timings);
+    }
+
+    @Override
+    public void onFailure(String path, IOException exception) {
+        endpoint(path).recordFailure();
+    }
+
+    @Override
+    public void onRetry(String path, int attempt) {
+        endpoint(path).recordRetry();
+    }
+
+    @Override
+    public void onPaginate(String path, int pages) {
+        endpoint(path).recordPages(pages);
+    }
+
+    /**
+     * Returns the metrics of a path, creating them on first use.
+     */
+    private EndpointMetrics endpoint(String path) {
+        EndpointMetrics metrics = this.endpoints.get(path);
+        return metrics != null ? metrics : this.endpoints.computeIfAbsent(path, EndpointMetrics::new);
+    }
+}
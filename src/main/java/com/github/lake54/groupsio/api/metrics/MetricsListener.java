@@ -0,0 +1,99 @@
+package com.github.lake54.groupsio.api.metrics;
+
+import com.github.lake54.groupsio.api.domain.enums.error.ErrorType;
+import com.google.common.collect.ImmutableList;
+
+import java.io.IOException;
+
+/**
+ * Listener notified of the calls made by a client, used to record metrics.
+ *
+ * Every method is called on the thread making or completing the call, so
+ * implementations must be thread safe and should never block. All methods
+ * do nothing by default, so implementations only override what they need.
+ */
+public interface MetricsListener {
+
+    /**
+     * A listener which ignores all calls.
+     */
+    MetricsListener NONE = new MetricsListener() { };
+
+    /**
+     * Called once for every HTTP response received from the API.
+     *
+     * @param path
+     *      the path of the request, such as {@code getmembers}.
+     * @param status
+     *      the HTTP status code of the response.
+     * @param latencyNanos
+     *      the time from sending the request to decoding the response.
+     * @param responseBytes
+     *      the size of the response body.
+     * @param decodeNanos
+     *      the time spent decoding the response body, or zero for errors.
+     */
+    default void onResponse(String path, int status, long latencyNanos, long responseBytes, long decodeNanos) { }
+
+    /**
+     * Called when the API rejects a call with an error.
+     *
+     * @param path
+     *      the path of the request.
+     * @param errorType
+     *      the type of the error returned by the API.
+     */
+    default void onError(String path, ErrorType errorType) { }
+
+    /**
+     * Called once for every HTTP response received from the API, with the
+     * time spent in each phase of the call.
+     *
+     * @param timings
+     *      the {@link CallTimings} of the call.
+     */
+    default void onTimings(CallTimings timings) { }
+
+    /**
+     * Called when a call fails without an error from the API, such as on
+     * a connection failure, a timeout or an unreadable response.
+     *
+     * @param path
+     *      the path of the request.
+     * @param exception
+     *      the failure of the call.
+     */
+    default void onFailure(String path, IOException exception) { }
+
+    /**
+     * Called when a failed call is about to be retried.
+     *
+     * @param path
+     *      the path of the request.
+     * @param attempt
+     *      the number of the attempt which failed, starting from one.
+     */
+    default void onRetry(String path, int attempt) { }
+
+    /**
+     * Called when a paginated request has read all of its pages.
+     *
+     * @param path
+     *      the path of the request.
+     * @param pages
+     *      the number of pages read.
+     */
+    default void onPaginate(String path, int pages) { }
+
+    /**
+     * Combines several listeners into one, notifying each in turn.
+     *
+     * @param listeners
+     *      the listeners to notify.
+     * @return
+     *      a {@link MetricsListener} notifying every listener.
+     */
+    static MetricsListener all(MetricsListener... listeners) {
+        return new CompositeMetricsListener(ImmutableList.copyOf(listeners));
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.lake54.groupsio.api.metrics;
+
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link MetricsListener} logging the phase breakdown of slow calls.
+ *
+ * Any call taking at least the threshold is a slow call. To keep a burst
+ * of slow calls from flooding the log, at most one slow call is logged per
+ * path in each sample interval, along with the number of slow calls which
+ * were skipped since the last one logged. Calls are logged as warnings to
+ * {@code java.util.logging}, under the name of this class.
+ */
+public class SlowCallLogger implements MetricsListener {
+
+    /**
+     * The logger slow calls are written to.
+     */
+    private static final Logger LOGGER = Logger.getLogger(SlowCallLogger.class.getName());
+
+    /**
+     * The time from which a call counts as slow, in nanoseconds.
+     */
+    private final long thresholdNanos;
+
+    /**
+     * The minimum time between two logged calls of the same path, in nanoseconds.
+     */
+    private final long intervalNanos;
+
+    /**
+     * The state of the sampling of each path.
+     */
+    private final ConcurrentMap<String, Sample> samples = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a logger writing at most one slow call per path every ten seconds.
+     *
+     * @param threshold
+     *      the time from which a call counts as slow.
+     * @param unit
+     *      the unit of the threshold.
+     */
+    public SlowCallLogger(long threshold, @Nonnull TimeUnit unit) {
+        this(threshold, unit, 10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Creates a logger for slow calls.
+     *
+     * @param threshold
+     *      the time from which a call counts as slow.
+     * @param thresholdUnit
+     *      the unit of the threshold.
+     * @param interval
+     *      the minimum time between two logged calls of the same path.
+     * @param intervalUnit
+     *      the unit of the interval.
+     */
+    public SlowCallLogger(long threshold, @Nonnull TimeUnit thresholdUnit, long interval, @Nonnull TimeUnit intervalUnit) {
+        Preconditions.checkArgument(threshold >= 0, "threshold must not be negative");
+        Preconditions.checkArgument(interval >= 0, "interval must not be negative");
+
+        this.thresholdNanos = thresholdUnit.toNanos(threshold);
+        this.intervalNanos = intervalUnit.toNanos(interval);
+    }
+
+    @Override
+    public void onTimings(CallTimings timings) {
+        if (timings.totalNanos() < this.thresholdNanos || !LOGGER.isLoggable(Level.WARNING)) {
+            return;
+        }
+
+        Sample sample = this.samples.computeIfAbsent(timings.path(), path -> new Sample());
+        long now = System.nanoTime();
+        long last = sample.lastLogged.get();
+
+        if ((last != 0 && now - last < this.intervalNanos) || !sample.lastLogged.compareAndSet(last, now)) {
+            sample.skipped.increment();
+            return;
+        }
+
+        long skipped = sample.skipped.sumThenReset();
+
+        LOGGER.warning("Slow call: " + timings.describe() + (skipped > 0 ? " (" + skipped + " more skipped)" : ""));
+    }
+
+    /**
+     * The sampling state of a single path.
+     */
+    private static class Sample {
+
+        private final AtomicLong lastLogged = new AtomicLong();
+        private final LongAdder skipped = new LongAdder();
+    }
+}
@@ -0,0 +1,248 @@
+package com.github.lake54.groupsio.api.ratelimit;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+
+import javax.annotation.Nonnull;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket rate limiter which adapts its rate to the API's limits.
+ *
+ * Every call made by a client takes a permit from the bucket, which is
+ * refilled at the current rate up to a burst capacity. The rate follows an
+ * additive-increase/multiplicative-decrease scheme: each successful call
+ * raises the rate slightly, while each {@code rate_limit} error cuts it by
+ * a constant factor. A Retry-After hint from the API pauses all permits
+ * until the hinted time has passed.
+ */
+public class AdaptiveRateLimiter {
+
+    /**
+     * The default rate to start from, in calls per second.
+     */
+    public static final double DEFAULT_INITIAL_RATE = 10;
+
+    /**
+     * The default lowest rate the limiter will back off to.
+     */
+    public static final double DEFAULT_MINIMUM_RATE = 0.5;
+
+    /**
+     * The default highest rate the limiter will probe up to.
+     */
+    public static final double DEFAULT_MAXIMUM_RATE = 50;
+
+    /**
+     * The default rate increase applied after each successful call.
+     */
+    public static final double DEFAULT_INCREASE = 0.05;
+
+    /**
+     * The default factor applied to the rate after a rate limit error.
+     */
+    public static final double DEFAULT_DECREASE_FACTOR = 0.5;
+
+    /**
+     * The minimum time between two decreases, so a burst of errors from
+     * calls already in flight only counts as a single signal.
+     */
+    private static final long DECREASE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * The lowest rate the limiter will back off to.
+     */
+    private final double minimumRate;
+
+    /**
+     * The highest rate the limiter will probe up to.
+     */
+    private final double maximumRate;
+
+    /**
+     * The rate increase applied after each successful call.
+     */
+    private final double increase;
+
+    /**
+     * The factor applied to the rate after a rate limit error.
+     */
+    private final double decreaseFactor;
+
+    /**
+     * The ticker used to measure time.
+     */
+    private final Ticker ticker;
+
+    /**
+     * The current rate, in calls per second.
+     */
+    private double rate;
+
+    /**
+     * The permits currently available; negative values are permits already
+     * promised to waiting callers.
+     */
+    private double permits;
+
+    /**
+     * The time the permits were last refilled.
+     */
+    private long refilledAt;
+
+    /**
+     * The time before which no permits will be handed out.
+     */
+    private long pausedUntil;
+
+    /**
+     * The time of the last rate decrease.
+     */
+    private long decreasedAt;
+
+    /**
+     * Creates a limiter with the default rates.
+     */
+    public AdaptiveRateLimiter() {
+        this(DEFAULT_INITIAL_RATE, DEFAULT_MINIMUM_RATE, DEFAULT_MAXIMUM_RATE);
+    }
+
+    /**
+     * Creates a limiter with custom rates, using the default increase and
+     * decrease factor.
+     *
+     * @param initialRate
+     *      the rate to start from, in calls per second.
+     * @param minimumRate
+     *      the lowest rate to back off to.
+     * @param maximumRate
+     *      the highest rate to probe up to.
+     */
+    public AdaptiveRateLimiter(double initialRate, double minimumRate, double maximumRate) {
+        this(initialRate, minimumRate, maximumRate, DEFAULT_INCREASE, DEFAULT_DECREASE_FACTOR, Ticker.systemTicker());
+    }
+
+    /**
+     * Creates a limiter with fully custom settings.
+     *
+     * @param initialRate
+     *      the rate to start from, in calls per second.
+     * @param minimumRate
+     *      the lowest rate to back off to.
+     * @param maximumRate
+     *      the highest rate to probe up to.
+     * @param increase
+     *      the rate increase applied after each successful call.
+     * @param decreaseFactor
+     *      the factor applied to the rate after a rate limit error.
+     * @param ticker
+     *      the {@link Ticker} used to measure time.
+     */
+    public AdaptiveRateLimiter(double initialRate, double minimumRate, double maximumRate,
+                               double increase, double decreaseFactor, @Nonnull Ticker ticker) {
+        Preconditions.checkArgument(minimumRate > 0, "minimumRate must be positive");
+        Preconditions.checkArgument(maximumRate >= minimumRate, "maximumRate must not be below minimumRate");
+        Preconditions.checkArgument(initialRate >= minimumRate && initialRate <= maximumRate, "initialRate must be within bounds");
+        Preconditions.checkArgument(increase >= 0, "increase must not be negative");
+        Preconditions.checkArgument(decreaseFactor > 0 && decreaseFactor < 1, "decreaseFactor must be between 0 and 1");
+
+        this.minimumRate = minimumRate;
+        this.maximumRate = maximumRate;
+        this.increase = increase;
+        this.decreaseFactor = decreaseFactor;
+        this.ticker = Preconditions.checkNotNull(ticker);
+        this.rate = initialRate;
+        this.permits = 1;
+        this.refilledAt = ticker.read();
+        this.pausedUntil = this.refilledAt;
+        this.decreasedAt = this.refilledAt - DECREASE_INTERVAL_NANOS;
+    }
+
+    /**
+     * Takes a permit, blocking until one is available.
+     *
+     * @throws InterruptedIOException
+     *      if the thread is interrupted while waiting.
+     */
+    public void acquire() throws InterruptedIOException {
+        long wait = reserve();
+
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted waiting for rate limit");
+            }
+        }
+    }
+
+    /**
+     * Takes a permit without blocking, returning how long the caller must
+     * wait before using it.
+     *
+     * @return the wait in nanoseconds, or zero if the permit can be used now.
+     */
+    public synchronized long reserve() {
+        long now = this.ticker.read();
+        refill(now);
+
+        this.permits -= 1;
+
+        long untilPermit = this.permits >= 0 ? 0 : (long) (-this.permits / this.rate * TimeUnit.SECONDS.toNanos(1));
+        return Math.max(untilPermit, this.pausedUntil - now);
+    }
+
+    /**
+     * Records a successful call, probing the rate upwards.
+     */
+    public synchronized void onSuccess() {
+        this.rate = Math.min(this.maximumRate, this.rate + this.increase);
+    }
+
+    /**
+     * Records a rate limit error, backing the rate off and pausing for the
+     * hinted duration if one was provided.
+     *
+     * @param retryAfterNanos
+     *      the Retry-After hint in nanoseconds, or zero if none was given.
+     */
+    public synchronized void onRateLimited(long retryAfterNanos) {
+        long now = this.ticker.read();
+        refill(now);
+
+        if (now - this.decreasedAt >= DECREASE_INTERVAL_NANOS) {
+            this.rate = Math.max(this.minimumRate, this.rate * this.decreaseFactor);
+            this.decreasedAt = now;
+        }
+
+        this.permits = Math.min(this.permits, 0);
+
+        if (retryAfterNanos > 0) {
+            this.pausedUntil = Math.max(this.pausedUntil, now + retryAfterNanos);
+        }
+    }
+
+    /**
+     * Returns the current rate of the limiter.
+     *
+     * @return the rate in calls per second.
+     */
+    public synchronized double getRate() {
+        return this.rate;
+    }
+
+    /**
+     * Refills the permits based on the time elapsed since the last refill,
+     * capping them at a burst of one second's worth of calls.
+     *
+     * @param now
+     *      the current ticker reading.
+     */
+    private void refill(long now) {
+        double elapsed = (now - this.refilledAt) / (double) TimeUnit.SECONDS.toNanos(1);
+        this.permits = Math.min(Math.max(this.rate, 1), this.permits + elapsed * this.rate);
+        this.refilledAt = now;
+    }
+}
@@ -0,0 +1,199 @@
+package com.github.lake54.groupsio.api.replay;
+
+import com.github.lake54.groupsio.api.GroupsIOApiRequest;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import okio.Buffer;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A single request and response captured by a {@link RecordingTransport}.
+ *
+ * Requests are identified by their key, built from the method and path of
+ * the {@link GroupsIOApiRequest} and a digest of its params and body. Responses keep their
+ * status code, headers and body, along with how long the response headers
+ * and body took to arrive.
+ */
+public class RecordedExchange {
+
+    /**
+     * The hash function used to digest request params and bodies into keys.
+     */
+    private static final HashFunction DIGEST = Hashing.sha256();
+
+    /**
+     * Params which are left out of keys entirely, as even a digest of a
+     * weak secret can be reversed by guessing.
+     */
+    private static final Set<String> SECRET_PARAMS = ImmutableSet.of("password");
+
+    private final String key;
+    private final int status;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+    private final long headersNanos;
+    private final long bodyNanos;
+
+    /**
+     * Creates a recorded exchange.
+     *
+     * @param key
+     *      the key of the request.
+     * @param status
+     *      the HTTP status code of the response.
+     * @param headers
+     *      the headers of the response.
+     * @param body
+     *      the body of the response, which is not copied.
+     * @param headersNanos
+     *      the time from sending the request to receiving the response headers.
+     * @param bodyNanos
+     *      the time spent receiving the response body.
+     */
+    RecordedExchange(String key, int status, Map<String, List<String>> headers, byte[] body, long headersNanos, long bodyNanos) {
+        Map<String, List<String>> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (header.getKey() != null) {
+                copy.put(header.getKey(), Collections.unmodifiableList(new ArrayList<>(header.getValue())));
+            }
+        }
+
+        this.key = key;
+        this.status = status;
+        this.headers = Collections.unmodifiableMap(copy);
+        this.body = body;
+        this.headersNanos = headersNanos;
+        this.bodyNanos = bodyNanos;
+    }
+
+    /**
+     * Returns the key identifying a request, made of its method and path,
+     * followed by a digest of its params and body, if it has any; such as
+     * {@code GET getgroups}, or {@code POST directadd#3f2a9c1d0b7e4a56}.
+     * The digest keeps apart requests which only differ by their params or
+     * form fields, such as the chunks of a bulk operation, while keeping
+     * their values out of saved recordings. Secret params, such as the
+     * password used to login, are left out of the digest.
+     *
+     * @param request
+     *      the request to identify.
+     * @return
+     *      the key of the request.
+     * @throws IOException
+     *      on any errors reading the request body.
+     */
+    public static String key(GroupsIOApiRequest request) throws IOException {
+        Hasher digest = DIGEST.newHasher();
+        boolean digested = false;
+
+        for (Map.Entry<String, List<String>> param : new TreeMap<>(request.params()).entrySet()) {
+            if (SECRET_PARAMS.contains(param.getKey())) {
+                continue;
+            }
+
+            for (String value : param.getValue()) {
+                digest.putInt(param.getKey().length()).putUnencodedChars(param.getKey());
+                digest.putInt(value.length()).putUnencodedChars(value);
+                digested = true;
+            }
+        }
+
+        if (request.body().isPresent()) {
+            Buffer body = new Buffer();
+            request.body().get().writeTo(body);
+            digest.putLong(body.size()).putBytes(body.readByteArray());
+            digested = true;
+        }
+
+        String key = request.method() + ' ' + request.path();
+        return digested ? key + '#' + digest.hash().toString().substring(0, 16) : key;
+    }
+
+    /**
+     * Returns the key of the request.
+     *
+     * @return the key, as given by {@link #key(GroupsIOApiRequest)}.
+     */
+    public String key() {
+        return this.key;
+    }
+
+    /**
+     * Returns the HTTP status code of the response.
+     *
+     * @return the status code.
+     */
+    public int status() {
+        return this.status;
+    }
+
+    /**
+     * Returns the headers of the response.
+     *
+     * @return a {@link Map} of header values, with names compared ignoring case.
+     */
+    public Map<String, List<String>> headers() {
+        return this.headers;
+    }
+
+    /**
+     * Returns the first value of a header of the response.
+     *
+     * @param name
+     *      the name of the header, ignoring case.
+     * @return
+     *      the header value, or null if the header is not present.
+     */
+    @Nullable
+    public String header(String name) {
+        List<String> values = this.headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    /**
+     * Returns the size of the response body.
+     *
+     * @return the number of bytes in the body.
+     */
+    public int bodyLength() {
+        return this.body.length;
+    }
+
+    /**
+     * Returns the time from sending the request to receiving the response
+     * headers, in nanoseconds.
+     *
+     * @return the recorded time to the response headers.
+     */
+    public long headersNanos() {
+        return this.headersNanos;
+    }
+
+    /**
+     * Returns the time spent receiving the response body, in nanoseconds.
+     *
+     * @return the recorded body transfer time.
+     */
+    public long bodyNanos() {
+        return this.bodyNanos;
+    }
+
+    /**
+     * Returns the body of the response, shared rather than copied, so it
+     * must not be modified.
+     */
+    byte[] body() {
+        return this.body;
+    }
+}
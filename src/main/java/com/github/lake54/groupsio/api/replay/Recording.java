@@ -0,0 +1,235 @@
+package com.github.lake54.groupsio.api.replay;
+
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An ordered collection of {@link RecordedExchange}s, which can be saved
+ * to and loaded from disk.
+ *
+ * Recordings are written in a compact binary format, compressed as a
+ * whole with gzip; the JSON bodies of the API compress well, so even large
+ * captures stay small. The format is as follows, with strings written as
+ * their length in bytes (int) followed by their UTF-8 bytes:
+ *
+ * <pre>
+ * magic "GIOR" (int), version (byte), exchange count (int)
+ * per exchange:
+ *   key (string), status (short), headers nanos (long), body nanos (long)
+ *   header count (short), per header: name (string), value count (short), values (string)
+ *   body length (int), body (bytes)
+ * </pre>
+ *
+ * Exchanges are added in the order their responses completed, and may be
+ * added from many threads at once.
+ */
+public class Recording {
+
+    /**
+     * The magic number starting every recording, "GIOR".
+     */
+    private static final int MAGIC = 0x47494F52;
+
+    /**
+     * The version of the format written; version 2 added the method and
+     * body digest to keys, and version 3 moved the params into the digest
+     * and lifted the 64 KB limit on strings, so earlier recordings would
+     * never match.
+     */
+    private static final byte VERSION = 3;
+
+    /**
+     * The exchanges recorded so far.
+     */
+    private final ConcurrentLinkedQueue<RecordedExchange> exchanges = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Returns the exchanges recorded so far, in the order they completed.
+     *
+     * @return a {@link List} of {@link RecordedExchange}s.
+     */
+    public List<RecordedExchange> exchanges() {
+        return new ArrayList<>(this.exchanges);
+    }
+
+    /**
+     * Returns the number of exchanges recorded so far.
+     *
+     * @return the number of exchanges.
+     */
+    public int size() {
+        return this.exchanges.size();
+    }
+
+    /**
+     * Saves this recording to a file, replacing any existing file.
+     *
+     * @param path
+     *      the file to write to.
+     * @throws IOException
+     *      on any errors writing the file.
+     */
+    public void save(@Nonnull Path path) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            write(out);
+        }
+    }
+
+    /**
+     * Writes this recording to a stream, without closing it.
+     *
+     * @param out
+     *      the stream to write to.
+     * @throws IOException
+     *      on any errors writing to the stream.
+     */
+    public void write(@Nonnull OutputStream out) throws IOException {
+        List<RecordedExchange> exchanges = exchanges();
+        GZIPOutputStream gzip = new GZIPOutputStream(out);
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(gzip));
+
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeInt(exchanges.size());
+
+        for (RecordedExchange exchange : exchanges) {
+            writeString(data, exchange.key());
+            data.writeShort(exchange.status());
+            data.writeLong(exchange.headersNanos());
+            data.writeLong(exchange.bodyNanos());
+            data.writeShort(exchange.headers().size());
+
+            for (Map.Entry<String, List<String>> header : exchange.headers().entrySet()) {
+                writeString(data, header.getKey());
+                data.writeShort(header.getValue().size());
+
+                for (String value : header.getValue()) {
+                    writeString(data, value);
+                }
+            }
+
+            data.writeInt(exchange.bodyLength());
+            data.write(exchange.body());
+        }
+
+        data.flush();
+        gzip.finish();
+    }
+
+    /**
+     * Loads a recording from a file.
+     *
+     * @param path
+     *      the file to read from.
+     * @return
+     *      the {@link Recording} held in the file.
+     * @throws IOException
+     *      on any errors reading the file, or if it is not a recording.
+     */
+    public static Recording load(@Nonnull Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads a recording from a stream, without closing it.
+     *
+     * @param in
+     *      the stream to read from.
+     * @return
+     *      the {@link Recording} read from the stream.
+     * @throws IOException
+     *      on any errors reading the stream, or if it is not a recording.
+     */
+    public static Recording read(@Nonnull InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(new GZIPInputStream(in)));
+
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a recording");
+        }
+
+        byte version = data.readByte();
+
+        if (version != VERSION) {
+            throw new IOException("Unsupported recording version: " + version);
+        }
+
+        Recording recording = new Recording();
+        int count = data.readInt();
+
+        for (int i = 0; i < count; i++) {
+            String key = readString(data);
+            int status = data.readUnsignedShort();
+            long headersNanos = data.readLong();
+            long bodyNanos = data.readLong();
+            int headerCount = data.readUnsignedShort();
+            Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+            for (int h = 0; h < headerCount; h++) {
+                String name = readString(data);
+                int valueCount = data.readUnsignedShort();
+                List<String> values = new ArrayList<>(valueCount);
+
+                for (int v = 0; v < valueCount; v++) {
+                    values.add(readString(data));
+                }
+
+                headers.put(name, values);
+            }
+
+            byte[] body = new byte[data.readInt()];
+            data.readFully(body);
+
+            recording.add(new RecordedExchange(key, status, headers, body, headersNanos, bodyNanos));
+        }
+
+        return recording;
+    }
+
+    /**
+     * Writes a string as its length in bytes followed by its UTF-8 bytes.
+     */
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+     */
+    private static String readString(DataInputStream data) throws IOException {
+        byte[] bytes = new byte[data.readInt()];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Adds an exchange to this recording.
+     *
+     * @param exchange
+     *      the {@link RecordedExchange} to add.
+     */
+    void add(RecordedExchange exchange) {
+        this.exchanges.add(Preconditions.checkNotNull(exchange));
+    }
+}
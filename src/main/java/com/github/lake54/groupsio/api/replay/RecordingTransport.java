@@ -0,0 +1,126 @@
+package com.github.lake54.groupsio.api.replay;
+
+import com.github.lake54.groupsio.api.transport.Transport;
+import com.github.lake54.groupsio.api.transport.TransportRequest;
+import com.github.lake54.groupsio.api.transport.TransportResponse;
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * {@link Transport} recording every exchange made through another transport.
+ *
+ * Each response is read in full as it arrives and added to a
+ * {@link Recording}, along with the time taken by its headers and body,
+ * before being handed to the client. The recording can then be saved, and
+ * replayed offline with a {@link ReplayTransport}.
+ *
+ * <pre>
+ * Recording recording = new Recording();
+ * GroupsIOApiClient client = GroupsIOApiClient
+ *     .builder(apiKey)
+ *         .transport(new RecordingTransport(Transports.okHttp(TransportSettings.defaults()), recording))
+ *     .build();
+ *
+ * client.member().getMembersInGroup(groupId);
+ * recording.save(Paths.get("members.gior"));
+ * </pre>
+ */
+public class RecordingTransport implements Transport {
+
+    /**
+     * The transport actually sending requests.
+     */
+    private final Transport delegate;
+
+    /**
+     * The recording exchanges are added to.
+     */
+    private final Recording recording;
+
+    /**
+     * Creates a transport recording the exchanges of another.
+     *
+     * @param delegate
+     *      the {@link Transport} to send requests with.
+     * @param recording
+     *      the {@link Recording} to add exchanges to.
+     */
+    public RecordingTransport(@Nonnull Transport delegate, @Nonnull Recording recording) {
+        this.delegate = Preconditions.checkNotNull(delegate);
+        this.recording = Preconditions.checkNotNull(recording);
+    }
+
+    /**
+     * Returns the recording exchanges are added to.
+     *
+     * @return the {@link Recording} of this transport.
+     */
+    public Recording getRecording() {
+        return this.recording;
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        long start = System.nanoTime();
+        TransportResponse response = this.delegate.execute(request);
+        return record(request, response, start, System.nanoTime());
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> executeAsync(TransportRequest request) {
+        long start = System.nanoTime();
+
+        return this.delegate.executeAsync(request).thenApply(response -> {
+            try {
+                return record(request, response, start, System.nanoTime());
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        this.delegate.close();
+    }
+
+    /**
+     * Reads a response in full and adds it to the recording.
+     *
+     * @param request
+     *      the request the response is for.
+     * @param response
+     *      the response to record, which is closed.
+     * @param start
+     *      the time the request was sent.
+     * @param headers
+     *      the time the response headers were received.
+     * @return
+     *      a {@link TransportResponse} serving the recorded body.
+     * @throws IOException
+     *      on any errors reading the body.
+     */
+    private TransportResponse record(TransportRequest request, TransportResponse response, long start, long headers) throws IOException {
+        byte[] body;
+
+        try (TransportResponse closing = response) {
+            body = closing.bytes();
+        }
+
+        RecordedExchange exchange = new RecordedExchange(
+            RecordedExchange.key(request.request()),
+            response.code(),
+            response.headers(),
+            body,
+            headers - start,
+            System.nanoTime() - headers
+        );
+
+        this.recording.add(exchange);
+        return new ReplayedResponse(exchange, response.timings());
+    }
+}
@@ -0,0 +1,161 @@
+package com.github.lake54.groupsio.api.replay;
+
+import com.github.lake54.groupsio.api.transport.NetworkTimings;
+import com.github.lake54.groupsio.api.transport.Transport;
+import com.github.lake54.groupsio.api.transport.TransportRequest;
+import com.github.lake54.groupsio.api.transport.TransportResponse;
+import com.github.lake54.groupsio.api.util.Delays;
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link Transport} serving responses from a {@link Recording}, without
+ * touching the network.
+ *
+ * Each request is matched to the exchanges recorded with the same key,
+ * as given by {@link RecordedExchange#key(com.github.lake54.groupsio.api.GroupsIOApiRequest)}.
+ * When a key was recorded several times, such as a failed call followed
+ * by its retry, the recorded responses are served in order, and the last
+ * one is served again once all have been used; replays are therefore
+ * deterministic, and can be repeated for as long as needed. A request
+ * which was never recorded fails with an {@link IOException}.
+ *
+ * Responses are either served at full speed, or after waiting for the
+ * time their headers and body took to arrive when recorded.
+ *
+ * <pre>
+ * GroupsIOApiClient client = GroupsIOApiClient
+ *     .builder(apiKey)
+ *         .transport(ReplayTransport.fullSpeed(Recording.load(Paths.get("members.gior"))))
+ *     .build();
+ * </pre>
+ */
+public class ReplayTransport implements Transport {
+
+    /**
+     * The recorded exchanges of each key, in the order they were recorded.
+     */
+    private final Map<String, List<RecordedExchange>> exchanges = new HashMap<>();
+
+    /**
+     * The number of times each key has been served.
+     */
+    private final Map<String, AtomicInteger> served = new HashMap<>();
+
+    /**
+     * Whether responses are delayed by their recorded latency.
+     */
+    private final boolean recordedLatency;
+
+    private ReplayTransport(Recording recording, boolean recordedLatency) {
+        for (RecordedExchange exchange : recording.exchanges()) {
+            this.exchanges.computeIfAbsent(exchange.key(), key -> new ArrayList<>()).add(exchange);
+            this.served.computeIfAbsent(exchange.key(), key -> new AtomicInteger());
+        }
+        this.recordedLatency = recordedLatency;
+    }
+
+    /**
+     * Creates a transport serving recorded responses as fast as possible.
+     *
+     * @param recording
+     *      the {@link Recording} to serve responses from.
+     * @return
+     *      a new {@link ReplayTransport} instance.
+     */
+    public static ReplayTransport fullSpeed(@Nonnull Recording recording) {
+        return new ReplayTransport(Preconditions.checkNotNull(recording), false);
+    }
+
+    /**
+     * Creates a transport serving recorded responses after their recorded
+     * latency, so that calls take as long as they did when recorded.
+     *
+     * @param recording
+     *      the {@link Recording} to serve responses from.
+     * @return
+     *      a new {@link ReplayTransport} instance.
+     */
+    public static ReplayTransport withRecordedLatency(@Nonnull Recording recording) {
+        return new ReplayTransport(Preconditions.checkNotNull(recording), true);
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        RecordedExchange exchange = next(request);
+
+        if (this.recordedLatency) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(exchange.headersNanos() + exchange.bodyNanos());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted waiting for response");
+            }
+        }
+
+        return respond(request, exchange);
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> executeAsync(TransportRequest request) {
+        RecordedExchange exchange;
+
+        try {
+            exchange = next(request);
+        } catch (IOException e) {
+            CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        if (!this.recordedLatency) {
+            return CompletableFuture.completedFuture(respond(request, exchange));
+        }
+
+        return Delays
+            .after(exchange.headersNanos() + exchange.bodyNanos(), TimeUnit.NANOSECONDS)
+            .thenApply(ignored -> respond(request, exchange));
+    }
+
+    /**
+     * Returns the next recorded exchange to serve for a request.
+     *
+     * @param request
+     *      the request to serve.
+     * @return
+     *      the {@link RecordedExchange} to serve.
+     * @throws IOException
+     *      if the request was never recorded.
+     */
+    private RecordedExchange next(TransportRequest request) throws IOException {
+        String key = RecordedExchange.key(request.request());
+        List<RecordedExchange> recorded = this.exchanges.get(key);
+
+        if (recorded == null) {
+            throw new IOException("No recorded response for " + key);
+        }
+
+        int last = recorded.size() - 1;
+        return recorded.get(this.served.get(key).getAndUpdate(index -> Math.min(index + 1, last)));
+    }
+
+    /**
+     * Creates the response serving a recorded exchange.
+     */
+    private TransportResponse respond(TransportRequest request, RecordedExchange exchange) {
+        NetworkTimings timings = !request.timed() ? null : NetworkTimings.firstByteOnly(
+            this.recordedLatency ? exchange.headersNanos() : 0);
+
+        return new ReplayedResponse(exchange, timings);
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.lake54.groupsio.api.replay;
+
+import com.github.lake54.groupsio.api.transport.NetworkTimings;
+import com.github.lake54.groupsio.api.transport.TransportResponse;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link TransportResponse} served from a {@link RecordedExchange}.
+ */
+class ReplayedResponse implements TransportResponse {
+
+    private final RecordedExchange exchange;
+    private final NetworkTimings timings;
+
+    /**
+     * Creates a response from a recorded exchange.
+     *
+     * @param exchange
+     *      the exchange holding the response.
+     * @param timings
+     *      the network timings to report, or null if the call is not timed.
+     */
+    ReplayedResponse(RecordedExchange exchange, @Nullable NetworkTimings timings) {
+        this.exchange = exchange;
+        this.timings = timings;
+    }
+
+    @Override
+    public int code() {
+        return this.exchange.status();
+    }
+
+    @Nullable
+    @Override
+    public String header(String name) {
+        return this.exchange.header(name);
+    }
+
+    @Override
+    public Map<String, List<String>> headers() {
+        return this.exchange.headers();
+    }
+
+    @Override
+    public InputStream body() {
+        return new ByteArrayInputStream(this.exchange.body());
+    }
+
+    @Override
+    public byte[] bytes() {
+        return this.exchange.body().clone();
+    }
+
+    @Nullable
+    @Override
+    public NetworkTimings timings() {
+        return this.timings;
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -5,11 +5,22 @@ import com.github.lake54.groupsio.api.GroupsIOApiRequest;
 import com.github.lake54.groupsio.api.exception.GroupsIOApiException;
 import com.github.lake54.groupsio.api.util.JacksonUtils;
 import com.google.common.base.Preconditions;
-import okhttp3.FormBody;
+import com.google.common.collect.Lists;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
-import java.util.Map;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.github.lake54.groupsio.api.domain.enums.error.ErrorType.inadequate_permissions;
 
 /**
  * Base resource class adding base implementations for all resources.
@@ -53,20 +64,155 @@ abstract class BaseResource {
      *      on any errors calling the API.
      */
     <T> T update(String path, Class<T> tClass, T object) throws GroupsIOApiException, IOException {
-        FormBody.Builder formBuilder = new FormBody.Builder();
-
-        Map<String, Object> data = JacksonUtils.convert(object, factory ->
-            factory.constructMapLikeType(Map.class, String.class, Object.class));
+        return this.apiClient.call(createUpdateRequest(path, object), tClass);
+    }
 
-        for (Map.Entry<String, Object> entry : data.entrySet()) {
-            formBuilder.add(entry.getKey(), entry.getValue().toString());
-        }
+    /**
+     * Asynchronously updates an object type via the API.
+     *
+     * @param path
+     *      the path to use for the update operation.
+     * @param tClass
+     *      the class type being updated.
+     * @param object
+     *      the object update to apply.
+     * @return
+     *      a future completed with an updated object instance.
+     */
+    <T> CompletableFuture<T> updateAsync(String path, Class<T> tClass, T object) {
+        return this.apiClient.callAsync(createUpdateRequest(path, object), tClass);
+    }
 
-        GroupsIOApiRequest request = GroupsIOApiRequest
+    /**
+     * Creates a request used to update an object type via the API.
+     *
+     * Updates only set the provided fields, so are safe to repeat.
+     *
+     * @param path
+     *      the path to use for the update operation.
+     * @param object
+     *      the object update to apply.
+     * @return
+     *      a {@link GroupsIOApiRequest} carrying the update as a form.
+     */
+    private static GroupsIOApiRequest createUpdateRequest(String path, Object object) {
+        return GroupsIOApiRequest
             .builder("GET", path)
-                .body(formBuilder.build())
+                .body(JacksonUtils.toFormBody(object))
+                .idempotent(true)
             .build();
+    }
+
+    /**
+     * Splits a list of items into chunks and calls the API once per chunk,
+     * with at most {@code parallelism} calls in flight at a time.
+     *
+     * A chunk which fails is not retried here; instead its failure is
+     * converted into a result using the provided handler, so the outcome
+     * of the chunks which succeeded is never lost.
+     *
+     * @param items
+     *      the items to split into chunks.
+     * @param chunkSize
+     *      the maximum number of items per chunk.
+     * @param parallelism
+     *      the maximum number of chunks in flight at once.
+     * @param call
+     *      the asynchronous call to make for each chunk.
+     * @param onFailure
+     *      the handler converting a failed chunk into a result.
+     * @return
+     *      the result of each chunk, in the order of the chunks.
+     * @throws InterruptedIOException
+     *      if the thread is interrupted while waiting for the chunks.
+     */
+    static <T> List<T> callInChunks(List<String> items, int chunkSize, int parallelism,
+                                    Function<List<String>, CompletableFuture<T>> call,
+                                    BiFunction<List<String>, Throwable, T> onFailure) throws InterruptedIOException {
+        Preconditions.checkArgument(chunkSize > 0, "chunkSize must be positive");
+        Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+
+        List<List<String>> chunks = Lists.partition(items, chunkSize);
+        AtomicReferenceArray<T> results = new AtomicReferenceArray<>(chunks.size());
+        CompletableFuture<?>[] lanes = new CompletableFuture<?>[Math.min(parallelism, chunks.size())];
+
+        for (int lane = 0; lane < lanes.length; lane++) {
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+
+            for (int index = lane; index < chunks.size(); index += lanes.length) {
+                List<String> chunk = chunks.get(index);
+                int position = index;
+
+                chain = chain
+                    .thenCompose(ignored -> call.apply(chunk))
+                    .handle((result, throwable) -> {
+                        results.set(position, throwable == null ? result : onFailure.apply(chunk, unwrap(throwable)));
+                        return null;
+                    });
+            }
+
+            lanes[lane] = chain;
+        }
 
-        return this.apiClient.call(request, tClass);
+        try {
+            CompletableFuture.allOf(lanes).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for chunks");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+
+        List<T> merged = new ArrayList<>(chunks.size());
+        for (int index = 0; index < chunks.size(); index++) {
+            merged.add(results.get(index));
+        }
+        return merged;
+    }
+
+    /**
+     * Unwraps the cause of a failure raised inside a future chain.
+     *
+     * @param throwable
+     *      the failure raised by the future.
+     * @return
+     *      the underlying cause of the failure.
+     */
+    static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+            ? throwable.getCause()
+            : throwable;
+    }
+
+    /**
+     * Runs an asynchronous action only once a permission check has passed,
+     * failing with an inadequate permissions error otherwise.
+     *
+     * @param permitted
+     *      a future completed with the result of the permission check.
+     * @param action
+     *      the action to run if the check passes.
+     * @return
+     *      a future completed with the result of the action.
+     */
+    static <T> CompletableFuture<T> whenPermitted(CompletableFuture<Boolean> permitted,
+                                                  Supplier<CompletableFuture<T>> action) {
+        return permitted.thenCompose(allowed -> allowed
+            ? action.get()
+            : failedFuture(new GroupsIOApiException(inadequate_permissions)));
+    }
+
+    /**
+     * Creates a future which has already completed with an error.
+     *
+     * @param throwable
+     *      the error to complete the future with.
+     * @return
+     *      a failed {@link CompletableFuture}.
+     */
+    static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
     }
 }
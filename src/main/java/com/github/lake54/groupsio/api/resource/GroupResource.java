@@ -1,8 +1,10 @@
 package com.github.lake54.groupsio.api.resource;
 
 import com.fasterxml.jackson.databind.JavaType;
+import com.github.lake54.groupsio.api.AsyncPageIterator;
 import com.github.lake54.groupsio.api.GroupsIOApiClient;
 import com.github.lake54.groupsio.api.GroupsIOApiRequest;
+import com.github.lake54.groupsio.api.cache.PermissionsCache;
 import com.github.lake54.groupsio.api.domain.Group;
 import com.github.lake54.groupsio.api.domain.Permissions;
 import com.github.lake54.groupsio.api.domain.enums.group.GroupPrivacy;
@@ -12,6 +14,8 @@ import com.github.lake54.groupsio.api.util.JacksonUtils;
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static com.github.lake54.groupsio.api.domain.enums.error.ErrorType.inadequate_permissions;
 
@@ -58,15 +62,28 @@ public class GroupResource extends BaseResource {
                                 @Nonnull String name,
                                 @Nonnull String description,
                                 @Nonnull GroupPrivacy privacy) throws GroupsIOApiException, IOException {
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/createsubgroup")
-                .putParam("group_id", "" + groupId)
-                .putParam("sub_group_name", name)
-                .putParam("desc", description)
-                .putParam("privacy", privacy.name())
-            .build();
+        return this.apiClient.call(createSubgroupRequest(groupId, name, description, privacy), Group.class);
+    }
 
-        return this.apiClient.call(request, Group.class);
+    /**
+     * Asynchronously creates a subgroup for the specified group identifier.
+     *
+     * @param groupId
+     *      the identifier of the parent group.
+     * @param name
+     *      the name of the group to create.
+     * @param description
+     *      the description of the group to create.
+     * @param privacy
+     *      the privacy of the group to create.
+     * @return
+     *      a future completed with the full {@link Group} instance after creation.
+     */
+    public CompletableFuture<Group> createSubgroupAsync(int groupId,
+                                                        @Nonnull String name,
+                                                        @Nonnull String description,
+                                                        @Nonnull GroupPrivacy privacy) {
+        return this.apiClient.callAsync(createSubgroupRequest(groupId, name, description, privacy), Group.class);
     }
 
     /**
@@ -84,13 +101,24 @@ public class GroupResource extends BaseResource {
             throw new GroupsIOApiException(inadequate_permissions);
         }
 
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/deletegroup")
-                .putParam("group_id", "" + groupId)
-                .putParam("understand", "I understand")
-            .build();
+        this.apiClient.call(deleteGroupRequest(groupId), Object.class);
+        this.apiClient.getPermissionsCache().invalidate(groupId);
+    }
 
-        this.apiClient.call(request, Object.class);
+    /**
+     * Asynchronously deletes a group via an identifier.
+     *
+     * @param groupId
+     *      the group identifier to remove.
+     * @return
+     *      a future completed once the group has been deleted.
+     */
+    public CompletableFuture<Void> deleteGroupAsync(int groupId) {
+        return whenPermitted(getPermissionsAsync(groupId).thenApply(Permissions::deleteGroup), () ->
+            this.apiClient.callAsync(deleteGroupRequest(groupId), Object.class).thenApply(result -> {
+                this.apiClient.getPermissionsCache().invalidate(groupId);
+                return null;
+            }));
     }
 
     /**
@@ -108,17 +136,26 @@ public class GroupResource extends BaseResource {
             throw new GroupsIOApiException(inadequate_permissions);
         }
 
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/getgroup")
-                .putParam("group_id", "" + groupId)
-            .build();
+        return this.apiClient.call(getGroupRequest(groupId), Group.class);
+    }
 
-        return this.apiClient.call(request, Group.class);
+    /**
+     * Asynchronously gets a {@link Group} for the specified group.
+     *
+     * @return
+     *      a future completed with the {@link Group} for the specified group identifier.
+     */
+    public CompletableFuture<Group> getGroupAsync(int groupId) {
+        return whenPermitted(getPermissionsAsync(groupId).thenApply(Permissions::manageGroupSettings), () ->
+            this.apiClient.callAsync(getGroupRequest(groupId), Group.class));
     }
 
     /**
      * Gets a user's {@link Permissions} for the specified group.
      *
+     * Permissions are served from the client's {@link PermissionsCache}
+     * when present, and stored in it after being fetched.
+     *
      * @return
      *      the user's {@link Permissions} for the specified group identifier.
      * @throws GroupsIOApiException
@@ -127,12 +164,36 @@ public class GroupResource extends BaseResource {
      *      on any errors calling the API.
      */
     public Permissions getPermissions(int groupId) throws GroupsIOApiException, IOException {
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/getperms")
-                .putParam("group_id", "" + groupId)
-            .build();
+        PermissionsCache cache = this.apiClient.getPermissionsCache();
+        Permissions permissions = cache.get(groupId);
+
+        if (permissions == null) {
+            permissions = this.apiClient.call(getPermissionsRequest(groupId), Permissions.class);
+            cache.put(groupId, permissions);
+        }
+
+        return permissions;
+    }
+
+    /**
+     * Asynchronously gets a user's {@link Permissions} for the specified group.
+     *
+     * @return
+     *      a future completed with the user's {@link Permissions} for the specified group identifier.
+     */
+    public CompletableFuture<Permissions> getPermissionsAsync(int groupId) {
+        PermissionsCache cache = this.apiClient.getPermissionsCache();
+        Permissions permissions = cache.get(groupId);
+
+        if (permissions != null) {
+            return CompletableFuture.completedFuture(permissions);
+        }
 
-        return this.apiClient.call(request, Permissions.class);
+        return this.apiClient.callAsync(getPermissionsRequest(groupId), Permissions.class)
+            .thenApply(fetched -> {
+                cache.put(groupId, fetched);
+                return fetched;
+            });
     }
 
     /**
@@ -148,13 +209,44 @@ public class GroupResource extends BaseResource {
      *      on any errors calling the API.
      */
     public List<Group> getSubgroups(int groupId) throws GroupsIOApiException, IOException {
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/getsubgroups")
-                .putParam("group_id", "" + groupId)
-                .putParam("limit", MAX_RESULTS)
-            .build();
+        return this.apiClient.paginate(getSubgroupsRequest(groupId), GROUP_PAGE_TYPE);
+    }
+
+    /**
+     * Asynchronously gets a list of groups for a given group identifier.
+     *
+     * @param groupId
+     *      the group identifier to fetch subgroups for.
+     * @return
+     *      a future completed with a {@link List}<{@link Group}> belonging to a parent group.
+     */
+    public CompletableFuture<List<Group>> getSubgroupsAsync(int groupId) {
+        return this.apiClient.paginateAsync(getSubgroupsRequest(groupId), GROUP_PAGE_TYPE);
+    }
+
+    /**
+     * Asynchronously pages through the subgroups of a given group
+     * identifier, requesting each page only when asked for.
+     *
+     * @param groupId
+     *      the group identifier to fetch subgroups for.
+     * @return
+     *      an {@link AsyncPageIterator} over pages of the subgroups.
+     */
+    public AsyncPageIterator<Group> getSubgroupsPagesAsync(int groupId) {
+        return this.apiClient.pagesAsync(getSubgroupsRequest(groupId), GROUP_PAGE_TYPE);
+    }
 
-        return this.apiClient.paginate(request, GROUP_PAGE_TYPE);
+    /**
+     * Lazily streams the subgroups of a given group identifier.
+     *
+     * @param groupId
+     *      the group identifier to fetch subgroups for.
+     * @return
+     *      a {@link Stream}<{@link Group}> belonging to a parent group.
+     */
+    public Stream<Group> streamSubgroups(int groupId) {
+        return this.apiClient.stream(getSubgroupsRequest(groupId), GROUP_PAGE_TYPE);
     }
 
     /**
@@ -186,4 +278,73 @@ public class GroupResource extends BaseResource {
         }
         return this.update("/updategroup", Group.class, group);
     }
+
+    /**
+     * Asynchronously updates a group given a {@link Group} object with only
+     * the updated fields set.
+     *
+     * @param group
+     *      a group model to use to apply updates.
+     * @return
+     *      a future completed with the full {@link Group} after a successful update.
+     */
+    public CompletableFuture<Group> updateGroupAsync(Group group) {
+        return whenPermitted(getPermissionsAsync(group.id()).thenApply(Permissions::manageGroupSettings), () ->
+            this.updateAsync("/updategroup", Group.class, group));
+    }
+
+    /**
+     * Creates a request to create a subgroup.
+     */
+    private static GroupsIOApiRequest createSubgroupRequest(int groupId, String name, String description, GroupPrivacy privacy) {
+        return GroupsIOApiRequest
+            .builder("GET", "/createsubgroup")
+                .putParam("group_id", "" + groupId)
+                .putParam("sub_group_name", name)
+                .putParam("desc", description)
+                .putParam("privacy", privacy.name())
+            .build();
+    }
+
+    /**
+     * Creates a request to delete a group.
+     */
+    private static GroupsIOApiRequest deleteGroupRequest(int groupId) {
+        return GroupsIOApiRequest
+            .builder("GET", "/deletegroup")
+                .putParam("group_id", "" + groupId)
+                .putParam("understand", "I understand")
+            .build();
+    }
+
+    /**
+     * Creates a request to retrieve a group.
+     */
+    private static GroupsIOApiRequest getGroupRequest(int groupId) {
+        return GroupsIOApiRequest
+            .builder("GET", "/getgroup")
+                .putParam("group_id", "" + groupId)
+            .build();
+    }
+
+    /**
+     * Creates a request to retrieve the permissions within a group.
+     */
+    private static GroupsIOApiRequest getPermissionsRequest(int groupId) {
+        return GroupsIOApiRequest
+            .builder("GET", "/getperms")
+                .putParam("group_id", "" + groupId)
+            .build();
+    }
+
+    /**
+     * Creates a request to retrieve the subgroups of a group.
+     */
+    private static GroupsIOApiRequest getSubgroupsRequest(int groupId) {
+        return GroupsIOApiRequest
+            .builder("GET", "/getsubgroups")
+                .putParam("group_id", "" + groupId)
+                .putParam("limit", MAX_RESULTS)
+            .build();
+    }
 }
@@ -1,20 +1,40 @@
 package com.github.lake54.groupsio.api.resource;
 
 import com.fasterxml.jackson.databind.JavaType;
+import com.github.lake54.groupsio.api.AsyncPageIterator;
 import com.github.lake54.groupsio.api.GroupsIOApiClient;
 import com.github.lake54.groupsio.api.GroupsIOApiRequest;
+import com.github.lake54.groupsio.api.domain.Error;
+import com.github.lake54.groupsio.api.domain.Permissions;
 import com.github.lake54.groupsio.api.domain.Subscription;
+import com.github.lake54.groupsio.api.domain.enums.error.ErrorType;
+import com.github.lake54.groupsio.api.directory.MemberDirectory;
 import com.github.lake54.groupsio.api.domain.results.BulkRemoveResults;
 import com.github.lake54.groupsio.api.domain.results.DirectAddResults;
 import com.github.lake54.groupsio.api.domain.results.InviteResults;
 import com.github.lake54.groupsio.api.exception.GroupsIOApiException;
+import com.github.lake54.groupsio.api.exception.UncheckedGroupsIOApiException;
+import com.github.lake54.groupsio.api.export.ExportFormat;
+import com.github.lake54.groupsio.api.export.ExportProgressListener;
+import com.github.lake54.groupsio.api.export.MemberExporter;
+import com.github.lake54.groupsio.api.export.SubscriptionColumn;
+import com.github.lake54.groupsio.api.table.SubscriptionTable;
 import com.github.lake54.groupsio.api.util.JacksonUtils;
+import okhttp3.FormBody;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.github.lake54.groupsio.api.domain.enums.error.ErrorType.inadequate_permissions;
+import static com.github.lake54.groupsio.api.domain.enums.error.ErrorType.unknown;
 
 /**
  * Resource class based around all operations related to group members.
@@ -27,6 +47,16 @@ public class MemberResource extends BaseResource {
     private static final JavaType SUBSCRIPTION_PAGE_TYPE = JacksonUtils
         .createPaginationType(Subscription.class);
 
+    /**
+     * Default number of emails to send per request in chunked operations.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    /**
+     * Default number of chunks to have in flight at once in chunked operations.
+     */
+    public static final int DEFAULT_CHUNK_PARALLELISM = 4;
+
     /**
      * Creates a new resource using a client instance.
      *
@@ -56,13 +86,22 @@ public class MemberResource extends BaseResource {
             throw new GroupsIOApiException(inadequate_permissions);
         }
 
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/approvemember")
-                .putParam("group_id", "" + groupId)
-                .putParam("sub_id", "" + subscriptionId)
-            .build();
+        return remember(this.apiClient.call(memberRequest("/approvemember", groupId, subscriptionId), Subscription.class));
+    }
 
-        return this.apiClient.call(request, Subscription.class);
+    /**
+     * Asynchronously approves a member in a group.
+     *
+     * @param groupId
+     *      the identifier of the group to approve in.
+     * @param subscriptionId
+     *      the identifier of the subscription to approve.
+     * @return
+     *      a future completed with the member's {@link Subscription} instance.
+     */
+    public CompletableFuture<Subscription> approveMemberAsync(int groupId, int subscriptionId) {
+        return whenPermitted(permissionsAsync(groupId).thenApply(Permissions::managePendingMembers), () ->
+            this.apiClient.callAsync(memberRequest("/approvemember", groupId, subscriptionId), Subscription.class).thenApply(this::remember));
     }
 
     /**
@@ -85,13 +124,26 @@ public class MemberResource extends BaseResource {
             throw new GroupsIOApiException(inadequate_permissions);
         }
 
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/banmember")
-                .putParam("group_id", "" + groupId)
-                .putParam("sub_id", "" + subscriptionId)
-            .build();
+        return remember(this.apiClient.call(memberRequest("/banmember", groupId, subscriptionId), Subscription.class));
+    }
+
+    /**
+     * Asynchronously bans a member from a group.
+     *
+     * @param groupId
+     *      the group identifier to ban from.
+     * @param subscriptionId
+     *      the identifier of the subscription to ban.
+     * @return
+     *      a future completed with the member's {@link Subscription} instance.
+     */
+    public CompletableFuture<Subscription> banMemberAsync(int groupId, int subscriptionId) {
+        CompletableFuture<Boolean> permitted = permissionsAsync(groupId).thenCompose(permissions -> permissions.banMembers()
+            ? getMemberInGroupAsync(groupId, subscriptionId).thenApply(member -> member.status().canBan())
+            : CompletableFuture.completedFuture(false));
 
-        return this.apiClient.call(request, Subscription.class);
+        return whenPermitted(permitted, () ->
+            this.apiClient.callAsync(memberRequest("/banmember", groupId, subscriptionId), Subscription.class).thenApply(this::remember));
     }
 
     /**
@@ -109,17 +161,96 @@ public class MemberResource extends BaseResource {
      *      on any errors calling the API.
      */
     public BulkRemoveResults bulkRemoveMembers(int groupId, List<String> emails) throws GroupsIOApiException, IOException {
-        if (this.apiClient.group().getPermissions(groupId).inviteMembers()) {
+        if (!this.apiClient.group().getPermissions(groupId).removeMembers()) {
             throw new GroupsIOApiException(inadequate_permissions);
         }
 
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/bulkremovemembers")
-                .putParam("group_id", "" + groupId)
-                .putParam("emails", String.join("\n", emails))
-            .build();
+        return forgetRemoved(groupId, emails, this.apiClient.call(emailsRequest("/bulkremovemembers", groupId, emails), BulkRemoveResults.class));
+    }
+
+    /**
+     * Asynchronously removes a batch of users from a group.
+     *
+     * @param groupId
+     *      the group identifier to remove from.
+     * @param emails
+     *      a list of user emails to remove.
+     * @return
+     *      a future completed with a {@link BulkRemoveResults} object.
+     */
+    public CompletableFuture<BulkRemoveResults> bulkRemoveMembersAsync(int groupId, List<String> emails) {
+        return whenPermitted(permissionsAsync(groupId).thenApply(Permissions::removeMembers), () ->
+            this.apiClient.callAsync(emailsRequest("/bulkremovemembers", groupId, emails), BulkRemoveResults.class)
+                .thenApply(results -> forgetRemoved(groupId, emails, results)));
+    }
+
+    /**
+     * Removes a large batch of users from a group, using the default chunk
+     * size and parallelism.
+     *
+     * @param groupId
+     *      the group identifier to remove from.
+     * @param emails
+     *      a list of user emails to remove.
+     * @return
+     *      a {@link BulkRemoveResults} object merged from all chunks.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API.
+     * @see #bulkRemoveMembersInChunks(int, List, int, int)
+     */
+    public BulkRemoveResults bulkRemoveMembersInChunks(int groupId, List<String> emails) throws GroupsIOApiException, IOException {
+        return bulkRemoveMembersInChunks(groupId, emails, DEFAULT_CHUNK_SIZE, DEFAULT_CHUNK_PARALLELISM);
+    }
+
+    /**
+     * Removes a large batch of users from a group.
+     *
+     * The emails are split into chunks which are sent as form bodies,
+     * with a bounded number of chunks in flight at once. The results of
+     * all chunks are merged; a chunk which fails entirely is reported as an
+     * {@link Error} per email in that chunk.
+     *
+     * @param groupId
+     *      the group identifier to remove from.
+     * @param emails
+     *      a list of user emails to remove.
+     * @param chunkSize
+     *      the maximum number of emails per request.
+     * @param parallelism
+     *      the maximum number of requests in flight at once.
+     * @return
+     *      a {@link BulkRemoveResults} object merged from all chunks.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API.
+     */
+    public BulkRemoveResults bulkRemoveMembersInChunks(int groupId, List<String> emails, int chunkSize, int parallelism) throws GroupsIOApiException, IOException {
+        if (!this.apiClient.group().getPermissions(groupId).removeMembers()) {
+            throw new GroupsIOApiException(inadequate_permissions);
+        }
+
+        List<BulkRemoveResults> chunks = callInChunks(emails, chunkSize, parallelism,
+            chunk -> this.apiClient.callAsync(emailsFormRequest("/bulkremovemembers", groupId, chunk), BulkRemoveResults.class),
+            (chunk, failure) -> BulkRemoveResults.builder()
+                .removed(0)
+                .totalEmails(chunk.size())
+                .addAllErrors(chunkErrors(chunk, failure))
+                .build());
+
+        BulkRemoveResults.Builder merged = BulkRemoveResults.builder();
+        int removed = 0;
+        int totalEmails = 0;
 
-        return this.apiClient.call(request, BulkRemoveResults.class);
+        for (BulkRemoveResults chunk : chunks) {
+            removed += chunk.removed();
+            totalEmails += chunk.totalEmails();
+            merged.addAllErrors(chunk.errors());
+        }
+
+        return forgetRemoved(groupId, emails, merged.removed(removed).totalEmails(totalEmails).build());
     }
 
     /**
@@ -141,13 +272,90 @@ public class MemberResource extends BaseResource {
             throw new GroupsIOApiException(inadequate_permissions);
         }
 
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/directadd")
-                .putParam("group_id", "" + groupId)
-                .putParam("emails", String.join("\n", emails))
-            .build();
+        return rememberAdded(groupId, this.apiClient.call(emailsRequest("/directadd", groupId, emails), DirectAddResults.class));
+    }
 
-        return this.apiClient.call(request, DirectAddResults.class);
+    /**
+     * Asynchronously adds a batch of users directly to a group.
+     *
+     * @param groupId
+     *      the group identifier to add to.
+     * @param emails
+     *      a list of user emails to add.
+     * @return
+     *      a future completed with a {@link DirectAddResults} object.
+     */
+    public CompletableFuture<DirectAddResults> directAddMemberAsync(int groupId, List<String> emails) {
+        return whenPermitted(permissionsAsync(groupId).thenApply(Permissions::inviteMembers), () ->
+            this.apiClient.callAsync(emailsRequest("/directadd", groupId, emails), DirectAddResults.class)
+                .thenApply(results -> rememberAdded(groupId, results)));
+    }
+
+    /**
+     * Directly adds a large batch of users to a group, using the default
+     * chunk size and parallelism.
+     *
+     * @param groupId
+     *      the group identifier to add to.
+     * @param emails
+     *      a list of user emails to add.
+     * @return
+     *      a {@link DirectAddResults} object merged from all chunks.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API.
+     * @see #directAddMemberInChunks(int, List, int, int)
+     */
+    public DirectAddResults directAddMemberInChunks(int groupId, List<String> emails) throws GroupsIOApiException, IOException {
+        return directAddMemberInChunks(groupId, emails, DEFAULT_CHUNK_SIZE, DEFAULT_CHUNK_PARALLELISM);
+    }
+
+    /**
+     * Directly adds a large batch of users to a group.
+     *
+     * The emails are split into chunks which are sent as form bodies,
+     * with a bounded number of chunks in flight at once. The results of
+     * all chunks are merged; a chunk which fails entirely is reported as an
+     * {@link Error} per email in that chunk.
+     *
+     * @param groupId
+     *      the group identifier to add to.
+     * @param emails
+     *      a list of user emails to add.
+     * @param chunkSize
+     *      the maximum number of emails per request.
+     * @param parallelism
+     *      the maximum number of requests in flight at once.
+     * @return
+     *      a {@link DirectAddResults} object merged from all chunks.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API.
+     */
+    public DirectAddResults directAddMemberInChunks(int groupId, List<String> emails, int chunkSize, int parallelism) throws GroupsIOApiException, IOException {
+        if (!this.apiClient.group().getPermissions(groupId).inviteMembers()) {
+            throw new GroupsIOApiException(inadequate_permissions);
+        }
+
+        List<DirectAddResults> chunks = callInChunks(emails, chunkSize, parallelism,
+            chunk -> this.apiClient.callAsync(emailsFormRequest("/directadd", groupId, chunk), DirectAddResults.class),
+            (chunk, failure) -> DirectAddResults.builder()
+                .totalEmails(chunk.size())
+                .addAllErrors(chunkErrors(chunk, failure))
+                .build());
+
+        DirectAddResults.Builder merged = DirectAddResults.builder();
+        int totalEmails = 0;
+
+        for (DirectAddResults chunk : chunks) {
+            totalEmails += chunk.totalEmails();
+            merged.addAllErrors(chunk.errors());
+            merged.addAllAddedMembers(chunk.addedMembers());
+        }
+
+        return rememberAdded(groupId, merged.totalEmails(totalEmails).build());
     }
 
     /**
@@ -169,13 +377,22 @@ public class MemberResource extends BaseResource {
             throw new GroupsIOApiException(inadequate_permissions);
         }
 
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/getmember")
-                .putParam("group_id", "" + groupId)
-                .putParam("sub_id", "" + subscriptionId)
-            .build();
+        return remember(this.apiClient.call(memberRequest("/getmember", groupId, subscriptionId), Subscription.class));
+    }
 
-        return this.apiClient.call(request, Subscription.class);
+    /**
+     * Asynchronously gets a member's {@link Subscription} for the specified group identifiers.
+     *
+     * @param groupId
+     *      the group identifier to lookup.
+     * @param subscriptionId
+     *      the member identifier to lookup.
+     * @return
+     *      a future completed with the member's {@link Subscription} instance.
+     */
+    public CompletableFuture<Subscription> getMemberInGroupAsync(int groupId, int subscriptionId) {
+        return whenPermitted(permissionsAsync(groupId).thenApply(Permissions::viewMembers), () ->
+            this.apiClient.callAsync(memberRequest("/getmember", groupId, subscriptionId), Subscription.class).thenApply(this::remember));
     }
 
     /**
@@ -195,13 +412,228 @@ public class MemberResource extends BaseResource {
             throw new GroupsIOApiException(inadequate_permissions);
         }
 
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/getmembers")
-                .putParam("group_id", "" + groupId)
-                .putParam("limit", MAX_RESULTS)
-            .build();
+        return this.apiClient.paginate(getMembersRequest(groupId), SUBSCRIPTION_PAGE_TYPE);
+    }
+
+    /**
+     * Asynchronously gets a list of members subscribed to a particular group.
+     *
+     * @param groupId
+     *      the group identifier to lookup.
+     * @return
+     *      a future completed with a {@link List}<{@link Subscription}> representing the subscribed members.
+     */
+    public CompletableFuture<List<Subscription>> getMembersInGroupAsync(int groupId) {
+        return whenPermitted(permissionsAsync(groupId).thenApply(Permissions::viewMembers), () ->
+            this.apiClient.paginateAsync(getMembersRequest(groupId), SUBSCRIPTION_PAGE_TYPE));
+    }
+
+    /**
+     * Gets the members subscribed to a particular group as a columnar
+     * {@link SubscriptionTable}, filled page by page.
+     *
+     * This holds large groups in a fraction of the memory needed by a
+     * {@link List} of {@link Subscription} instances.
+     *
+     * @param groupId
+     *      the group identifier to lookup.
+     * @return
+     *      a {@link SubscriptionTable} representing the subscribed members.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API.
+     */
+    public SubscriptionTable getMembersInGroupAsTable(int groupId) throws GroupsIOApiException, IOException {
+        if (!this.apiClient.group().getPermissions(groupId).viewMembers()) {
+            throw new GroupsIOApiException(inadequate_permissions);
+        }
+
+        SubscriptionTable table = new SubscriptionTable();
+        this.apiClient.<Subscription>paginate(getMembersRequest(groupId), SUBSCRIPTION_PAGE_TYPE, table::add);
+        return table;
+    }
+
+    /**
+     * Asynchronously pages through the members subscribed to a particular
+     * group, requesting each page only when asked for.
+     *
+     * @param groupId
+     *      the group identifier to lookup.
+     * @return
+     *      an {@link AsyncPageIterator} over pages of the subscribed members.
+     */
+    public AsyncPageIterator<Subscription> getMembersInGroupPagesAsync(int groupId) {
+        return this.apiClient.pagesAsync(getMembersRequest(groupId), SUBSCRIPTION_PAGE_TYPE, () -> viewMembersPermitted(groupId));
+    }
+
+    /**
+     * Lazily streams the members subscribed to a particular group.
+     *
+     * Pages are only requested as the stream reaches them, so memory use is
+     * bounded by a single page regardless of the size of the group.
+     *
+     * @param groupId
+     *      the group identifier to lookup.
+     * @return
+     *      a {@link Stream}<{@link Subscription}> representing the subscribed members.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API.
+     */
+    public Stream<Subscription> streamMembersInGroup(int groupId) throws GroupsIOApiException, IOException {
+        if (!this.apiClient.group().getPermissions(groupId).viewMembers()) {
+            throw new GroupsIOApiException(inadequate_permissions);
+        }
+        return this.apiClient.stream(getMembersRequest(groupId), SUBSCRIPTION_PAGE_TYPE);
+    }
+
+    /**
+     * Streams the members subscribed to a particular group, fetching pages
+     * in the background while earlier pages are being consumed.
+     *
+     * @param groupId
+     *      the group identifier to lookup.
+     * @param prefetch
+     *      the maximum number of pages to fetch ahead of the stream.
+     * @return
+     *      a {@link Stream}<{@link Subscription}> representing the subscribed members.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API.
+     */
+    public Stream<Subscription> streamMembersInGroup(int groupId, int prefetch) throws GroupsIOApiException, IOException {
+        if (!this.apiClient.group().getPermissions(groupId).viewMembers()) {
+            throw new GroupsIOApiException(inadequate_permissions);
+        }
+        return this.apiClient.stream(getMembersRequest(groupId), SUBSCRIPTION_PAGE_TYPE, prefetch);
+    }
+
+    /**
+     * Lazily streams the members subscribed to a particular group, most
+     * recently updated first.
+     *
+     * Closing the stream early stops any further pages being requested,
+     * which allows callers to read only the members changed since a point
+     * in time.
+     *
+     * @param groupId
+     *      the group identifier to lookup.
+     * @return
+     *      a {@link Stream}<{@link Subscription}> representing the subscribed members.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API.
+     */
+    public Stream<Subscription> streamMembersInGroupNewestFirst(int groupId) throws GroupsIOApiException, IOException {
+        if (!this.apiClient.group().getPermissions(groupId).viewMembers()) {
+            throw new GroupsIOApiException(inadequate_permissions);
+        }
+        return this.apiClient.stream(getMembersNewestFirstRequest(groupId), SUBSCRIPTION_PAGE_TYPE);
+    }
+
+    /**
+     * Exports all members of a group to a writer, with all columns.
+     *
+     * @param groupId
+     *      the group identifier to export.
+     * @param writer
+     *      the {@link Writer} to export to.
+     * @param format
+     *      the {@link ExportFormat} to export in.
+     * @return
+     *      the number of members exported.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API or writing the output.
+     * @see #exportMembersInGroup(int, Writer, ExportFormat, List, ExportProgressListener)
+     */
+    public long exportMembersInGroup(int groupId, Writer writer, ExportFormat format) throws GroupsIOApiException, IOException {
+        if (!this.apiClient.group().getPermissions(groupId).viewMembers()) {
+            throw new GroupsIOApiException(inadequate_permissions);
+        }
+        return export(groupId, new MemberExporter(writer, format));
+    }
+
+    /**
+     * Exports the members of a group to a writer as NDJSON or CSV.
+     *
+     * Each page is written to the writer as soon as it arrives, and the
+     * next page is only requested once it has been written, so memory use
+     * stays bounded by a single page. The listener is notified with the
+     * progress and throughput after each page.
+     *
+     * @param groupId
+     *      the group identifier to export.
+     * @param writer
+     *      the {@link Writer} to export to.
+     * @param format
+     *      the {@link ExportFormat} to export in.
+     * @param columns
+     *      the {@link SubscriptionColumn}s to export, in order.
+     * @param listener
+     *      the {@link ExportProgressListener} notified after each page.
+     * @return
+     *      the number of members exported.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API or writing the output.
+     */
+    public long exportMembersInGroup(int groupId,
+                                     Writer writer,
+                                     ExportFormat format,
+                                     List<SubscriptionColumn> columns,
+                                     ExportProgressListener listener) throws GroupsIOApiException, IOException {
+        if (!this.apiClient.group().getPermissions(groupId).viewMembers()) {
+            throw new GroupsIOApiException(inadequate_permissions);
+        }
+        return export(groupId, new MemberExporter(writer, format, columns, listener));
+    }
+
+    /**
+     * Loads all members of a group into an in-memory {@link MemberDirectory}.
+     *
+     * The directory is registered with the client, so that any change to a
+     * member of the group made through this resource is written through to
+     * it. Loading a group which already has a directory reloads it in place;
+     * lookups are served from its previous contents until every page has
+     * been fetched, and those contents are kept if fetching fails.
+     *
+     * @param groupId
+     *      the group identifier to load.
+     * @return
+     *      the loaded {@link MemberDirectory}.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API.
+     */
+    public MemberDirectory loadMemberDirectory(int groupId) throws GroupsIOApiException, IOException {
+        if (!this.apiClient.group().getPermissions(groupId).viewMembers()) {
+            throw new GroupsIOApiException(inadequate_permissions);
+        }
+
+        MemberDirectory directory = this.apiClient.getMemberDirectory(groupId);
+
+        if (directory == null) {
+            directory = new MemberDirectory(groupId);
+        }
 
-        return this.apiClient.paginate(request, SUBSCRIPTION_PAGE_TYPE);
+        try {
+            directory.reload(this.apiClient.iterate(getMembersRequest(groupId), SUBSCRIPTION_PAGE_TYPE));
+        } catch (UncheckedGroupsIOApiException e) {
+            throw e.getCause();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        this.apiClient.registerMemberDirectory(directory);
+        return directory;
     }
 
     /**
@@ -223,13 +655,89 @@ public class MemberResource extends BaseResource {
             throw new GroupsIOApiException(inadequate_permissions);
         }
 
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/invite")
-                .putParam("group_id", "" + groupId)
-                .putParam("emails", String.join("\n", emails))
-            .build();
+        return this.apiClient.call(emailsRequest("/invite", groupId, emails), InviteResults.class);
+    }
+
+    /**
+     * Asynchronously invites a batch of users to a group.
+     *
+     * @param groupId
+     *      the group identifier to invite to.
+     * @param emails
+     *      a list of user emails to invite.
+     * @return
+     *      a future completed with a {@link InviteResults} object.
+     */
+    public CompletableFuture<InviteResults> inviteMemberAsync(int groupId, List<String> emails) {
+        return whenPermitted(permissionsAsync(groupId).thenApply(Permissions::inviteMembers), () ->
+            this.apiClient.callAsync(emailsRequest("/invite", groupId, emails), InviteResults.class));
+    }
+
+    /**
+     * Invites a large batch of users to a group, using the default chunk
+     * size and parallelism.
+     *
+     * @param groupId
+     *      the group identifier to invite to.
+     * @param emails
+     *      a list of user emails to invite.
+     * @return
+     *      a {@link InviteResults} object merged from all chunks.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API.
+     * @see #inviteMemberInChunks(int, List, int, int)
+     */
+    public InviteResults inviteMemberInChunks(int groupId, List<String> emails) throws GroupsIOApiException, IOException {
+        return inviteMemberInChunks(groupId, emails, DEFAULT_CHUNK_SIZE, DEFAULT_CHUNK_PARALLELISM);
+    }
+
+    /**
+     * Invites a large batch of users to a group.
+     *
+     * The emails are split into chunks which are sent as form bodies,
+     * with a bounded number of chunks in flight at once. The results of
+     * all chunks are merged; a chunk which fails entirely is reported as an
+     * {@link Error} per email in that chunk.
+     *
+     * @param groupId
+     *      the group identifier to invite to.
+     * @param emails
+     *      a list of user emails to invite.
+     * @param chunkSize
+     *      the maximum number of emails per request.
+     * @param parallelism
+     *      the maximum number of requests in flight at once.
+     * @return
+     *      a {@link InviteResults} object merged from all chunks.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API.
+     */
+    public InviteResults inviteMemberInChunks(int groupId, List<String> emails, int chunkSize, int parallelism) throws GroupsIOApiException, IOException {
+        if (!this.apiClient.group().getPermissions(groupId).inviteMembers()) {
+            throw new GroupsIOApiException(inadequate_permissions);
+        }
+
+        List<InviteResults> chunks = callInChunks(emails, chunkSize, parallelism,
+            chunk -> this.apiClient.callAsync(emailsFormRequest("/invite", groupId, chunk), InviteResults.class),
+            (chunk, failure) -> InviteResults.builder()
+                .totalEmails(chunk.size())
+                .addAllErrors(chunkErrors(chunk, failure))
+                .build());
+
+        InviteResults.Builder merged = InviteResults.builder();
+        int totalEmails = 0;
+
+        for (InviteResults chunk : chunks) {
+            totalEmails += chunk.totalEmails();
+            merged.addAllErrors(chunk.errors());
+            merged.addAllInvited(chunk.invited());
+        }
 
-        return this.apiClient.call(request, InviteResults.class);
+        return merged.totalEmails(totalEmails).build();
     }
 
     /**
@@ -251,13 +759,23 @@ public class MemberResource extends BaseResource {
             throw new GroupsIOApiException(inadequate_permissions);
         }
 
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/removemember")
-                .putParam("group_id", "" + groupId)
-                .putParam("sub_id", "" + subscriptionId)
-            .build();
+        return forget(groupId, subscriptionId, this.apiClient.call(memberRequest("/removemember", groupId, subscriptionId), Subscription.class));
+    }
 
-        return this.apiClient.call(request, Subscription.class);
+    /**
+     * Asynchronously removes a member from a group.
+     *
+     * @param groupId
+     *      the group identifier to remove from.
+     * @param subscriptionId
+     *      the member identifier to remove.
+     * @return
+     *      a future completed with the member's {@link Subscription} instance.
+     */
+    public CompletableFuture<Subscription> removeMemberAsync(int groupId, int subscriptionId) {
+        return whenPermitted(permissionsAsync(groupId).thenApply(Permissions::removeMembers), () ->
+            this.apiClient.callAsync(memberRequest("/removemember", groupId, subscriptionId), Subscription.class)
+                .thenApply(member -> forget(groupId, subscriptionId, member)));
     }
 
     /**
@@ -279,14 +797,58 @@ public class MemberResource extends BaseResource {
             throw new GroupsIOApiException(inadequate_permissions);
         }
 
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/searchmembers")
-                .putParam("group_id", "" + groupId)
-                .putParam("limit", MAX_RESULTS)
-                .putParam("q", query)
-            .build();
+        return this.apiClient.paginate(searchMembersRequest(groupId, query), SUBSCRIPTION_PAGE_TYPE);
+    }
 
-        return this.apiClient.paginate(request, SUBSCRIPTION_PAGE_TYPE);
+    /**
+     * Asynchronously searches for a list of members subscribed to a particular group.
+     *
+     * @param groupId
+     *      the group identifier to search in.
+     * @param query
+     *      what to search for (will search over email or name).
+     * @return
+     *      a future completed with a {@link List}<{@link Subscription}> representing the subscribed members.
+     */
+    public CompletableFuture<List<Subscription>> searchMembersAsync(int groupId, String query) {
+        return whenPermitted(permissionsAsync(groupId).thenApply(Permissions::viewMembers), () ->
+            this.apiClient.paginateAsync(searchMembersRequest(groupId, query), SUBSCRIPTION_PAGE_TYPE));
+    }
+
+    /**
+     * Asynchronously pages through the results of a member search within
+     * a group, requesting each page only when asked for.
+     *
+     * @param groupId
+     *      the group identifier to search in.
+     * @param query
+     *      what to search for (will search over email or name).
+     * @return
+     *      an {@link AsyncPageIterator} over pages of the matching members.
+     */
+    public AsyncPageIterator<Subscription> searchMembersPagesAsync(int groupId, String query) {
+        return this.apiClient.pagesAsync(searchMembersRequest(groupId, query), SUBSCRIPTION_PAGE_TYPE, () -> viewMembersPermitted(groupId));
+    }
+
+    /**
+     * Lazily streams the results of a member search within a group.
+     *
+     * @param groupId
+     *      the group identifier to search in.
+     * @param query
+     *      what to search for (will search over email or name).
+     * @return
+     *      a {@link Stream}<{@link Subscription}> representing the subscribed members.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API.
+     */
+    public Stream<Subscription> streamSearchMembers(int groupId, String query) throws GroupsIOApiException, IOException {
+        if (!this.apiClient.group().getPermissions(groupId).viewMembers()) {
+            throw new GroupsIOApiException(inadequate_permissions);
+        }
+        return this.apiClient.stream(searchMembersRequest(groupId, query), SUBSCRIPTION_PAGE_TYPE);
     }
 
     /**
@@ -309,13 +871,26 @@ public class MemberResource extends BaseResource {
             throw new GroupsIOApiException(inadequate_permissions);
         }
 
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/sendbounceprobe")
-                .putParam("group_id", "" + groupId)
-                .putParam("sub_id", "" + subscriptionId)
-            .build();
+        return remember(this.apiClient.call(memberRequest("/sendbounceprobe", groupId, subscriptionId), Subscription.class));
+    }
+
+    /**
+     * Asynchronously sends a bounce probe to a specific member.
+     *
+     * @param groupId
+     *      the group identifier to work under.
+     * @param subscriptionId
+     *      the identifier of the subscription.
+     * @return
+     *      a future completed with the member's {@link Subscription} instance.
+     */
+    public CompletableFuture<Subscription> sendBounceProbeAsync(int groupId, int subscriptionId) {
+        CompletableFuture<Boolean> permitted = permissionsAsync(groupId).thenCompose(permissions -> permissions.manageMemberSubscriptionOptions()
+            ? getMemberInGroupAsync(groupId, subscriptionId).thenApply(member -> member.userStatus().canSendBounceProbe())
+            : CompletableFuture.completedFuture(false));
 
-        return this.apiClient.call(request, Subscription.class);
+        return whenPermitted(permitted, () ->
+            this.apiClient.callAsync(memberRequest("/sendbounceprobe", groupId, subscriptionId), Subscription.class).thenApply(this::remember));
     }
 
     /**
@@ -338,13 +913,26 @@ public class MemberResource extends BaseResource {
             throw new GroupsIOApiException(inadequate_permissions);
         }
 
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/sendbounceprobe")
-                .putParam("group_id", "" + groupId)
-                .putParam("sub_id", "" + subscriptionId)
-            .build();
+        return remember(this.apiClient.call(memberRequest("/sendbounceprobe", groupId, subscriptionId), Subscription.class));
+    }
+
+    /**
+     * Asynchronously sends a confirmation email to a user if they are not yet confirmed.
+     *
+     * @param groupId
+     *      the group identifier to work under.
+     * @param subscriptionId
+     *      the identifier of the subscription.
+     * @return
+     *      a future completed with the member's {@link Subscription} instance.
+     */
+    public CompletableFuture<Subscription> sendConfirmationEmailAsync(int groupId, int subscriptionId) {
+        CompletableFuture<Boolean> permitted = permissionsAsync(groupId).thenCompose(permissions -> permissions.manageMemberSubscriptionOptions()
+            ? getMemberInGroupAsync(groupId, subscriptionId).thenApply(member -> member.userStatus().canSendConfirmationEmail())
+            : CompletableFuture.completedFuture(false));
 
-        return this.apiClient.call(request, Subscription.class);
+        return whenPermitted(permitted, () ->
+            this.apiClient.callAsync(memberRequest("/sendbounceprobe", groupId, subscriptionId), Subscription.class).thenApply(this::remember));
     }
 
     /**
@@ -374,6 +962,195 @@ public class MemberResource extends BaseResource {
         if (!this.apiClient.group().getPermissions(subscription.groupId()).manageMemberSubscriptionOptions()) {
             throw new GroupsIOApiException(inadequate_permissions);
         }
-        return this.update("/updatemember", Subscription.class, subscription);
+        return remember(this.update("/updatemember", Subscription.class, subscription));
+    }
+
+    /**
+     * Asynchronously updates a member given a {@link Subscription} object with
+     * only the updated fields set.
+     *
+     * @param subscription
+     *      a subscription model to use to apply updates.
+     * @return
+     *      a future completed with the full {@link Subscription} after a successful update.
+     */
+    public CompletableFuture<Subscription> updateMemberAsync(Subscription subscription) {
+        return whenPermitted(permissionsAsync(subscription.groupId()).thenApply(Permissions::manageMemberSubscriptionOptions), () ->
+            this.updateAsync("/updatemember", Subscription.class, subscription).thenApply(this::remember));
+    }
+
+    /**
+     * Runs an exporter over the pages of members in a group, rethrowing any
+     * errors raised while paging in their checked form.
+     */
+    private long export(int groupId, MemberExporter exporter) throws GroupsIOApiException, IOException {
+        try {
+            return exporter.export(this.apiClient.<Subscription>pages(getMembersRequest(groupId), SUBSCRIPTION_PAGE_TYPE));
+        } catch (UncheckedGroupsIOApiException e) {
+            throw e.getCause();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Writes a changed member through to the directory of its group.
+     */
+    private Subscription remember(Subscription member) {
+        MemberDirectory directory = this.apiClient.getMemberDirectory(member.groupId());
+
+        if (directory != null) {
+            directory.put(member);
+        }
+
+        return member;
+    }
+
+    /**
+     * Removes a member from the directory of its group.
+     */
+    private Subscription forget(int groupId, int subscriptionId, Subscription member) {
+        MemberDirectory directory = this.apiClient.getMemberDirectory(groupId);
+
+        if (directory != null) {
+            directory.remove(subscriptionId);
+        }
+
+        return member;
+    }
+
+    /**
+     * Writes directly added members through to the directory of the group.
+     */
+    private DirectAddResults rememberAdded(int groupId, DirectAddResults results) {
+        MemberDirectory directory = this.apiClient.getMemberDirectory(groupId);
+
+        if (directory != null) {
+            results.addedMembers().forEach(directory::put);
+        }
+
+        return results;
+    }
+
+    /**
+     * Removes members from the directory of the group after a bulk removal,
+     * keeping any member whose email was reported in an error.
+     */
+    private BulkRemoveResults forgetRemoved(int groupId, List<String> emails, BulkRemoveResults results) {
+        MemberDirectory directory = this.apiClient.getMemberDirectory(groupId);
+
+        if (directory != null) {
+            Set<String> failed = results.errors().stream()
+                .map(error -> error.extra().orElse("").toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+
+            emails.stream()
+                .filter(email -> !failed.contains(email.toLowerCase(Locale.ROOT)))
+                .forEach(directory::removeByEmail);
+        }
+
+        return results;
+    }
+
+    /**
+     * Asynchronously retrieves the current user's permissions within a group.
+     */
+    private CompletableFuture<Permissions> permissionsAsync(int groupId) {
+        return this.apiClient.group().getPermissionsAsync(groupId);
+    }
+
+    /**
+     * Checks asynchronously that the members of a group may be viewed,
+     * failing with {@code inadequate_permissions} otherwise.
+     */
+    private CompletableFuture<Void> viewMembersPermitted(int groupId) {
+        return whenPermitted(permissionsAsync(groupId).thenApply(Permissions::viewMembers), () -> CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Creates a request acting upon a single member of a group.
+     */
+    private static GroupsIOApiRequest memberRequest(String path, int groupId, int subscriptionId) {
+        return GroupsIOApiRequest
+            .builder("GET", path)
+                .putParam("group_id", "" + groupId)
+                .putParam("sub_id", "" + subscriptionId)
+            .build();
+    }
+
+    /**
+     * Creates a request acting upon a batch of emails within a group.
+     */
+    private static GroupsIOApiRequest emailsRequest(String path, int groupId, List<String> emails) {
+        return GroupsIOApiRequest
+            .builder("GET", path)
+                .putParam("group_id", "" + groupId)
+                .putParam("emails", String.join("\n", emails))
+            .build();
+    }
+
+    /**
+     * Creates a request acting upon a batch of emails within a group, sending
+     * the emails as a form body rather than in the URL.
+     */
+    private static GroupsIOApiRequest emailsFormRequest(String path, int groupId, List<String> emails) {
+        FormBody body = new FormBody.Builder()
+            .add("group_id", "" + groupId)
+            .add("emails", String.join("\n", emails))
+            .build();
+
+        return GroupsIOApiRequest
+            .builder("POST", path)
+                .body(body)
+            .build();
+    }
+
+    /**
+     * Creates an error for each email of a chunk which failed entirely.
+     */
+    private static List<Error> chunkErrors(List<String> chunk, Throwable failure) {
+        ErrorType type = failure instanceof GroupsIOApiException && ((GroupsIOApiException) failure).getErrorType() != null
+            ? ((GroupsIOApiException) failure).getErrorType()
+            : unknown;
+
+        return chunk.stream()
+            .map(email -> Error.create(type, email))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates a request to list the members of a group.
+     */
+    private static GroupsIOApiRequest getMembersRequest(int groupId) {
+        return GroupsIOApiRequest
+            .builder("GET", "/getmembers")
+                .putParam("group_id", "" + groupId)
+                .putParam("limit", MAX_RESULTS)
+            .build();
+    }
+
+    /**
+     * Creates a request to list the members of a group, most recently updated first.
+     */
+    private static GroupsIOApiRequest getMembersNewestFirstRequest(int groupId) {
+        return GroupsIOApiRequest
+            .builder("GET", "/getmembers")
+                .putParam("group_id", "" + groupId)
+                .putParam("limit", MAX_RESULTS)
+                .putParam("sort_field", "updated")
+                .putParam("sort_dir", "desc")
+            .build();
+    }
+
+    /**
+     * Creates a request to search the members of a group.
+     */
+    private static GroupsIOApiRequest searchMembersRequest(int groupId, String query) {
+        return GroupsIOApiRequest
+            .builder("GET", "/searchmembers")
+                .putParam("group_id", "" + groupId)
+                .putParam("limit", MAX_RESULTS)
+                .putParam("q", query)
+            .build();
     }
 }
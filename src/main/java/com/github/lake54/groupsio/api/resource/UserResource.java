@@ -1,6 +1,7 @@
 package com.github.lake54.groupsio.api.resource;
 
 import com.fasterxml.jackson.databind.JavaType;
+import com.github.lake54.groupsio.api.AsyncPageIterator;
 import com.github.lake54.groupsio.api.GroupsIOApiClient;
 import com.github.lake54.groupsio.api.GroupsIOApiRequest;
 import com.github.lake54.groupsio.api.domain.Subscription;
@@ -12,6 +13,8 @@ import com.github.lake54.groupsio.api.util.JacksonUtils;
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Resource class based around all operations related to the
@@ -46,12 +49,19 @@ public class UserResource extends BaseResource {
      *      on any errors calling the API.
      */
     public void deleteSubscription(int sub_id) throws GroupsIOApiException, IOException {
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/deletesub")
-                .putParam("sub_id", "" + sub_id)
-            .build();
+        this.apiClient.call(deleteSubscriptionRequest(sub_id), Object.class);
+    }
 
-        this.apiClient.call(request, Object.class);
+    /**
+     * Asynchronously deletes a user's subscription by id.
+     *
+     * @param sub_id
+     *      the subscription identifier.
+     * @return
+     *      a future completed once the subscription has been deleted.
+     */
+    public CompletableFuture<Void> deleteSubscriptionAsync(int sub_id) {
+        return this.apiClient.callAsync(deleteSubscriptionRequest(sub_id), Object.class).thenApply(result -> null);
     }
 
     /**
@@ -65,12 +75,17 @@ public class UserResource extends BaseResource {
      *      on any errors calling the API.
      */
     public Subscription getSubscription(int groupId) throws GroupsIOApiException, IOException {
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/getsub")
-                .putParam("group_id", "" + groupId)
-            .build();
+        return this.apiClient.call(getSubscriptionRequest(groupId), Subscription.class);
+    }
 
-        return this.apiClient.call(request, Subscription.class);
+    /**
+     * Asynchronously gets a user's {@link Subscription} for the specified group ID.
+     *
+     * @return
+     *      a future completed with the user's {@link Subscription} for the specified group ID.
+     */
+    public CompletableFuture<Subscription> getSubscriptionAsync(int groupId) {
+        return this.apiClient.callAsync(getSubscriptionRequest(groupId), Subscription.class);
     }
 
     /**
@@ -85,12 +100,40 @@ public class UserResource extends BaseResource {
      *      on any errors calling the API.
      */
     public List<Subscription> getSubscriptions() throws GroupsIOApiException, IOException {
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/getsubs")
-                .putParam("limit", MAX_RESULTS)
-            .build();
+        return this.apiClient.paginate(getSubscriptionsRequest(), SUBSCRIPTION_PLUS_PAGE_TYPE);
+    }
 
-        return this.apiClient.paginate(request, SUBSCRIPTION_PLUS_PAGE_TYPE);
+    /**
+     * Asynchronously gets a list of {@link Subscription}s that the current
+     * user is subscribed to.
+     *
+     * @return
+     *      a future completed with a {@link List}<{@link Subscription}> representing the subscriptions.
+     */
+    public CompletableFuture<List<Subscription>> getSubscriptionsAsync() {
+        return this.apiClient.paginateAsync(getSubscriptionsRequest(), SUBSCRIPTION_PLUS_PAGE_TYPE);
+    }
+
+    /**
+     * Asynchronously pages through the {@link Subscription}s that the
+     * current user is subscribed to, requesting each page only when asked for.
+     *
+     * @return
+     *      an {@link AsyncPageIterator} over pages of the subscriptions.
+     */
+    public AsyncPageIterator<Subscription> getSubscriptionsPagesAsync() {
+        return this.apiClient.pagesAsync(getSubscriptionsRequest(), SUBSCRIPTION_PLUS_PAGE_TYPE);
+    }
+
+    /**
+     * Lazily streams the {@link Subscription}s that the current user is
+     * subscribed to.
+     *
+     * @return
+     *      a {@link Stream}<{@link Subscription}> representing the subscriptions.
+     */
+    public Stream<Subscription> streamSubscriptions() {
+        return this.apiClient.stream(getSubscriptionsRequest(), SUBSCRIPTION_PLUS_PAGE_TYPE);
     }
 
     /**
@@ -104,10 +147,18 @@ public class UserResource extends BaseResource {
      *      on any errors calling the API.
      */
     public User getUser() throws GroupsIOApiException, IOException {
-        GroupsIOApiRequest request = GroupsIOApiRequest
-            .builder("GET", "/getuser").build();
+        return this.apiClient.call(getUserRequest(), User.class);
+    }
 
-        return this.apiClient.call(request, User.class);
+    /**
+     * Asynchronously get the user information associated with the
+     * currently-logged in user.
+     *
+     * @return
+     *      a future completed with a {@link User} instance representing the current user
+     */
+    public CompletableFuture<User> getUserAsync() {
+        return this.apiClient.callAsync(getUserRequest(), User.class);
     }
 
     /**
@@ -158,4 +209,55 @@ public class UserResource extends BaseResource {
     public User updateUser(User user) throws IOException, GroupsIOApiException {
         return this.update("/updateuser", User.class, user);
     }
+
+    /**
+     * Asynchronously updates a user given a {@link User} object with only
+     * the updated fields set.
+     *
+     * @param user
+     *      a user model to use to apply updates.
+     * @return
+     *      a future completed with the full {@link User} after a successful update.
+     */
+    public CompletableFuture<User> updateUserAsync(User user) {
+        return this.updateAsync("/updateuser", User.class, user);
+    }
+
+    /**
+     * Creates a request to delete a subscription.
+     */
+    private static GroupsIOApiRequest deleteSubscriptionRequest(int sub_id) {
+        return GroupsIOApiRequest
+            .builder("GET", "/deletesub")
+                .putParam("sub_id", "" + sub_id)
+            .build();
+    }
+
+    /**
+     * Creates a request to retrieve a subscription.
+     */
+    private static GroupsIOApiRequest getSubscriptionRequest(int groupId) {
+        return GroupsIOApiRequest
+            .builder("GET", "/getsub")
+                .putParam("group_id", "" + groupId)
+            .build();
+    }
+
+    /**
+     * Creates a request to list the subscriptions of the current user.
+     */
+    private static GroupsIOApiRequest getSubscriptionsRequest() {
+        return GroupsIOApiRequest
+            .builder("GET", "/getsubs")
+                .putParam("limit", MAX_RESULTS)
+            .build();
+    }
+
+    /**
+     * Creates a request to retrieve the current user.
+     */
+    private static GroupsIOApiRequest getUserRequest() {
+        return GroupsIOApiRequest
+            .builder("GET", "/getuser").build();
+    }
 }
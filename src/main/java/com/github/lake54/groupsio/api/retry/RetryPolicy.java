@@ -0,0 +1,199 @@
+package com.github.lake54.groupsio.api.retry;
+
+import com.github.lake54.groupsio.api.domain.enums.error.ErrorType;
+import com.github.lake54.groupsio.api.exception.GroupsIOApiException;
+import com.google.common.base.Preconditions;
+import org.immutables.value.Value;
+
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.immutables.value.Value.Style.ImplementationVisibility.PACKAGE;
+
+/**
+ * Policy describing how failed calls should be retried.
+ *
+ * Only idempotent requests are ever retried, and only on transient
+ * failures: {@code server} and {@code rate_limit} errors from the API
+ * (including 5xx and 429 responses without an error body), timeouts, and
+ * connections which could not be opened or were reset. Any other failure,
+ * such as a 4xx response or a body which cannot be decoded, would fail
+ * again in the same way, so it is never retried. Each retry waits for a random delay
+ * between zero and an exponentially growing ceiling ("full jitter"), and
+ * no retry is attempted once the total deadline would be exceeded.
+ *
+ * As retries happen per call, a failing page of a paginated request is
+ * retried on its own, without discarding the pages fetched before it.
+ */
+@Value.Immutable(copy = false)
+@Value.Style(visibility = PACKAGE)
+public abstract class RetryPolicy {
+
+    /**
+     * The maximum number of attempts, including the first.
+     *
+     * @return the maximum number of attempts.
+     */
+    @Value.Default
+    public int maxAttempts() {
+        return 5;
+    }
+
+    /**
+     * The ceiling of the delay before the first retry, in milliseconds.
+     *
+     * @return the initial backoff.
+     */
+    @Value.Default
+    public long initialBackoffMillis() {
+        return 250;
+    }
+
+    /**
+     * The largest ceiling of the delay before any retry, in milliseconds.
+     *
+     * @return the maximum backoff.
+     */
+    @Value.Default
+    public long maxBackoffMillis() {
+        return 30_000;
+    }
+
+    /**
+     * The total time allowed for a call including all retries, in milliseconds.
+     *
+     * @return the deadline.
+     */
+    @Value.Default
+    public long deadlineMillis() {
+        return 120_000;
+    }
+
+    @Value.Check
+    void check() {
+        Preconditions.checkState(maxAttempts() > 0, "maxAttempts must be positive");
+        Preconditions.checkState(initialBackoffMillis() >= 0, "initialBackoffMillis must not be negative");
+        Preconditions.checkState(maxBackoffMillis() >= initialBackoffMillis(), "maxBackoffMillis must not be below initialBackoffMillis");
+        Preconditions.checkState(deadlineMillis() >= 0, "deadlineMillis must not be negative");
+    }
+
+    /**
+     * Returns whether a failure is transient, and so worth retrying.
+     *
+     * @param throwable
+     *      the failure of the previous attempt.
+     * @return
+     *      true if the failure is transient.
+     */
+    public boolean isRetryable(Throwable throwable) {
+        if (throwable instanceof GroupsIOApiException) {
+            ErrorType type = ((GroupsIOApiException) throwable).getErrorType();
+            return type == ErrorType.server || type == ErrorType.rate_limit;
+        }
+        return throwable instanceof SocketTimeoutException
+            || throwable instanceof SocketException;
+    }
+
+    /**
+     * Returns the delay to wait before the next attempt, or a negative
+     * value if no further attempt should be made.
+     *
+     * @param attempt
+     *      the number of attempts made so far.
+     * @param elapsedNanos
+     *      the time elapsed since the first attempt started.
+     * @return
+     *      the delay in nanoseconds, or a negative value to give up.
+     */
+    public long nextDelayNanos(int attempt, long elapsedNanos) {
+        if (attempt >= maxAttempts()) {
+            return -1;
+        }
+
+        long ceiling = initialBackoffMillis() << Math.min(attempt - 1, 30);
+        long bound = Math.min(maxBackoffMillis(), ceiling < 0 ? Long.MAX_VALUE : ceiling);
+        long delay = TimeUnit.MILLISECONDS.toNanos(ThreadLocalRandom.current().nextLong(bound + 1));
+
+        if (elapsedNanos + delay > TimeUnit.MILLISECONDS.toNanos(deadlineMillis())) {
+            return -1;
+        }
+
+        return delay;
+    }
+
+    /**
+     * Returns a policy with all default settings.
+     *
+     * @return a default {@link RetryPolicy}.
+     */
+    public static RetryPolicy defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Returns a builder for a policy, starting from the default settings.
+     *
+     * @return
+     *      a new {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return ImmutableRetryPolicy.builder();
+    }
+
+    /**
+     * Builder of a {@link RetryPolicy}, where any setting left unset keeps
+     * its default.
+     */
+    public interface Builder {
+
+        /**
+         * Sets the maximum number of attempts, including the first.
+         *
+         * @param maxAttempts
+         *      the maximum number of attempts, which must be positive.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder maxAttempts(int maxAttempts);
+
+        /**
+         * Sets the ceiling of the delay before the first retry.
+         *
+         * @param initialBackoffMillis
+         *      the initial backoff, in milliseconds.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder initialBackoffMillis(long initialBackoffMillis);
+
+        /**
+         * Sets the largest ceiling of the delay before any retry.
+         *
+         * @param maxBackoffMillis
+         *      the maximum backoff, in milliseconds.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder maxBackoffMillis(long maxBackoffMillis);
+
+        /**
+         * Sets the total time allowed for a call including all retries.
+         *
+         * @param deadlineMillis
+         *      the deadline, in milliseconds.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder deadlineMillis(long deadlineMillis);
+
+        /**
+         * Constructs a new {@link RetryPolicy} from this builder.
+         *
+         * @return
+         *      a new {@link RetryPolicy} instance.
+         */
+        RetryPolicy build();
+    }
+}
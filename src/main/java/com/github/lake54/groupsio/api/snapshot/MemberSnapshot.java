@@ -0,0 +1,373 @@
+package com.github.lake54.groupsio.api.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.lake54.groupsio.api.domain.Subscription;
+import com.github.lake54.groupsio.api.util.JacksonUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A read-only, memory-mapped snapshot of the members of a group.
+ *
+ * A snapshot file starts with a fixed header, followed by one Smile
+ * encoded {@link Subscription} per member, followed by an index of
+ * subscription identifier, offset and length sorted by identifier:
+ *
+ * <pre>
+ * header  magic:int version:int groupId:int count:int created:long indexOffset:long
+ * records count x smile bytes
+ * index   count x (id:int offset:int length:int)
+ * </pre>
+ *
+ * Opening a snapshot only maps the file; records are decoded when they are
+ * read, so a snapshot of any size is available as soon as it is opened.
+ *
+ * Smile is an optional dependency of the client, so this class requires
+ * {@code jackson-dataformat-smile} to be on the classpath.
+ */
+public class MemberSnapshot implements Iterable<Subscription> {
+
+    /**
+     * The magic number identifying a snapshot file ("GIOS").
+     */
+    private static final int MAGIC = 0x47494F53;
+
+    /**
+     * The current version of the snapshot format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The size of the header, in bytes.
+     */
+    private static final int HEADER_SIZE = 32;
+
+    /**
+     * The size of a single index entry, in bytes.
+     */
+    private static final int ENTRY_SIZE = 12;
+
+    /**
+     * The mapper used to encode records.
+     */
+    private static final ObjectMapper MAPPER = JacksonUtils.createMapper(new SmileFactory());
+
+    /**
+     * The reader used to decode records.
+     */
+    private static final ObjectReader READER = MAPPER.readerFor(Subscription.class);
+
+    /**
+     * The path the snapshot was read from.
+     */
+    private final Path path;
+
+    /**
+     * The mapped contents of the snapshot file.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The group the snapshot holds members for.
+     */
+    private final int groupId;
+
+    /**
+     * The number of members in the snapshot.
+     */
+    private final int size;
+
+    /**
+     * The time the snapshot was written, in milliseconds since the epoch.
+     */
+    private final long createdMillis;
+
+    /**
+     * The position of the index within the buffer.
+     */
+    private final int indexOffset;
+
+    /**
+     * Creates a snapshot over a mapped buffer.
+     */
+    private MemberSnapshot(Path path, ByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a member snapshot: " + path);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported member snapshot version " + buffer.getInt(4) + ": " + path);
+        }
+
+        this.groupId = buffer.getInt(8);
+        this.size = buffer.getInt(12);
+        this.createdMillis = buffer.getLong(16);
+        this.indexOffset = (int) buffer.getLong(24);
+
+        if ((long) this.indexOffset + (long) this.size * ENTRY_SIZE != buffer.capacity()) {
+            throw new IOException("Truncated member snapshot: " + path);
+        }
+    }
+
+    /**
+     * Maps an existing snapshot file.
+     *
+     * @param path
+     *      the path of the snapshot file.
+     * @return
+     *      a {@link MemberSnapshot} backed by the file.
+     * @throws IOException
+     *      if the file cannot be mapped or is not a valid snapshot.
+     */
+    public static MemberSnapshot open(@Nonnull Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MemberSnapshot(path, buffer);
+        }
+    }
+
+    /**
+     * Writes a snapshot file from a sequence of members, in a single pass.
+     *
+     * @param path
+     *      the path to write the snapshot to; any existing file is replaced.
+     * @param groupId
+     *      the group the members belong to.
+     * @param members
+     *      an iterator over the full set of members.
+     * @return
+     *      the number of members written.
+     * @throws IOException
+     *      on any errors writing the file.
+     */
+    public static int write(@Nonnull Path path, int groupId, @Nonnull Iterator<Subscription> members) throws IOException {
+        int[] ids = new int[64];
+        int[] offsets = new int[64];
+        int[] lengths = new int[64];
+        int count = 0;
+        long position = HEADER_SIZE;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+
+            // reserve the header, which is filled in once the index is known
+            output.write(new byte[HEADER_SIZE]);
+
+            while (members.hasNext()) {
+                Subscription member = members.next();
+                byte[] record = MAPPER.writeValueAsBytes(member);
+
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, count * 2);
+                    offsets = Arrays.copyOf(offsets, count * 2);
+                    lengths = Arrays.copyOf(lengths, count * 2);
+                }
+
+                ids[count] = member.id();
+                offsets[count] = checkedOffset(position, path);
+                lengths[count] = record.length;
+                count++;
+
+                output.write(record);
+                position += record.length;
+            }
+
+            long indexOffset = position;
+            checkedOffset(indexOffset + (long) count * ENTRY_SIZE, path);
+
+            for (int entry : sortedById(ids, count)) {
+                output.writeInt(ids[entry]);
+                output.writeInt(offsets[entry]);
+                output.writeInt(lengths[entry]);
+            }
+            output.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putInt(groupId).putInt(count);
+            header.putLong(System.currentTimeMillis()).putLong(indexOffset);
+            header.flip();
+
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the path the snapshot was read from.
+     *
+     * @return the snapshot {@link Path}.
+     */
+    public Path getPath() {
+        return this.path;
+    }
+
+    /**
+     * Returns the group the snapshot holds members for.
+     *
+     * @return the group identifier.
+     */
+    public int getGroupId() {
+        return this.groupId;
+    }
+
+    /**
+     * Returns the number of members in the snapshot.
+     *
+     * @return the member count.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the time the snapshot was written.
+     *
+     * @return the time in milliseconds since the epoch.
+     */
+    public long getCreatedMillis() {
+        return this.createdMillis;
+    }
+
+    /**
+     * Looks up a member by subscription identifier.
+     *
+     * @param subscriptionId
+     *      the identifier of the subscription.
+     * @return
+     *      the member's {@link Subscription}, or null if not in the snapshot.
+     */
+    @Nullable
+    public Subscription get(int subscriptionId) {
+        int low = 0;
+        int high = this.size - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int id = this.buffer.getInt(entryOffset(middle));
+
+            if (id < subscriptionId) {
+                low = middle + 1;
+            } else if (id > subscriptionId) {
+                high = middle - 1;
+            } else {
+                return decode(middle);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Iterates all members in the snapshot, in subscription identifier
+     * order, decoding each as it is reached.
+     *
+     * @return an {@link Iterator} over all members.
+     */
+    @Nonnull
+    @Override
+    public Iterator<Subscription> iterator() {
+        return new Iterator<Subscription>() {
+
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return this.next < MemberSnapshot.this.size;
+            }
+
+            @Override
+            public Subscription next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return decode(this.next++);
+            }
+        };
+    }
+
+    /**
+     * Streams all members in the snapshot, in subscription identifier order.
+     *
+     * @return a {@link Stream} over all members.
+     */
+    public Stream<Subscription> stream() {
+        Spliterator<Subscription> spliterator = Spliterators.spliterator(iterator(), this.size,
+            Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT | Spliterator.IMMUTABLE);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Decodes the record referenced by an index entry.
+     */
+    private Subscription decode(int entry) {
+        int position = entryOffset(entry);
+        int offset = this.buffer.getInt(position + 4);
+        int length = this.buffer.getInt(position + 8);
+
+        byte[] record = new byte[length];
+        ByteBuffer view = this.buffer.duplicate();
+        view.position(offset);
+        view.get(record);
+
+        try {
+            return READER.readValue(record);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the position of an index entry within the buffer.
+     */
+    private int entryOffset(int entry) {
+        return this.indexOffset + entry * ENTRY_SIZE;
+    }
+
+    /**
+     * Ensures a file position can be addressed by a mapped buffer.
+     */
+    private static int checkedOffset(long position, Path path) throws IOException {
+        if (position > Integer.MAX_VALUE) {
+            throw new IOException("Member snapshot exceeds 2GB: " + path);
+        }
+        return (int) position;
+    }
+
+    /**
+     * Returns the positions of the first count entries, ordered by identifier.
+     */
+    private static Integer[] sortedById(int[] ids, int count) {
+        Integer[] entries = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            entries[i] = i;
+        }
+        Arrays.sort(entries, (left, right) -> Integer.compare(ids[left], ids[right]));
+        return entries;
+    }
+}
@@ -0,0 +1,248 @@
+package com.github.lake54.groupsio.api.snapshot;
+
+import com.github.lake54.groupsio.api.GroupsIOApiClient;
+import com.github.lake54.groupsio.api.domain.Subscription;
+import com.github.lake54.groupsio.api.exception.GroupsIOApiException;
+import com.github.lake54.groupsio.api.exception.UncheckedGroupsIOApiException;
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * A directory of {@link MemberSnapshot} files, one per group.
+ *
+ * Snapshots are mapped lazily, the first time a group is asked for, so a
+ * restarted service can answer from the previous snapshots straight away.
+ * Refreshing a group pages its members from the API into a temporary file
+ * which then atomically replaces the previous snapshot; readers holding
+ * the previous snapshot keep a consistent view until they ask again.
+ *
+ * Snapshots are encoded with Smile, which is an optional dependency of
+ * the client; a store can only be created when {@code jackson-dataformat-smile}
+ * is on the classpath.
+ */
+public class MemberSnapshotStore {
+
+    /**
+     * The client used to read members.
+     */
+    private final GroupsIOApiClient apiClient;
+
+    /**
+     * The directory holding a snapshot file per group.
+     */
+    private final Path directory;
+
+    /**
+     * The executor used for background refreshes.
+     */
+    private final Executor executor;
+
+    /**
+     * The mapped snapshots, keyed by group identifier.
+     */
+    private final ConcurrentMap<Integer, MemberSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * The refreshes currently running, keyed by group identifier.
+     */
+    private final ConcurrentMap<Integer, CompletableFuture<MemberSnapshot>> refreshes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a store refreshing groups on a single background thread.
+     *
+     * @param apiClient
+     *      the client used to read members.
+     * @param directory
+     *      the directory to keep snapshots in.
+     */
+    public MemberSnapshotStore(@Nonnull GroupsIOApiClient apiClient, @Nonnull Path directory) {
+        this(apiClient, directory, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "groupsio-snapshots");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a store refreshing groups on the provided executor.
+     *
+     * @param apiClient
+     *      the client used to read members.
+     * @param directory
+     *      the directory to keep snapshots in.
+     * @param executor
+     *      the executor used for background refreshes.
+     * @throws IllegalStateException
+     *      if {@code jackson-dataformat-smile} is not on the classpath.
+     */
+    public MemberSnapshotStore(@Nonnull GroupsIOApiClient apiClient, @Nonnull Path directory, @Nonnull Executor executor) {
+        Preconditions.checkState(isSmileAvailable(), "member snapshots require jackson-dataformat-smile on the classpath");
+
+        this.apiClient = Preconditions.checkNotNull(apiClient);
+        this.directory = Preconditions.checkNotNull(directory);
+        this.executor = Preconditions.checkNotNull(executor);
+    }
+
+    /**
+     * Returns the current snapshot of a group, mapping it from disk the
+     * first time it is asked for.
+     *
+     * @param groupId
+     *      the group identifier to lookup.
+     * @return
+     *      the group's {@link MemberSnapshot}, or null if none has been written.
+     * @throws IOException
+     *      if the snapshot file cannot be mapped.
+     */
+    @Nullable
+    public MemberSnapshot get(int groupId) throws IOException {
+        MemberSnapshot snapshot = this.snapshots.get(groupId);
+
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        Path path = snapshotPath(groupId);
+
+        if (!Files.exists(path)) {
+            return null;
+        }
+
+        snapshot = MemberSnapshot.open(path);
+
+        MemberSnapshot existing = this.snapshots.putIfAbsent(groupId, snapshot);
+        return existing == null ? snapshot : existing;
+    }
+
+    /**
+     * Re-reads the members of a group from the API and replaces its snapshot.
+     *
+     * @param groupId
+     *      the group identifier to refresh.
+     * @return
+     *      the new {@link MemberSnapshot}.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API or writing the snapshot.
+     */
+    public MemberSnapshot refresh(int groupId) throws GroupsIOApiException, IOException {
+        Files.createDirectories(this.directory);
+
+        Path target = snapshotPath(groupId);
+        Path temp = Files.createTempFile(this.directory, target.getFileName().toString(), ".tmp");
+
+        try {
+            try (Stream<Subscription> members = this.apiClient.member().streamMembersInGroup(groupId)) {
+                MemberSnapshot.write(temp, groupId, members.iterator());
+            } catch (UncheckedGroupsIOApiException e) {
+                throw e.getCause();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        MemberSnapshot snapshot = MemberSnapshot.open(target);
+        this.snapshots.put(groupId, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Refreshes the snapshot of a group in the background. Only one refresh
+     * runs per group at a time; asking again while one is running returns
+     * the running refresh.
+     *
+     * @param groupId
+     *      the group identifier to refresh.
+     * @return
+     *      a future completed with the new {@link MemberSnapshot}.
+     */
+    public CompletableFuture<MemberSnapshot> refreshAsync(int groupId) {
+        CompletableFuture<MemberSnapshot> future = new CompletableFuture<>();
+        CompletableFuture<MemberSnapshot> running = this.refreshes.putIfAbsent(groupId, future);
+
+        if (running != null) {
+            return running;
+        }
+
+        future.whenComplete((snapshot, error) -> this.refreshes.remove(groupId, future));
+
+        try {
+            this.executor.execute(() -> {
+                try {
+                    future.complete(refresh(groupId));
+                } catch (GroupsIOApiException | IOException e) {
+                    future.completeExceptionally(new CompletionException(e));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        }
+
+        return future;
+    }
+
+    /**
+     * Returns the current snapshot of a group and starts a background refresh.
+     *
+     * This is the usual way to warm up at startup: the previous snapshot is
+     * available immediately, and replaced once the refresh completes.
+     *
+     * @param groupId
+     *      the group identifier to open.
+     * @return
+     *      the group's {@link MemberSnapshot}, or null if none has been written.
+     * @throws IOException
+     *      if the snapshot file cannot be mapped.
+     */
+    @Nullable
+    public MemberSnapshot open(int groupId) throws IOException {
+        MemberSnapshot snapshot = get(groupId);
+        refreshAsync(groupId);
+        return snapshot;
+    }
+
+    /**
+     * Returns the path of the snapshot file for a group.
+     */
+    private Path snapshotPath(int groupId) {
+        return this.directory.resolve("members-" + groupId + ".snapshot");
+    }
+
+    /**
+     * Returns whether the Smile format used to encode snapshots is available.
+     */
+    private static boolean isSmileAvailable() {
+        try {
+            Class.forName("com.fasterxml.jackson.dataformat.smile.SmileFactory", false, MemberSnapshotStore.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.lake54.groupsio.api.sync;
+
+import com.github.lake54.groupsio.api.domain.Subscription;
+import org.immutables.value.Value;
+
+import javax.annotation.Nonnull;
+import java.util.Optional;
+
+import static org.immutables.value.Value.Style.ImplementationVisibility.PACKAGE;
+
+/**
+ * A single change to the members of a group found by a {@link MemberDeltaSync}.
+ */
+@Value.Immutable(builder = false, copy = false)
+@Value.Style(visibility = PACKAGE)
+public abstract class MemberChange {
+
+    /**
+     * The kinds of change which can be found.
+     */
+    public enum Type {
+        ADDED,
+        CHANGED,
+        REMOVED
+    }
+
+    /**
+     * The kind of change.
+     *
+     * @return the change {@link Type}.
+     */
+    @Value.Parameter
+    public abstract Type type();
+
+    /**
+     * The group the member belongs to.
+     *
+     * @return the group identifier.
+     */
+    @Value.Parameter
+    public abstract int groupId();
+
+    /**
+     * The subscription identifier of the member.
+     *
+     * @return the subscription identifier.
+     */
+    @Value.Parameter
+    public abstract int subscriptionId();
+
+    /**
+     * The current state of the member; absent for removed members.
+     *
+     * @return an optional {@link Subscription}.
+     */
+    @Value.Parameter
+    public abstract Optional<Subscription> member();
+
+    /**
+     * Creates a change for a member which is new to the group.
+     *
+     * @param member
+     *      the member's {@link Subscription}.
+     * @return
+     *      a new {@link MemberChange} instance.
+     */
+    public static MemberChange added(@Nonnull Subscription member) {
+        return ImmutableMemberChange.of(Type.ADDED, member.groupId(), member.id(), Optional.of(member));
+    }
+
+    /**
+     * Creates a change for a member which has been updated.
+     *
+     * @param member
+     *      the member's {@link Subscription}.
+     * @return
+     *      a new {@link MemberChange} instance.
+     */
+    public static MemberChange changed(@Nonnull Subscription member) {
+        return ImmutableMemberChange.of(Type.CHANGED, member.groupId(), member.id(), Optional.of(member));
+    }
+
+    /**
+     * Creates a change for a member which has left the group.
+     *
+     * @param groupId
+     *      the group the member belonged to.
+     * @param subscriptionId
+     *      the subscription identifier of the member.
+     * @return
+     *      a new {@link MemberChange} instance.
+     */
+    public static MemberChange removed(int groupId, int subscriptionId) {
+        return ImmutableMemberChange.of(Type.REMOVED, groupId, subscriptionId, Optional.empty());
+    }
+}
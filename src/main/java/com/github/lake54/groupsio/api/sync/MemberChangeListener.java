@@ -0,0 +1,16 @@
+package com.github.lake54.groupsio.api.sync;
+
+/**
+ * Listener notified of each change found by a {@link MemberDeltaSync}.
+ */
+@FunctionalInterface
+public interface MemberChangeListener {
+
+    /**
+     * Called for each member added, changed or removed since the last sync.
+     *
+     * @param change
+     *      the {@link MemberChange} found.
+     */
+    void onChange(MemberChange change);
+}
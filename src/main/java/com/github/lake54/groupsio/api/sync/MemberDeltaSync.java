@@ -0,0 +1,379 @@
+package com.github.lake54.groupsio.api.sync;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.lake54.groupsio.api.GroupsIOApiClient;
+import com.github.lake54.groupsio.api.domain.Subscription;
+import com.github.lake54.groupsio.api.exception.GroupsIOApiException;
+import com.github.lake54.groupsio.api.exception.UncheckedGroupsIOApiException;
+import com.github.lake54.groupsio.api.util.JacksonCodec;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Finds the members of a group added, changed or removed since the last sync.
+ *
+ * After each run a checkpoint is written to a directory on local disk,
+ * holding the {@code updated} timestamp of every known member and the
+ * latest timestamp seen. The next run compares the members read from the
+ * API against the checkpoint and emits a {@link MemberChange} for each
+ * difference.
+ *
+ * A full sync reads every member and is the only way to find removed
+ * members. When the API returns members most recently updated first, an
+ * incremental sync stops paging as soon as it reaches members older than
+ * the checkpoint, so that a quiet group costs a single page; a member
+ * without a readable timestamp cannot be proven older, so it is reported
+ * and paging carries on past it. Incremental syncs are only used when
+ * enabled, and fall back to a full sync if the members turn out not to be
+ * in order.
+ */
+public class MemberDeltaSync {
+
+    /**
+     * The mapper used to read and write checkpoints.
+     */
+    private static final ObjectMapper MAPPER = JacksonCodec.shared().getMapper();
+
+    /**
+     * The client used to read members.
+     */
+    private final GroupsIOApiClient apiClient;
+
+    /**
+     * The directory holding a checkpoint file per group.
+     */
+    private final Path checkpointDirectory;
+
+    /**
+     * Whether incremental syncs are enabled.
+     */
+    private final boolean incremental;
+
+    /**
+     * The number of syncs between full syncs, when incremental syncs are enabled.
+     */
+    private final int fullSyncInterval;
+
+    /**
+     * Creates a sync engine which always performs full syncs.
+     *
+     * @param apiClient
+     *      the client used to read members.
+     * @param checkpointDirectory
+     *      the directory to keep checkpoints in.
+     */
+    public MemberDeltaSync(@Nonnull GroupsIOApiClient apiClient, @Nonnull Path checkpointDirectory) {
+        this(apiClient, checkpointDirectory, false, 1);
+    }
+
+    /**
+     * Creates a sync engine.
+     *
+     * @param apiClient
+     *      the client used to read members.
+     * @param checkpointDirectory
+     *      the directory to keep checkpoints in.
+     * @param incremental
+     *      whether to stop paging at members older than the checkpoint.
+     * @param fullSyncInterval
+     *      the number of syncs between full syncs, which find removed members.
+     */
+    public MemberDeltaSync(@Nonnull GroupsIOApiClient apiClient, @Nonnull Path checkpointDirectory, boolean incremental, int fullSyncInterval) {
+        Preconditions.checkArgument(fullSyncInterval > 0, "fullSyncInterval must be positive");
+
+        this.apiClient = Preconditions.checkNotNull(apiClient);
+        this.checkpointDirectory = Preconditions.checkNotNull(checkpointDirectory);
+        this.incremental = incremental;
+        this.fullSyncInterval = fullSyncInterval;
+    }
+
+    /**
+     * Syncs the members of a group, choosing between a full and an
+     * incremental sync based on the configuration and the checkpoint.
+     *
+     * @param groupId
+     *      the group identifier to sync.
+     * @param listener
+     *      the listener to notify of each change.
+     * @return
+     *      a {@link SyncResult} summarising the sync.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API or accessing the checkpoint.
+     */
+    public SyncResult sync(int groupId, @Nonnull MemberChangeListener listener) throws GroupsIOApiException, IOException {
+        SyncCheckpoint checkpoint = readCheckpoint(groupId);
+
+        if (checkpoint == null
+                || !checkpoint.watermark().isPresent()
+                || !this.incremental
+                || checkpoint.syncsSinceFull() + 1 >= this.fullSyncInterval) {
+            return fullSync(groupId, listener);
+        }
+
+        Instant watermark = parse(checkpoint.watermark().get());
+
+        if (watermark == null) {
+            return fullSync(groupId, listener);
+        }
+
+        Run run = new Run(groupId, checkpoint, listener);
+
+        try (Stream<Subscription> members = this.apiClient.member().streamMembersInGroupNewestFirst(groupId)) {
+            Iterator<Subscription> iterator = members.iterator();
+            Instant previous = null;
+
+            while (iterator.hasNext()) {
+                Subscription member = iterator.next();
+                Instant updated = parse(member.updated());
+
+                if (updated == null) {
+                    // there is no proof the member is older than the watermark, so keep going
+                    run.visit(member);
+                    continue;
+                }
+                if (previous != null && updated.isAfter(previous)) {
+                    // the API did not honour the ordering, so nothing can be skipped
+                    return run.complete(scanAll(groupId, run));
+                }
+                if (updated.isBefore(watermark)) {
+                    break;
+                }
+
+                run.visit(member);
+                previous = updated;
+            }
+        } catch (UncheckedGroupsIOApiException e) {
+            throw e.getCause();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        return run.complete(false);
+    }
+
+    /**
+     * Syncs every member of a group, including finding removed members.
+     *
+     * @param groupId
+     *      the group identifier to sync.
+     * @param listener
+     *      the listener to notify of each change.
+     * @return
+     *      a {@link SyncResult} summarising the sync.
+     * @throws GroupsIOApiException
+     *      on any errors dealing with data.
+     * @throws IOException
+     *      on any errors calling the API or accessing the checkpoint.
+     */
+    public SyncResult fullSync(int groupId, @Nonnull MemberChangeListener listener) throws GroupsIOApiException, IOException {
+        Run run = new Run(groupId, readCheckpoint(groupId), listener);
+        return run.complete(scanAll(groupId, run));
+    }
+
+    /**
+     * Deletes the checkpoint of a group, so that the next sync reports
+     * every member as added.
+     *
+     * @param groupId
+     *      the group identifier to reset.
+     * @throws IOException
+     *      on any errors deleting the checkpoint.
+     */
+    public void reset(int groupId) throws IOException {
+        Files.deleteIfExists(checkpointPath(groupId));
+    }
+
+    /**
+     * Reads the checkpoint of a group.
+     *
+     * @param groupId
+     *      the group identifier to read the checkpoint of.
+     * @return
+     *      the {@link SyncCheckpoint}, or null if the group was never synced.
+     * @throws IOException
+     *      on any errors reading the checkpoint.
+     */
+    @Nullable
+    public SyncCheckpoint readCheckpoint(int groupId) throws IOException {
+        Path path = checkpointPath(groupId);
+
+        if (!Files.exists(path)) {
+            return null;
+        }
+
+        return MAPPER.readValue(path.toFile(), SyncCheckpoint.class);
+    }
+
+    /**
+     * Reads every member of a group into a run.
+     *
+     * @return true, as the scan always reads every member.
+     */
+    private boolean scanAll(int groupId, Run run) throws GroupsIOApiException, IOException {
+        try (Stream<Subscription> members = this.apiClient.member().streamMembersInGroup(groupId)) {
+            members.forEach(run::visit);
+        } catch (UncheckedGroupsIOApiException e) {
+            throw e.getCause();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return true;
+    }
+
+    /**
+     * Writes the checkpoint of a group, replacing the previous checkpoint
+     * atomically where the file system allows.
+     */
+    private void writeCheckpoint(SyncCheckpoint checkpoint) throws IOException {
+        Files.createDirectories(this.checkpointDirectory);
+
+        Path target = checkpointPath(checkpoint.groupId());
+        Path temp = Files.createTempFile(this.checkpointDirectory, target.getFileName().toString(), ".tmp");
+
+        try {
+            MAPPER.writeValue(temp.toFile(), checkpoint);
+
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Returns the path of the checkpoint file for a group.
+     */
+    private Path checkpointPath(int groupId) {
+        return this.checkpointDirectory.resolve("members-" + groupId + ".json");
+    }
+
+    /**
+     * Parses an API timestamp, returning null for a missing or unparseable
+     * timestamp. Such a member can never be proven older than a watermark,
+     * so an incremental sync visits it and carries on paging, and it never
+     * becomes the watermark itself.
+     */
+    @Nullable
+    private static Instant parse(@Nullable String timestamp) {
+        if (timestamp == null) {
+            return null;
+        }
+
+        try {
+            return OffsetDateTime.parse(timestamp).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The state of a single sync of a group.
+     */
+    private class Run {
+
+        private final int groupId;
+        private final SyncCheckpoint previous;
+        private final MemberChangeListener listener;
+        private final Map<Integer, String> members;
+        private final Set<Integer> seen = new HashSet<>();
+
+        private String watermark;
+        private int scanned;
+        private int added;
+        private int changed;
+
+        private Run(int groupId, @Nullable SyncCheckpoint previous, MemberChangeListener listener) {
+            this.groupId = groupId;
+            this.previous = previous;
+            this.listener = Preconditions.checkNotNull(listener);
+            this.members = previous == null ? new HashMap<>() : new HashMap<>(previous.members());
+            this.watermark = previous == null ? null : previous.watermark().orElse(null);
+        }
+
+        /**
+         * Compares a member against the checkpoint, emitting a change if
+         * it is new or has been updated. Members visited twice within the
+         * same run are only reported once.
+         */
+        private void visit(Subscription member) {
+            this.scanned++;
+
+            if (!this.seen.add(member.id())) {
+                return;
+            }
+
+            String known = this.members.put(member.id(), Strings.nullToEmpty(member.updated()));
+
+            if (known == null) {
+                this.added++;
+                this.listener.onChange(MemberChange.added(member));
+            } else if (!known.equals(Strings.nullToEmpty(member.updated()))) {
+                this.changed++;
+                this.listener.onChange(MemberChange.changed(member));
+            }
+
+            Instant updated = parse(member.updated());
+            Instant current = parse(this.watermark);
+
+            if (updated != null && (current == null || updated.isAfter(current))) {
+                this.watermark = member.updated();
+            }
+        }
+
+        /**
+         * Finishes the run, emitting removals if every member was read, and
+         * writes the new checkpoint.
+         */
+        private SyncResult complete(boolean full) throws IOException {
+            int removed = 0;
+
+            if (full) {
+                Iterator<Integer> ids = this.members.keySet().iterator();
+
+                while (ids.hasNext()) {
+                    Integer id = ids.next();
+
+                    if (!this.seen.contains(id)) {
+                        ids.remove();
+                        removed++;
+                        this.listener.onChange(MemberChange.removed(this.groupId, id));
+                    }
+                }
+            }
+
+            writeCheckpoint(SyncCheckpoint
+                .builder()
+                    .groupId(this.groupId)
+                    .watermark(Optional.ofNullable(this.watermark))
+                    .syncsSinceFull(full || this.previous == null ? 0 : this.previous.syncsSinceFull() + 1)
+                    .members(this.members)
+                .build());
+
+            return SyncResult.create(full, this.scanned, this.added, this.changed, removed);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.lake54.groupsio.api.sync;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.immutables.value.Value;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.immutables.value.Value.Style.ImplementationVisibility.PACKAGE;
+
+/**
+ * The state persisted between runs of a {@link MemberDeltaSync} for a group.
+ */
+@Value.Immutable(copy = false)
+@Value.Style(visibility = PACKAGE)
+@JsonSerialize(as = ImmutableSyncCheckpoint.class)
+@JsonDeserialize(as = ImmutableSyncCheckpoint.class)
+public abstract class SyncCheckpoint {
+
+    /**
+     * The group the checkpoint belongs to.
+     *
+     * @return the group identifier.
+     */
+    @JsonProperty("group_id")
+    public abstract int groupId();
+
+    /**
+     * The latest {@code updated} timestamp seen on any member.
+     *
+     * @return an optional timestamp, absent if the group had no members.
+     */
+    @JsonProperty("watermark")
+    public abstract Optional<String> watermark();
+
+    /**
+     * The number of incremental syncs since the last full sync.
+     *
+     * @return the incremental sync count.
+     */
+    @JsonProperty("syncs_since_full")
+    public abstract int syncsSinceFull();
+
+    /**
+     * The {@code updated} timestamp of every known member, keyed by
+     * subscription identifier.
+     *
+     * @return a map of subscription identifier to timestamp.
+     */
+    @JsonProperty("members")
+    public abstract Map<Integer, String> members();
+
+    /**
+     * Returns a builder for a checkpoint.
+     *
+     * @return
+     *      a new {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return ImmutableSyncCheckpoint.builder();
+    }
+
+    /**
+     * Builder of a {@link SyncCheckpoint}.
+     */
+    public interface Builder {
+
+        /**
+         * Sets the group the checkpoint belongs to.
+         *
+         * @param groupId
+         *      the group identifier.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder groupId(int groupId);
+
+        /**
+         * Sets the latest {@code updated} timestamp seen on any member.
+         *
+         * @param watermark
+         *      an optional timestamp, absent if the group had no members.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder watermark(Optional<String> watermark);
+
+        /**
+         * Sets the number of incremental syncs since the last full sync.
+         *
+         * @param syncsSinceFull
+         *      the incremental sync count.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder syncsSinceFull(int syncsSinceFull);
+
+        /**
+         * Sets the {@code updated} timestamp of every known member.
+         *
+         * @param members
+         *      a map of subscription identifier to timestamp.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder members(Map<Integer, ? extends String> members);
+
+        /**
+         * Constructs a new {@link SyncCheckpoint} from this builder.
+         *
+         * @return
+         *      a new {@link SyncCheckpoint} instance.
+         */
+        SyncCheckpoint build();
+    }
+}
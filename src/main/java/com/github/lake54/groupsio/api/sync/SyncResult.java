@@ -0,0 +1,75 @@
+package com.github.lake54.groupsio.api.sync;
+
+import org.immutables.value.Value;
+
+import static org.immutables.value.Value.Style.ImplementationVisibility.PACKAGE;
+
+/**
+ * Summary of a completed {@link MemberDeltaSync} run.
+ */
+@Value.Immutable(builder = false, copy = false)
+@Value.Style(visibility = PACKAGE)
+public abstract class SyncResult {
+
+    /**
+     * Whether every member of the group was read, rather than only those
+     * updated since the last checkpoint.
+     *
+     * @return true if the sync was a full sync.
+     */
+    @Value.Parameter
+    public abstract boolean full();
+
+    /**
+     * The number of members read from the API.
+     *
+     * @return the scanned member count.
+     */
+    @Value.Parameter
+    public abstract int scanned();
+
+    /**
+     * The number of members added since the last sync.
+     *
+     * @return the added member count.
+     */
+    @Value.Parameter
+    public abstract int added();
+
+    /**
+     * The number of members changed since the last sync.
+     *
+     * @return the changed member count.
+     */
+    @Value.Parameter
+    public abstract int changed();
+
+    /**
+     * The number of members removed since the last sync; always zero for
+     * an incremental sync.
+     *
+     * @return the removed member count.
+     */
+    @Value.Parameter
+    public abstract int removed();
+
+    /**
+     * Creates a sync result.
+     *
+     * @param full
+     *      whether every member of the group was read.
+     * @param scanned
+     *      the number of members read.
+     * @param added
+     *      the number of members added.
+     * @param changed
+     *      the number of members changed.
+     * @param removed
+     *      the number of members removed.
+     * @return
+     *      a new {@link SyncResult} instance.
+     */
+    public static SyncResult create(boolean full, int scanned, int added, int changed, int removed) {
+        return ImmutableSyncResult.of(full, scanned, added, changed, removed);
+    }
+}
@@ -0,0 +1,506 @@
+package com.github.lake54.groupsio.api.table;
+
+import com.github.lake54.groupsio.api.domain.Subscription;
+import com.github.lake54.groupsio.api.domain.SubscriptionBase;
+import com.github.lake54.groupsio.api.domain.enums.attachment.MaxAttachmentSize;
+import com.github.lake54.groupsio.api.domain.enums.email.EmailDelivery;
+import com.github.lake54.groupsio.api.domain.enums.message.MessageSelection;
+import com.github.lake54.groupsio.api.domain.enums.profile.ProfilePrivacy;
+import com.github.lake54.groupsio.api.domain.enums.subscription.SubscriptionModStatus;
+import com.github.lake54.groupsio.api.domain.enums.subscription.SubscriptionNotify;
+import com.github.lake54.groupsio.api.domain.enums.subscription.SubscriptionOwnerMessageNotify;
+import com.github.lake54.groupsio.api.domain.enums.subscription.SubscriptionPostStatus;
+import com.github.lake54.groupsio.api.domain.enums.subscription.SubscriptionStatus;
+import com.github.lake54.groupsio.api.domain.enums.user.UserStatus;
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * A columnar, compact alternative to a {@code List<Subscription>}.
+ *
+ * Each field of a {@link SubscriptionBase} is held in its own column:
+ * identifiers and counts as {@code int} arrays, enums as {@code byte}
+ * ordinals (with -1 for an absent optional), flags as bits, and the
+ * strings which repeat across members (timezone, about format, location
+ * and website) as codes into a per-column dictionary. Strings which are
+ * near-unique per member, such as emails, profiles and moderator notes,
+ * are held as plain references, as a dictionary would only add to their
+ * cost. A {@link Subscription} is
+ * only created when a row is asked for, so holding millions of members
+ * costs a few dozen bytes per member plus their unique strings.
+ *
+ * Tables are filled by appending members, which makes them a natural sink
+ * for {@code GroupsIOApiClient#paginate}. A table is not safe for
+ * concurrent modification, but may be read concurrently once filled.
+ */
+public class SubscriptionTable implements Iterable<Subscription> {
+
+    private static final SubscriptionStatus[] STATUSES = SubscriptionStatus.values();
+    private static final SubscriptionPostStatus[] POST_STATUSES = SubscriptionPostStatus.values();
+    private static final EmailDelivery[] EMAIL_DELIVERIES = EmailDelivery.values();
+    private static final MessageSelection[] MESSAGE_SELECTIONS = MessageSelection.values();
+    private static final MaxAttachmentSize[] MAX_ATTACHMENT_SIZES = MaxAttachmentSize.values();
+    private static final SubscriptionModStatus[] MOD_STATUSES = SubscriptionModStatus.values();
+    private static final SubscriptionNotify[] NOTIFIES = SubscriptionNotify.values();
+    private static final SubscriptionOwnerMessageNotify[] OWNER_MESSAGE_NOTIFIES = SubscriptionOwnerMessageNotify.values();
+    private static final UserStatus[] USER_STATUSES = UserStatus.values();
+    private static final ProfilePrivacy[] PROFILE_PRIVACIES = ProfilePrivacy.values();
+
+    /**
+     * Bit flags packed into the flags column.
+     */
+    private static final int DONT_MUNGE_MESSAGE_ID = 1;
+    private static final int USE_SIGNATURE = 1 << 1;
+    private static final int USE_SIGNATURE_EMAIL = 1 << 2;
+    private static final int AUTO_FOLLOW_REPLIES_PRESENT = 1 << 3;
+    private static final int AUTO_FOLLOW_REPLIES = 1 << 4;
+
+    /**
+     * The default number of rows to allocate space for.
+     */
+    private static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * The number of rows in the table.
+     */
+    private int size;
+
+    // integer columns
+    private int[] ids;
+    private int[] userIds;
+    private int[] groupIds;
+    private int[] approvedPosts;
+
+    // enum ordinal columns
+    private byte[] statuses;
+    private byte[] postStatuses;
+    private byte[] emailDeliveries;
+    private byte[] messageSelections;
+    private byte[] maxAttachmentSizes;
+    private byte[] modStatuses;
+    private byte[] pendingMsgNotifies;
+    private byte[] pendingSubNotifies;
+    private byte[] subNotifies;
+    private byte[] storageNotifies;
+    private byte[] subGroupNotifies;
+    private byte[] messageReportNotifies;
+    private byte[] ownerMsgNotifies;
+    private byte[] userStatuses;
+    private byte[] profilePrivacies;
+
+    // flag column
+    private byte[] flags;
+
+    // high cardinality string columns
+    private String[] created;
+    private String[] updated;
+    private String[] emails;
+    private String[] userNames;
+    private String[] fullNames;
+    private String[] aboutMes;
+    private String[] profilePhotoIds;
+    private String[] moderatorNotes;
+    private String[] moderatorNotesUpdated;
+
+    // dictionary encoded string columns
+    private final StringDictionary timezones = new StringDictionary();
+    private final StringDictionary aboutFormats = new StringDictionary();
+    private final StringDictionary locations = new StringDictionary();
+    private final StringDictionary websites = new StringDictionary();
+
+    /**
+     * Creates an empty table.
+     */
+    public SubscriptionTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty table with space for a number of rows.
+     *
+     * @param capacity
+     *      the number of rows to allocate space for.
+     */
+    public SubscriptionTable(int capacity) {
+        Preconditions.checkArgument(capacity >= 0, "capacity must not be negative");
+        resize(capacity);
+    }
+
+    /**
+     * Appends a member to the table.
+     *
+     * @param member
+     *      the member to append.
+     */
+    public void add(@Nonnull SubscriptionBase member) {
+        if (this.size == this.ids.length) {
+            resize(Math.max(DEFAULT_CAPACITY, this.size + (this.size >> 1)));
+        }
+
+        int row = this.size;
+
+        this.ids[row] = member.id();
+        this.userIds[row] = member.userId();
+        this.groupIds[row] = member.groupId();
+        this.approvedPosts[row] = member.approvedPosts();
+
+        this.statuses[row] = ordinal(member.status());
+        this.postStatuses[row] = ordinal(member.postStatus());
+        this.emailDeliveries[row] = ordinal(member.emailDelivery().orElse(null));
+        this.messageSelections[row] = ordinal(member.messageSelection().orElse(null));
+        this.maxAttachmentSizes[row] = ordinal(member.maxAttachmentSize().orElse(null));
+        this.modStatuses[row] = ordinal(member.modStatus());
+        this.pendingMsgNotifies[row] = ordinal(member.pendingMsgNotify().orElse(null));
+        this.pendingSubNotifies[row] = ordinal(member.pendingSubNotify().orElse(null));
+        this.subNotifies[row] = ordinal(member.subNotify().orElse(null));
+        this.storageNotifies[row] = ordinal(member.storageNotify().orElse(null));
+        this.subGroupNotifies[row] = ordinal(member.subGroupNotify().orElse(null));
+        this.messageReportNotifies[row] = ordinal(member.messageReportNotify().orElse(null));
+        this.ownerMsgNotifies[row] = ordinal(member.ownerMsgNotify().orElse(null));
+        this.userStatuses[row] = ordinal(member.userStatus());
+        this.profilePrivacies[row] = ordinal(member.profilePrivacy());
+
+        int flags = 0;
+        if (member.dontMungeMessageId()) {
+            flags |= DONT_MUNGE_MESSAGE_ID;
+        }
+        if (member.useSignature()) {
+            flags |= USE_SIGNATURE;
+        }
+        if (member.useSignatureEmail()) {
+            flags |= USE_SIGNATURE_EMAIL;
+        }
+        if (member.autoFollowReplies().isPresent()) {
+            flags |= AUTO_FOLLOW_REPLIES_PRESENT;
+            if (member.autoFollowReplies().get()) {
+                flags |= AUTO_FOLLOW_REPLIES;
+            }
+        }
+        this.flags[row] = (byte) flags;
+
+        this.created[row] = member.created();
+        this.updated[row] = member.updated();
+        this.emails[row] = member.email();
+        this.userNames[row] = member.userName();
+        this.fullNames[row] = member.fullName();
+        this.aboutMes[row] = member.aboutMe();
+        this.profilePhotoIds[row] = member.profilePhotoId();
+        this.moderatorNotes[row] = member.moderatorNotes();
+        this.moderatorNotesUpdated[row] = member.moderatorNotesUpdated();
+
+        this.timezones.set(row, member.timezone());
+        this.aboutFormats.set(row, member.aboutFormat());
+        this.locations.set(row, member.location());
+        this.websites.set(row, member.website());
+
+        this.size++;
+    }
+
+    /**
+     * Appends a batch of members to the table.
+     *
+     * @param members
+     *      the members to append.
+     */
+    public void addAll(@Nonnull Iterable<? extends SubscriptionBase> members) {
+        members.forEach(this::add);
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return the row count.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Creates a {@link Subscription} view of a single row.
+     *
+     * @param row
+     *      the row to view.
+     * @return
+     *      a new {@link Subscription} holding the row's values.
+     */
+    public Subscription get(int row) {
+        Preconditions.checkElementIndex(row, this.size);
+
+        Subscription.Builder builder = Subscription.builder();
+        int flags = this.flags[row];
+
+        builder.id(this.ids[row])
+            .userId(this.userIds[row])
+            .groupId(this.groupIds[row])
+            .approvedPosts(this.approvedPosts[row])
+            .created(this.created[row])
+            .updated(this.updated[row])
+            .email(this.emails[row])
+            .userName(this.userNames[row])
+            .fullName(this.fullNames[row])
+            .timezone(this.timezones.get(row))
+            .aboutMe(this.aboutMes[row])
+            .aboutFormat(this.aboutFormats.get(row))
+            .location(this.locations.get(row))
+            .website(this.websites.get(row))
+            .profilePhotoId(this.profilePhotoIds[row])
+            .moderatorNotes(this.moderatorNotes[row])
+            .moderatorNotesUpdated(this.moderatorNotesUpdated[row])
+            .dontMungeMessageId((flags & DONT_MUNGE_MESSAGE_ID) != 0)
+            .useSignature((flags & USE_SIGNATURE) != 0)
+            .useSignatureEmail((flags & USE_SIGNATURE_EMAIL) != 0)
+            .status(value(STATUSES, this.statuses[row]))
+            .postStatus(value(POST_STATUSES, this.postStatuses[row]))
+            .modStatus(value(MOD_STATUSES, this.modStatuses[row]))
+            .userStatus(value(USER_STATUSES, this.userStatuses[row]))
+            .profilePrivacy(value(PROFILE_PRIVACIES, this.profilePrivacies[row]));
+
+        if ((flags & AUTO_FOLLOW_REPLIES_PRESENT) != 0) {
+            builder.autoFollowReplies((flags & AUTO_FOLLOW_REPLIES) != 0);
+        }
+
+        optional(EMAIL_DELIVERIES, this.emailDeliveries[row]).ifPresent(builder::emailDelivery);
+        optional(MESSAGE_SELECTIONS, this.messageSelections[row]).ifPresent(builder::messageSelection);
+        optional(MAX_ATTACHMENT_SIZES, this.maxAttachmentSizes[row]).ifPresent(builder::maxAttachmentSize);
+        optional(NOTIFIES, this.pendingMsgNotifies[row]).ifPresent(builder::pendingMsgNotify);
+        optional(NOTIFIES, this.pendingSubNotifies[row]).ifPresent(builder::pendingSubNotify);
+        optional(NOTIFIES, this.subNotifies[row]).ifPresent(builder::subNotify);
+        optional(NOTIFIES, this.storageNotifies[row]).ifPresent(builder::storageNotify);
+        optional(NOTIFIES, this.subGroupNotifies[row]).ifPresent(builder::subGroupNotify);
+        optional(NOTIFIES, this.messageReportNotifies[row]).ifPresent(builder::messageReportNotify);
+        optional(OWNER_MESSAGE_NOTIFIES, this.ownerMsgNotifies[row]).ifPresent(builder::ownerMsgNotify);
+
+        return (Subscription) builder.build();
+    }
+
+    /**
+     * Returns the subscription identifier of a row.
+     *
+     * @param row
+     *      the row to read.
+     * @return the subscription identifier.
+     */
+    public int id(int row) {
+        Preconditions.checkElementIndex(row, this.size);
+        return this.ids[row];
+    }
+
+    /**
+     * Returns the user identifier of a row.
+     *
+     * @param row
+     *      the row to read.
+     * @return the user identifier.
+     */
+    public int userId(int row) {
+        Preconditions.checkElementIndex(row, this.size);
+        return this.userIds[row];
+    }
+
+    /**
+     * Returns the group identifier of a row.
+     *
+     * @param row
+     *      the row to read.
+     * @return the group identifier.
+     */
+    public int groupId(int row) {
+        Preconditions.checkElementIndex(row, this.size);
+        return this.groupIds[row];
+    }
+
+    /**
+     * Returns the email of a row.
+     *
+     * @param row
+     *      the row to read.
+     * @return the member's email.
+     */
+    public String email(int row) {
+        Preconditions.checkElementIndex(row, this.size);
+        return this.emails[row];
+    }
+
+    /**
+     * Returns the subscription status of a row.
+     *
+     * @param row
+     *      the row to read.
+     * @return the {@link SubscriptionStatus}.
+     */
+    public SubscriptionStatus status(int row) {
+        Preconditions.checkElementIndex(row, this.size);
+        return value(STATUSES, this.statuses[row]);
+    }
+
+    /**
+     * Returns the user status of a row.
+     *
+     * @param row
+     *      the row to read.
+     * @return the {@link UserStatus}.
+     */
+    public UserStatus userStatus(int row) {
+        Preconditions.checkElementIndex(row, this.size);
+        return value(USER_STATUSES, this.userStatuses[row]);
+    }
+
+    /**
+     * Creates a {@link Subscription} view of every row.
+     *
+     * @return a list of new {@link Subscription} instances.
+     */
+    public List<Subscription> toList() {
+        List<Subscription> members = new ArrayList<>(this.size);
+        forEach(members::add);
+        return members;
+    }
+
+    /**
+     * Iterates the rows of the table, creating a {@link Subscription} view
+     * of each row as it is reached.
+     *
+     * @return an {@link Iterator} over all rows.
+     */
+    @Nonnull
+    @Override
+    public Iterator<Subscription> iterator() {
+        return new Iterator<Subscription>() {
+
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return this.next < SubscriptionTable.this.size;
+            }
+
+            @Override
+            public Subscription next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(this.next++);
+            }
+        };
+    }
+
+    /**
+     * Resizes every column to the provided capacity.
+     */
+    private void resize(int capacity) {
+        this.ids = this.ids == null ? new int[capacity] : Arrays.copyOf(this.ids, capacity);
+        this.userIds = this.userIds == null ? new int[capacity] : Arrays.copyOf(this.userIds, capacity);
+        this.groupIds = this.groupIds == null ? new int[capacity] : Arrays.copyOf(this.groupIds, capacity);
+        this.approvedPosts = this.approvedPosts == null ? new int[capacity] : Arrays.copyOf(this.approvedPosts, capacity);
+
+        this.statuses = resize(this.statuses, capacity);
+        this.postStatuses = resize(this.postStatuses, capacity);
+        this.emailDeliveries = resize(this.emailDeliveries, capacity);
+        this.messageSelections = resize(this.messageSelections, capacity);
+        this.maxAttachmentSizes = resize(this.maxAttachmentSizes, capacity);
+        this.modStatuses = resize(this.modStatuses, capacity);
+        this.pendingMsgNotifies = resize(this.pendingMsgNotifies, capacity);
+        this.pendingSubNotifies = resize(this.pendingSubNotifies, capacity);
+        this.subNotifies = resize(this.subNotifies, capacity);
+        this.storageNotifies = resize(this.storageNotifies, capacity);
+        this.subGroupNotifies = resize(this.subGroupNotifies, capacity);
+        this.messageReportNotifies = resize(this.messageReportNotifies, capacity);
+        this.ownerMsgNotifies = resize(this.ownerMsgNotifies, capacity);
+        this.userStatuses = resize(this.userStatuses, capacity);
+        this.profilePrivacies = resize(this.profilePrivacies, capacity);
+        this.flags = resize(this.flags, capacity);
+
+        this.created = resize(this.created, capacity);
+        this.updated = resize(this.updated, capacity);
+        this.emails = resize(this.emails, capacity);
+        this.userNames = resize(this.userNames, capacity);
+        this.fullNames = resize(this.fullNames, capacity);
+        this.aboutMes = resize(this.aboutMes, capacity);
+        this.profilePhotoIds = resize(this.profilePhotoIds, capacity);
+        this.moderatorNotes = resize(this.moderatorNotes, capacity);
+        this.moderatorNotesUpdated = resize(this.moderatorNotesUpdated, capacity);
+
+        this.timezones.resize(capacity);
+        this.aboutFormats.resize(capacity);
+        this.locations.resize(capacity);
+        this.websites.resize(capacity);
+    }
+
+    private static byte[] resize(@Nullable byte[] column, int capacity) {
+        return column == null ? new byte[capacity] : Arrays.copyOf(column, capacity);
+    }
+
+    private static String[] resize(@Nullable String[] column, int capacity) {
+        return column == null ? new String[capacity] : Arrays.copyOf(column, capacity);
+    }
+
+    /**
+     * Encodes an enum constant as its ordinal, or -1 if absent.
+     */
+    private static byte ordinal(@Nullable Enum<?> value) {
+        return value == null ? -1 : (byte) value.ordinal();
+    }
+
+    /**
+     * Decodes an enum ordinal, returning null for -1.
+     */
+    @Nullable
+    private static <E> E value(E[] values, byte ordinal) {
+        return ordinal < 0 ? null : values[ordinal];
+    }
+
+    /**
+     * Decodes an optional enum ordinal.
+     */
+    private static <E> Optional<E> optional(E[] values, byte ordinal) {
+        return Optional.ofNullable(value(values, ordinal));
+    }
+
+    /**
+     * A string column holding a code per row into a dictionary of the
+     * distinct values seen, with -1 for null.
+     */
+    private static final class StringDictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private int[] rows = new int[0];
+
+        private void set(int row, @Nullable String value) {
+            if (value == null) {
+                this.rows[row] = -1;
+                return;
+            }
+
+            Integer code = this.codes.get(value);
+
+            if (code == null) {
+                code = this.values.size();
+                this.codes.put(value, code);
+                this.values.add(value);
+            }
+
+            this.rows[row] = code;
+        }
+
+        @Nullable
+        private String get(int row) {
+            int code = this.rows[row];
+            return code < 0 ? null : this.values.get(code);
+        }
+
+        private void resize(int capacity) {
+            this.rows = Arrays.copyOf(this.rows, capacity);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.lake54.groupsio.api.transport;
+
+import okhttp3.Dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Dns} caching the addresses resolved for each host name.
+ *
+ * A client only ever talks to a single host, so caching its addresses
+ * saves a resolution on every new connection during bursts of requests.
+ * Failed resolutions are never cached.
+ */
+class CachingDns implements Dns {
+
+    /**
+     * The resolver used on a cache miss.
+     */
+    private final Dns delegate;
+
+    /**
+     * The time resolved addresses are cached for, in nanoseconds.
+     */
+    private final long ttlNanos;
+
+    /**
+     * The addresses resolved for each host name.
+     */
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a cache in front of another resolver.
+     *
+     * @param delegate
+     *      the resolver used on a cache miss.
+     * @param ttl
+     *      the time resolved addresses are cached for.
+     * @param unit
+     *      the unit of the cache duration.
+     */
+    CachingDns(Dns delegate, long ttl, TimeUnit unit) {
+        this.delegate = delegate;
+        this.ttlNanos = unit.toNanos(ttl);
+    }
+
+    @Override
+    public List<InetAddress> lookup(String hostname) throws UnknownHostException {
+        long now = System.nanoTime();
+        Entry entry = this.entries.get(hostname);
+
+        if (entry != null && now - entry.resolvedAt < this.ttlNanos) {
+            return entry.addresses;
+        }
+
+        List<InetAddress> addresses = this.delegate.lookup(hostname);
+        this.entries.put(hostname, new Entry(addresses, now));
+        return addresses;
+    }
+
+    /**
+     * The addresses resolved for a host name, and when.
+     */
+    private static class Entry {
+
+        private final List<InetAddress> addresses;
+        private final long resolvedAt;
+
+        private Entry(List<InetAddress> addresses, long resolvedAt) {
+            this.addresses = addresses;
+            this.resolvedAt = resolvedAt;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.github.lake54.groupsio.api.transport;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+/**
+ * OkHttp {@link EventListener} timing the network phases of a single call.
+ *
+ * A timer is attached to a request as its tag, and picked up by the
+ * factory from {@link #factory(EventListener.Factory)} when OkHttp creates
+ * the call, so only timed requests pay for timing. Every event is also
+ * passed on to the listener the OkHttp client was configured with. OkHttp
+ * reports the events of a call in order on the thread running it, and the
+ * timer is only read once the response headers have arrived.
+ */
+class CallTimer extends EventListener {
+
+    /**
+     * The listener configured on the OkHttp client, which receives every event.
+     */
+    private volatile EventListener delegate = EventListener.NONE;
+
+    private volatile long dnsStart;
+    private volatile long dnsNanos;
+    private volatile long connectStart;
+    private volatile long connectNanos;
+    private volatile long secureConnectStart;
+    private volatile long tlsNanos;
+    private volatile long requestStart;
+    private volatile long requestEnd;
+    private volatile long responseHeadersEnd;
+
+    /**
+     * Creates a factory returning the timer attached to a request, if any,
+     * chained to the listener created by an existing factory.
+     *
+     * @param delegate
+     *      the factory configured on the OkHttp client.
+     * @return
+     *      a new {@link EventListener.Factory} instance.
+     */
+    static EventListener.Factory factory(EventListener.Factory delegate) {
+        return call -> {
+            EventListener listener = delegate.create(call);
+            Object tag = call.request().tag();
+
+            if (!(tag instanceof CallTimer)) {
+                return listener;
+            }
+
+            CallTimer timer = (CallTimer) tag;
+            timer.delegate = listener;
+            return timer;
+        };
+    }
+
+    /**
+     * Returns the network phases measured so far.
+     *
+     * @return the {@link NetworkTimings} of the call.
+     */
+    NetworkTimings timings() {
+        long requestEnd = this.requestEnd;
+        long responseHeadersEnd = this.responseHeadersEnd;
+
+        return NetworkTimings.create(
+            this.connectStart == 0,
+            this.dnsNanos,
+            this.connectNanos,
+            this.tlsNanos,
+            requestEnd == 0 ? 0 : requestEnd - this.requestStart,
+            requestEnd == 0 || responseHeadersEnd == 0 ? 0 : responseHeadersEnd - requestEnd
+        );
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        this.dnsStart = System.nanoTime();
+        this.delegate.dnsStart(call, domainName);
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        this.dnsNanos += System.nanoTime() - this.dnsStart;
+        this.delegate.dnsEnd(call, domainName, inetAddressList);
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        this.connectStart = System.nanoTime();
+        this.delegate.connectStart(call, inetSocketAddress, proxy);
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        this.secureConnectStart = System.nanoTime();
+        this.delegate.secureConnectStart(call);
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        this.tlsNanos += System.nanoTime() - this.secureConnectStart;
+        this.delegate.secureConnectEnd(call, handshake);
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        this.connectNanos += System.nanoTime() - this.connectStart;
+        this.delegate.connectEnd(call, inetSocketAddress, proxy, protocol);
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol, IOException ioe) {
+        this.connectNanos += System.nanoTime() - this.connectStart;
+        this.delegate.connectFailed(call, inetSocketAddress, proxy, protocol, ioe);
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        if (this.requestStart == 0) {
+            this.requestStart = System.nanoTime();
+        }
+        this.delegate.requestHeadersStart(call);
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, Request request) {
+        this.requestEnd = System.nanoTime();
+        this.delegate.requestHeadersEnd(call, request);
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        this.requestEnd = System.nanoTime();
+        this.delegate.requestBodyEnd(call, byteCount);
+    }
+
+    @Override
+    public void responseHeadersEnd(Call call, Response response) {
+        this.responseHeadersEnd = System.nanoTime();
+        this.delegate.responseHeadersEnd(call, response);
+    }
+
+    @Override
+    public void callStart(Call call) {
+        this.delegate.callStart(call);
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        this.delegate.connectionAcquired(call, connection);
+    }
+
+    @Override
+    public void connectionReleased(Call call, Connection connection) {
+        this.delegate.connectionReleased(call, connection);
+    }
+
+    @Override
+    public void requestBodyStart(Call call) {
+        this.delegate.requestBodyStart(call);
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        this.delegate.responseHeadersStart(call);
+    }
+
+    @Override
+    public void responseBodyStart(Call call) {
+        this.delegate.responseBodyStart(call);
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        this.delegate.responseBodyEnd(call, byteCount);
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        this.delegate.callEnd(call);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        this.delegate.callFailed(call, ioe);
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.lake54.groupsio.api.transport;
+
+/**
+ * Creates transports backed by the JDK's {@code java.net.http.HttpClient}.
+ *
+ * This is the implementation used before Java 11, where the JDK client is
+ * not available. The multi-release jar replaces this class on Java 11 and
+ * later with one creating a {@code JdkHttpTransport}. A jar packaged on a
+ * JDK too old to compile that replacement lacks it and uses this class on
+ * every JVM; the release profile refuses to package such a jar.
+ */
+class JdkTransports {
+
+    /**
+     * Whether the JDK client is available.
+     *
+     * @return false, as the JDK client is not available.
+     */
+    static boolean isAvailable() {
+        return false;
+    }
+
+    /**
+     * Creates a transport backed by the JDK client.
+     *
+     * @param settings
+     *      the {@link TransportSettings} to configure the transport with.
+     * @return
+     *      never, as the JDK client is not available.
+     * @throws UnsupportedOperationException
+     *      always.
+     */
+    static Transport create(TransportSettings settings) {
+        throw new UnsupportedOperationException("the JDK HttpClient transport requires Java 11 or later");
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.lake54.groupsio.api.transport;
+
+import org.immutables.value.Value;
+
+import java.util.Optional;
+
+import static org.immutables.value.Value.Style.ImplementationVisibility.PACKAGE;
+
+/**
+ * The network phases of a call, as measured by a {@link Transport}.
+ *
+ * Phases which a transport is unable to observe are absent, rather than
+ * reported as zero. When the connection phases are absent, the time to
+ * first byte runs from the request being sent, and so also covers opening
+ * the connection and writing the request.
+ */
+@Value.Immutable(builder = false, copy = false)
+@Value.Style(visibility = PACKAGE)
+public abstract class NetworkTimings {
+
+    /**
+     * Whether the call was made on a pooled connection.
+     *
+     * @return true if no new connection was opened, or empty if unknown.
+     */
+    @Value.Parameter
+    public abstract Optional<Boolean> connectionReused();
+
+    /**
+     * The time spent resolving the host name, in nanoseconds.
+     *
+     * @return the DNS time, or empty if unknown.
+     */
+    @Value.Parameter
+    public abstract Optional<Long> dnsNanos();
+
+    /**
+     * The time spent opening the connection, including TLS, in nanoseconds.
+     *
+     * @return the connect time, or empty if unknown.
+     */
+    @Value.Parameter
+    public abstract Optional<Long> connectNanos();
+
+    /**
+     * The time spent on the TLS handshake, in nanoseconds.
+     *
+     * @return the TLS time, or empty if unknown.
+     */
+    @Value.Parameter
+    public abstract Optional<Long> tlsNanos();
+
+    /**
+     * The time spent writing the request, in nanoseconds.
+     *
+     * @return the request time, or empty if unknown.
+     */
+    @Value.Parameter
+    public abstract Optional<Long> requestNanos();
+
+    /**
+     * The time from the request being written to the response headers
+     * being read, in nanoseconds.
+     *
+     * @return the time to first byte.
+     */
+    @Value.Parameter
+    public abstract long timeToFirstByteNanos();
+
+    /**
+     * Creates the network timings of a call with every phase measured.
+     *
+     * @param connectionReused
+     *      whether the call was made on a pooled connection.
+     * @param dnsNanos
+     *      the time spent resolving the host name.
+     * @param connectNanos
+     *      the time spent opening the connection.
+     * @param tlsNanos
+     *      the time spent on the TLS handshake.
+     * @param requestNanos
+     *      the time spent writing the request.
+     * @param timeToFirstByteNanos
+     *      the time spent waiting for the response headers.
+     * @return
+     *      a new {@link NetworkTimings} instance.
+     */
+    public static NetworkTimings create(boolean connectionReused, long dnsNanos, long connectNanos, long tlsNanos,
+                                        long requestNanos, long timeToFirstByteNanos) {
+        return ImmutableNetworkTimings.of(Optional.of(connectionReused), Optional.of(dnsNanos), Optional.of(connectNanos),
+            Optional.of(tlsNanos), Optional.of(requestNanos), timeToFirstByteNanos);
+    }
+
+    /**
+     * Creates the network timings of a call where only the time to the
+     * response headers is known.
+     *
+     * @param timeToFirstByteNanos
+     *      the time from sending the request to reading the response headers.
+     * @return
+     *      a new {@link NetworkTimings} instance.
+     */
+    public static NetworkTimings firstByteOnly(long timeToFirstByteNanos) {
+        return ImmutableNetworkTimings.of(Optional.empty(), Optional.empty(), Optional.empty(),
+            Optional.empty(), Optional.empty(), timeToFirstByteNanos);
+    }
+}
@@ -0,0 +1,265 @@
+package com.github.lake54.groupsio.api.transport;
+
+import com.github.lake54.groupsio.api.GroupsIOApiRequest;
+import com.google.common.base.Preconditions;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okhttp3.internal.http2.StreamResetException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link Transport} sending requests with OkHttp.
+ *
+ * This is the transport used by default. Timed requests have their
+ * network phases measured through an OkHttp event listener. HTTP/2
+ * streams reset by the server are reported as a {@link SocketException},
+ * rather than the exception internal to OkHttp.
+ */
+public class OkHttpTransport implements Transport {
+
+    /**
+     * The client used to send requests.
+     */
+    private final OkHttpClient httpClient;
+
+    /**
+     * Whether the connection pool and dispatcher belong to this transport.
+     */
+    private final boolean owned;
+
+    /**
+     * Creates a transport with its own connection pool and dispatcher.
+     *
+     * @param settings
+     *      the {@link TransportSettings} to configure the transport with.
+     */
+    public OkHttpTransport(@Nonnull TransportSettings settings) {
+        this(settings.apply(new OkHttpClient.Builder()).build(), true);
+    }
+
+    /**
+     * Creates a transport on top of an existing OkHttp client, sharing its
+     * connection pool and dispatcher. These are left untouched when the
+     * transport is closed, and any event listener configured on the client
+     * keeps receiving the events of every call.
+     *
+     * @param httpClient
+     *      the {@link OkHttpClient} to send requests with.
+     */
+    public OkHttpTransport(@Nonnull OkHttpClient httpClient) {
+        this(httpClient, false);
+    }
+
+    private OkHttpTransport(OkHttpClient httpClient, boolean owned) {
+        this.httpClient = Preconditions.checkNotNull(httpClient)
+            .newBuilder()
+                .eventListenerFactory(CallTimer.factory(httpClient.eventListenerFactory()))
+            .build();
+        this.owned = owned;
+    }
+
+    /**
+     * Converts a transport request into an OkHttp {@link Request}.
+     *
+     * @param request
+     *      the resolved request to convert.
+     * @return
+     *      a new {@link Request} instance.
+     */
+    @Nonnull
+    public static Request createHttpRequest(TransportRequest request) {
+        GroupsIOApiRequest apiRequest = request.request();
+
+        Request.Builder requestBuilder = new Request.Builder()
+            .url(request.url())
+            .method(apiRequest.method(), apiRequest.body().orElse(null));
+
+        for (Map.Entry<String, String> header : request.headers().entrySet()) {
+            requestBuilder.header(header.getKey(), header.getValue());
+        }
+
+        return requestBuilder.build();
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        CallTimer timer = request.timed() ? new CallTimer() : null;
+
+        try {
+            return new OkHttpResponse(this.httpClient.newCall(createHttpRequest(request, timer)).execute(), timer);
+        } catch (StreamResetException e) {
+            throw connectionReset(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> executeAsync(TransportRequest request) {
+        CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+        CallTimer timer = request.timed() ? new CallTimer() : null;
+        Request httpRequest;
+
+        try {
+            httpRequest = createHttpRequest(request, timer);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        this.httpClient.newCall(httpRequest).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(e instanceof StreamResetException ? connectionReset((StreamResetException) e) : e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                future.complete(new OkHttpResponse(response, timer));
+            }
+        });
+
+        return future;
+    }
+
+    @Override
+    public void close() {
+        if (!this.owned) {
+            return;
+        }
+
+        this.httpClient.dispatcher().executorService().shutdown();
+        this.httpClient.connectionPool().evictAll();
+    }
+
+    /**
+     * Converts a reset stream into the {@link SocketException} raised by
+     * other transports for a reset connection, so that it is recognised
+     * as a transient failure.
+     *
+     * @param e
+     *      the reset raised by OkHttp.
+     * @return
+     *      a {@link SocketException} caused by the reset.
+     */
+    private static SocketException connectionReset(StreamResetException e) {
+        SocketException reset = new SocketException(e.getMessage());
+        reset.initCause(e);
+        return reset;
+    }
+
+    /**
+     * Converts a transport request into an OkHttp {@link Request},
+     * attaching a timer to receive the events of the call.
+     */
+    private static Request createHttpRequest(TransportRequest request, @Nullable CallTimer timer) {
+        Request httpRequest = createHttpRequest(request);
+        return timer == null ? httpRequest : httpRequest.newBuilder().tag(timer).build();
+    }
+
+    /**
+     * {@link TransportResponse} backed by an OkHttp {@link Response}.
+     */
+    private static class OkHttpResponse implements TransportResponse {
+
+        private final Response response;
+        private final ResponseBody body;
+        private final CallTimer timer;
+
+        private OkHttpResponse(Response response, @Nullable CallTimer timer) {
+            this.response = response;
+            this.body = Preconditions.checkNotNull(response.body());
+            this.timer = timer;
+        }
+
+        @Override
+        public int code() {
+            return this.response.code();
+        }
+
+        @Nullable
+        @Override
+        public String header(String name) {
+            return this.response.header(name);
+        }
+
+        @Override
+        public Map<String, List<String>> headers() {
+            return this.response.headers().toMultimap();
+        }
+
+        @Override
+        public InputStream body() {
+            return new ResetInputStream(this.body.byteStream());
+        }
+
+        @Override
+        public byte[] bytes() throws IOException {
+            try {
+                return this.body.bytes();
+            } catch (StreamResetException e) {
+                throw connectionReset(e);
+            }
+        }
+
+        @Nullable
+        @Override
+        public NetworkTimings timings() {
+            return this.timer == null ? null : this.timer.timings();
+        }
+
+        @Override
+        public void close() {
+            this.body.close();
+        }
+    }
+
+    /**
+     * {@link InputStream} converting the reset of the stream it reads from,
+     * as a stream can be reset while its body is being received.
+     */
+    private static class ResetInputStream extends FilterInputStream {
+
+        private ResetInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return super.read();
+            } catch (StreamResetException e) {
+                throw connectionReset(e);
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            try {
+                return super.read(b, off, len);
+            } catch (StreamResetException e) {
+                throw connectionReset(e);
+            }
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            try {
+                return super.skip(n);
+            } catch (StreamResetException e) {
+                throw connectionReset(e);
+            }
+        }
+    }
+}
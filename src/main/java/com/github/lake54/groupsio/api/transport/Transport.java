@@ -0,0 +1,54 @@
+package com.github.lake54.groupsio.api.transport;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The HTTP stack used by a client to send requests to the API.
+ *
+ * A transport sits between a resolved {@link TransportRequest} and the raw
+ * {@link TransportResponse}; everything else, from building requests to
+ * decoding responses, rate limiting, retries and metrics, is handled by
+ * the client. This allows the HTTP stack to be swapped and benchmarked
+ * without touching the rest of the client.
+ *
+ * Implementations must be safe to use from many threads at once, and
+ * should report timeouts as a {@link java.net.SocketTimeoutException}, and
+ * connections which failed or were reset as a {@link java.net.SocketException},
+ * so that they are retried like those of any other transport.
+ *
+ * @see OkHttpTransport
+ * @see Transports
+ */
+public interface Transport extends AutoCloseable {
+
+    /**
+     * Sends a request, blocking until the response headers are available.
+     *
+     * @param request
+     *      the resolved request to send.
+     * @return
+     *      the {@link TransportResponse}, which must be closed once its body is read.
+     * @throws IOException
+     *      on any errors calling the API.
+     */
+    TransportResponse execute(TransportRequest request) throws IOException;
+
+    /**
+     * Sends a request without blocking the calling thread.
+     *
+     * @param request
+     *      the resolved request to send.
+     * @return
+     *      a future completed with the {@link TransportResponse}, which must
+     *      be closed once its body is read, or with an {@code IOException}.
+     */
+    CompletableFuture<TransportResponse> executeAsync(TransportRequest request);
+
+    /**
+     * Releases the connections and threads held by this transport.
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.lake54.groupsio.api.transport;
+
+import com.github.lake54.groupsio.api.GroupsIOApiRequest;
+import okhttp3.HttpUrl;
+import org.immutables.value.Value;
+
+import java.util.Map;
+
+import static org.immutables.value.Value.Style.ImplementationVisibility.PACKAGE;
+
+/**
+ * A request ready to be sent by a {@link Transport}.
+ *
+ * The client resolves the URL and headers of each {@link GroupsIOApiRequest}
+ * before handing it to the transport, so that transports only deal with
+ * the HTTP exchange. The original request is kept alongside, for any
+ * transport which needs to identify the call, such as by its path.
+ */
+@Value.Immutable(copy = false)
+@Value.Style(visibility = PACKAGE)
+public abstract class TransportRequest {
+
+    /**
+     * Returns the API request this request was resolved from, which also
+     * holds the method and body of the request.
+     *
+     * @return the original {@link GroupsIOApiRequest}.
+     */
+    public abstract GroupsIOApiRequest request();
+
+    /**
+     * Returns the full URL of the request, including its query parameters.
+     *
+     * @return the {@link HttpUrl} to send the request to.
+     */
+    public abstract HttpUrl url();
+
+    /**
+     * Returns the headers of the request, including authorization.
+     *
+     * @return a {@link Map} of request headers.
+     */
+    public abstract Map<String, String> headers();
+
+    /**
+     * Returns whether the transport should measure the network phases of
+     * the call, and provide them as the {@link TransportResponse#timings()}.
+     *
+     * @return true if the call should be timed.
+     */
+    @Value.Default
+    public boolean timed() {
+        return false;
+    }
+
+    /**
+     * Returns a builder for a transport request.
+     *
+     * @return
+     *      a new {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return ImmutableTransportRequest.builder();
+    }
+
+    /**
+     * Builder of a {@link TransportRequest}.
+     */
+    public interface Builder {
+
+        /**
+         * Sets the API request this request was resolved from.
+         *
+         * @param request
+         *      the original {@link GroupsIOApiRequest}.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder request(GroupsIOApiRequest request);
+
+        /**
+         * Sets the full URL of the request, including its query parameters.
+         *
+         * @param url
+         *      the {@link HttpUrl} to send the request to.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder url(HttpUrl url);
+
+        /**
+         * Sets the headers of the request.
+         *
+         * @param headers
+         *      the headers to use for the request.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder headers(Map<String, ? extends String> headers);
+
+        /**
+         * Adds a header to the request.
+         *
+         * @param key
+         *      the header key field.
+         * @param value
+         *      the header value field.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder putHeaders(String key, String value);
+
+        /**
+         * Sets whether the transport should measure the network phases of the call.
+         *
+         * @param timed
+         *      true if the call should be timed.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder timed(boolean timed);
+
+        /**
+         * Constructs a new {@link TransportRequest} from this builder.
+         *
+         * @return
+         *      a new {@link TransportRequest} instance.
+         */
+        TransportRequest build();
+    }
+}
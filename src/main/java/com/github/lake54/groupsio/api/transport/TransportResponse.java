@@ -0,0 +1,91 @@
+package com.github.lake54.groupsio.api.transport;
+
+import com.google.common.io.ByteStreams;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A response received by a {@link Transport}.
+ *
+ * The body may still be arriving when the response is handed to the
+ * client, which then either streams it into the decoder or reads it in
+ * full. A response must be closed once its body is read, to release the
+ * connection it arrived on.
+ */
+public interface TransportResponse extends AutoCloseable {
+
+    /**
+     * Returns the HTTP status code of the response.
+     *
+     * @return the status code.
+     */
+    int code();
+
+    /**
+     * Returns the value of a header of the response.
+     *
+     * @param name
+     *      the name of the header.
+     * @return
+     *      the header value, or null if the header is not present.
+     */
+    @Nullable
+    String header(String name);
+
+    /**
+     * Returns all headers of the response.
+     *
+     * @return a {@link Map} of header values by name.
+     */
+    Map<String, List<String>> headers();
+
+    /**
+     * Returns the body of the response, as a stream.
+     *
+     * @return an {@link InputStream} over the response body.
+     * @throws IOException
+     *      on any errors opening the body.
+     */
+    InputStream body() throws IOException;
+
+    /**
+     * Reads the body of the response in full.
+     *
+     * @return the bytes of the response body.
+     * @throws IOException
+     *      on any errors reading the body.
+     */
+    default byte[] bytes() throws IOException {
+        try (InputStream body = body()) {
+            return ByteStreams.toByteArray(body);
+        }
+    }
+
+    /**
+     * Returns the network phases of the call, if the request was timed.
+     *
+     * @return the {@link NetworkTimings} of the call, or null if not timed.
+     */
+    @Nullable
+    NetworkTimings timings();
+
+    /**
+     * Returns whether the status code of the response is in the 2xx range.
+     *
+     * @return true if the response is successful.
+     */
+    default boolean isSuccessful() {
+        int code = code();
+        return code >= 200 && code < 300;
+    }
+
+    /**
+     * Releases the connection the response arrived on.
+     */
+    @Override
+    void close();
+}
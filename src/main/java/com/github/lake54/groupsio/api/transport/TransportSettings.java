@@ -0,0 +1,290 @@
+package com.github.lake54.groupsio.api.transport;
+
+import com.google.common.base.Preconditions;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Dns;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.immutables.value.Value;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.immutables.value.Value.Style.ImplementationVisibility.PACKAGE;
+
+/**
+ * Settings of the HTTP transport owned by each client.
+ *
+ * Every client creates its own connection pool and dispatcher from these
+ * settings, so that clients used for different tenants never share
+ * connections or compete for the same request slots. The defaults are
+ * sized for high-concurrency bulk work against a single API host, which
+ * is all a client ever talks to: far more requests are allowed per host
+ * than OkHttp's default of five, and enough idle connections are kept to
+ * serve them without reconnecting.
+ */
+@Value.Immutable(copy = false)
+@Value.Style(visibility = PACKAGE)
+public abstract class TransportSettings {
+
+    /**
+     * The maximum number of idle connections kept in the pool.
+     *
+     * @return the maximum number of idle connections.
+     */
+    @Value.Default
+    public int maxIdleConnections() {
+        return 64;
+    }
+
+    /**
+     * The time an idle connection is kept in the pool, in milliseconds.
+     *
+     * @return the keep-alive duration.
+     */
+    @Value.Default
+    public long keepAliveMillis() {
+        return 300_000;
+    }
+
+    /**
+     * The maximum number of asynchronous requests executed at once.
+     *
+     * @return the maximum number of requests.
+     */
+    @Value.Default
+    public int maxRequests() {
+        return 256;
+    }
+
+    /**
+     * The maximum number of asynchronous requests executed at once
+     * against a single host.
+     *
+     * @return the maximum number of requests per host.
+     */
+    @Value.Default
+    public int maxRequestsPerHost() {
+        return 64;
+    }
+
+    /**
+     * The timeout to establish a connection, in milliseconds.
+     *
+     * @return the connect timeout, or zero for none.
+     */
+    @Value.Default
+    public long connectTimeoutMillis() {
+        return 10_000;
+    }
+
+    /**
+     * The timeout between two reads of a response, in milliseconds.
+     *
+     * @return the read timeout, or zero for none.
+     */
+    @Value.Default
+    public long readTimeoutMillis() {
+        return 30_000;
+    }
+
+    /**
+     * The timeout between two writes of a request, in milliseconds.
+     *
+     * @return the write timeout, or zero for none.
+     */
+    @Value.Default
+    public long writeTimeoutMillis() {
+        return 30_000;
+    }
+
+    /**
+     * Whether HTTP/2 is preferred when the server supports it, which
+     * multiplexes concurrent requests over a single connection. When
+     * false, only HTTP/1.1 is used.
+     *
+     * @return true if HTTP/2 is preferred.
+     */
+    @Value.Default
+    public boolean http2() {
+        return true;
+    }
+
+    /**
+     * The time a resolved host name is cached for, in milliseconds.
+     *
+     * @return the DNS cache duration, or zero to resolve on every connection.
+     */
+    @Value.Default
+    public long dnsCacheMillis() {
+        return 60_000;
+    }
+
+    @Value.Check
+    void check() {
+        Preconditions.checkState(maxIdleConnections() >= 0, "maxIdleConnections must not be negative");
+        Preconditions.checkState(keepAliveMillis() > 0, "keepAliveMillis must be positive");
+        Preconditions.checkState(maxRequests() > 0, "maxRequests must be positive");
+        Preconditions.checkState(maxRequestsPerHost() > 0, "maxRequestsPerHost must be positive");
+        Preconditions.checkState(connectTimeoutMillis() >= 0, "connectTimeoutMillis must not be negative");
+        Preconditions.checkState(readTimeoutMillis() >= 0, "readTimeoutMillis must not be negative");
+        Preconditions.checkState(writeTimeoutMillis() >= 0, "writeTimeoutMillis must not be negative");
+        Preconditions.checkState(dnsCacheMillis() >= 0, "dnsCacheMillis must not be negative");
+    }
+
+    /**
+     * Applies these settings to an {@link OkHttpClient.Builder}, giving it
+     * a new connection pool and dispatcher of its own.
+     *
+     * @param builder
+     *      the {@link OkHttpClient.Builder} to configure.
+     * @return
+     *      the same {@link OkHttpClient.Builder} for chaining.
+     */
+    public OkHttpClient.Builder apply(@Nonnull OkHttpClient.Builder builder) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests());
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost());
+
+        return builder
+            .dispatcher(dispatcher)
+            .connectionPool(new ConnectionPool(maxIdleConnections(), keepAliveMillis(), TimeUnit.MILLISECONDS))
+            .connectTimeout(connectTimeoutMillis(), TimeUnit.MILLISECONDS)
+            .readTimeout(readTimeoutMillis(), TimeUnit.MILLISECONDS)
+            .writeTimeout(writeTimeoutMillis(), TimeUnit.MILLISECONDS)
+            .protocols(http2()
+                ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                : Collections.singletonList(Protocol.HTTP_1_1))
+            .dns(dnsCacheMillis() > 0
+                ? new CachingDns(Dns.SYSTEM, dnsCacheMillis(), TimeUnit.MILLISECONDS)
+                : Dns.SYSTEM);
+    }
+
+    /**
+     * Returns settings with all default values.
+     *
+     * @return a default {@link TransportSettings}.
+     */
+    public static TransportSettings defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Returns a builder for settings, starting from the default values.
+     *
+     * @return
+     *      a new {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return ImmutableTransportSettings.builder();
+    }
+
+    /**
+     * Builder of {@link TransportSettings}, where any setting left unset keeps
+     * its default.
+     */
+    public interface Builder {
+
+        /**
+         * Sets the maximum number of idle connections kept in the pool.
+         *
+         * @param maxIdleConnections
+         *      the maximum number of idle connections.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder maxIdleConnections(int maxIdleConnections);
+
+        /**
+         * Sets the time an idle connection is kept in the pool.
+         *
+         * @param keepAliveMillis
+         *      the keep-alive duration, in milliseconds.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder keepAliveMillis(long keepAliveMillis);
+
+        /**
+         * Sets the maximum number of asynchronous requests executed at once.
+         *
+         * @param maxRequests
+         *      the maximum number of requests.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder maxRequests(int maxRequests);
+
+        /**
+         * Sets the maximum number of asynchronous requests executed at once
+         * against a single host.
+         *
+         * @param maxRequestsPerHost
+         *      the maximum number of requests per host.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder maxRequestsPerHost(int maxRequestsPerHost);
+
+        /**
+         * Sets the timeout to establish a connection.
+         *
+         * @param connectTimeoutMillis
+         *      the connect timeout in milliseconds, or zero for none.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder connectTimeoutMillis(long connectTimeoutMillis);
+
+        /**
+         * Sets the timeout between two reads of a response.
+         *
+         * @param readTimeoutMillis
+         *      the read timeout in milliseconds, or zero for none.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder readTimeoutMillis(long readTimeoutMillis);
+
+        /**
+         * Sets the timeout between two writes of a request.
+         *
+         * @param writeTimeoutMillis
+         *      the write timeout in milliseconds, or zero for none.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder writeTimeoutMillis(long writeTimeoutMillis);
+
+        /**
+         * Sets whether HTTP/2 is preferred when the server supports it.
+         *
+         * @param http2
+         *      true to prefer HTTP/2, false to only use HTTP/1.1.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder http2(boolean http2);
+
+        /**
+         * Sets the time a resolved host name is cached for.
+         *
+         * @param dnsCacheMillis
+         *      the DNS cache duration in milliseconds, or zero to resolve on every connection.
+         * @return
+         *      this {@link Builder} instance.
+         */
+        Builder dnsCacheMillis(long dnsCacheMillis);
+
+        /**
+         * Constructs a new {@link TransportSettings} from this builder.
+         *
+         * @return
+         *      a new {@link TransportSettings} instance.
+         */
+        TransportSettings build();
+    }
+}
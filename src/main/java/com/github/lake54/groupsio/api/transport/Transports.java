@@ -0,0 +1,58 @@
+package com.github.lake54.groupsio.api.transport;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Creates the {@link Transport}s available to a client.
+ *
+ * <pre>
+ * GroupsIOApiClient client = GroupsIOApiClient
+ *     .builder(apiKey)
+ *         .transport(Transports.jdk(TransportSettings.defaults()))
+ *     .build();
+ * </pre>
+ */
+public class Transports {
+
+    private Transports() { }
+
+    /**
+     * Creates a transport sending requests with OkHttp, which is the
+     * transport used by default.
+     *
+     * @param settings
+     *      the {@link TransportSettings} to configure the transport with.
+     * @return
+     *      a new {@link OkHttpTransport} instance.
+     */
+    public static Transport okHttp(@Nonnull TransportSettings settings) {
+        return new OkHttpTransport(settings);
+    }
+
+    /**
+     * Creates a transport sending requests with the JDK's
+     * {@code java.net.http.HttpClient}, which is asynchronous and supports
+     * HTTP/2. Only the timeouts and HTTP/2 preference of the settings
+     * apply, as the JDK client manages its own pool of connections.
+     *
+     * @param settings
+     *      the {@link TransportSettings} to configure the transport with.
+     * @return
+     *      a new {@link Transport} instance.
+     * @throws UnsupportedOperationException
+     *      if running on a version of Java older than 11.
+     */
+    public static Transport jdk(@Nonnull TransportSettings settings) {
+        return JdkTransports.create(settings);
+    }
+
+    /**
+     * Returns whether the JDK's {@code java.net.http.HttpClient} is
+     * available, which requires Java 11 or later.
+     *
+     * @return true if {@link #jdk(TransportSettings)} may be called.
+     */
+    public static boolean isJdkAvailable() {
+        return JdkTransports.isAvailable();
+    }
+}
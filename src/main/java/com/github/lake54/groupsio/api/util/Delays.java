@@ -0,0 +1,46 @@
+package com.github.lake54.groupsio.api.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Utility class for scheduling delayed work without blocking a thread.
+ */
+public class Delays {
+
+    /**
+     * A shared daemon scheduler used to trigger delayed work.
+     */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "groupsio-delays");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates a future which completes after the provided delay.
+     *
+     * The future is completed on the shared scheduler thread, so callers
+     * should hand off any heavy work to their own executor.
+     *
+     * @param delay
+     *      the delay before completion.
+     * @param unit
+     *      the unit of the delay value.
+     * @return
+     *      a {@link CompletableFuture} completed after the delay.
+     */
+    public static CompletableFuture<Void> after(long delay, TimeUnit unit) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+
+        if (delay <= 0) {
+            future.complete(null);
+        } else {
+            SCHEDULER.schedule(() -> future.complete(null), delay, unit);
+        }
+
+        return future;
+    }
+}
@@ -0,0 +1,219 @@
+package com.github.lake54.groupsio.api.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.lake54.groupsio.api.domain.Error;
+import com.github.lake54.groupsio.api.domain.Group;
+import com.github.lake54.groupsio.api.domain.Hashtag;
+import com.github.lake54.groupsio.api.domain.Login;
+import com.github.lake54.groupsio.api.domain.Permissions;
+import com.github.lake54.groupsio.api.domain.Poster;
+import com.github.lake54.groupsio.api.domain.Subscription;
+import com.github.lake54.groupsio.api.domain.SubscriptionPlus;
+import com.github.lake54.groupsio.api.domain.Topic;
+import com.github.lake54.groupsio.api.domain.User;
+import com.github.lake54.groupsio.api.domain.results.BulkRemoveResults;
+import com.github.lake54.groupsio.api.domain.results.DirectAddResults;
+import com.github.lake54.groupsio.api.domain.results.InviteResults;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Codec used to decode API responses, wrapping a single configured
+ * {@link ObjectMapper}.
+ *
+ * Resolving the deserializer for a type is far more expensive than using
+ * it, so the codec caches the {@link JavaType} for each class and a pre-built
+ * {@link ObjectReader} for each type. Warming a codec builds the readers for
+ * every domain type and page of domain types up front, so that the first
+ * call of each type does not pay for introspection.
+ */
+public class JacksonCodec {
+
+    /**
+     * The domain types decoded directly from API responses.
+     */
+    private static final List<Class<?>> DOMAIN_TYPES = ImmutableList.of(
+        BulkRemoveResults.class,
+        DirectAddResults.class,
+        Error.class,
+        Group.class,
+        Hashtag.class,
+        InviteResults.class,
+        Login.class,
+        Permissions.class,
+        Poster.class,
+        Subscription.class,
+        SubscriptionPlus.class,
+        Topic.class,
+        User.class
+    );
+
+    /**
+     * The domain types decoded as pages of results.
+     */
+    private static final List<Class<?>> PAGED_TYPES = ImmutableList.of(
+        Group.class,
+        Subscription.class,
+        SubscriptionPlus.class
+    );
+
+    /**
+     * The mapper used for all JSON interaction.
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * The resolved type for each class.
+     */
+    private final ConcurrentMap<Class<?>, JavaType> types = new ConcurrentHashMap<>();
+
+    /**
+     * The pre-built reader for each type.
+     */
+    private final ConcurrentMap<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a codec around a configured mapper.
+     *
+     * @param mapper
+     *      the {@link ObjectMapper} to use for all JSON interaction.
+     */
+    public JacksonCodec(@Nonnull ObjectMapper mapper) {
+        this.mapper = Preconditions.checkNotNull(mapper);
+    }
+
+    /**
+     * Returns the shared, warmed codec using the default mapper configuration.
+     *
+     * @return the shared {@link JacksonCodec} instance.
+     */
+    public static JacksonCodec shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Returns the mapper wrapped by this codec.
+     *
+     * @return the {@link ObjectMapper} instance.
+     */
+    public ObjectMapper getMapper() {
+        return this.mapper;
+    }
+
+    /**
+     * Builds the readers for all domain types and pages of domain types.
+     *
+     * @return the same {@link JacksonCodec} for chaining.
+     */
+    public JacksonCodec warm() {
+        for (Class<?> type : DOMAIN_TYPES) {
+            reader(type(type));
+        }
+        for (Class<?> type : PAGED_TYPES) {
+            reader(JacksonUtils.createPaginationType(type));
+        }
+        return this;
+    }
+
+    /**
+     * Returns the resolved type for a class.
+     *
+     * @param type
+     *      the class to resolve.
+     * @return
+     *      the cached {@link JavaType} of the class.
+     */
+    public JavaType type(@Nonnull Class<?> type) {
+        return this.types.computeIfAbsent(type, key -> this.mapper.getTypeFactory().constructType(key));
+    }
+
+    /**
+     * Returns the resolved type for a type reference.
+     *
+     * @param type
+     *      the type reference to resolve.
+     * @return
+     *      the {@link JavaType} of the reference.
+     */
+    public JavaType type(@Nonnull TypeReference<?> type) {
+        return this.mapper.getTypeFactory().constructType(type);
+    }
+
+    /**
+     * Returns the reader for a type, building it on first use.
+     *
+     * @param type
+     *      the type to read.
+     * @return
+     *      the cached {@link ObjectReader} for the type.
+     */
+    public ObjectReader reader(@Nonnull JavaType type) {
+        return this.readers.computeIfAbsent(type, this.mapper::readerFor);
+    }
+
+    /**
+     * Decodes a value from a string.
+     *
+     * @param content
+     *      the JSON content to decode.
+     * @param type
+     *      the type to decode into.
+     * @return
+     *      a decoded T instance.
+     * @throws IOException
+     *      if the content cannot be decoded.
+     */
+    public <T> T read(String content, JavaType type) throws IOException {
+        return reader(type).readValue(content);
+    }
+
+    /**
+     * Decodes a value from bytes.
+     *
+     * @param content
+     *      the JSON content to decode.
+     * @param type
+     *      the type to decode into.
+     * @return
+     *      a decoded T instance.
+     * @throws IOException
+     *      if the content cannot be decoded.
+     */
+    public <T> T read(byte[] content, JavaType type) throws IOException {
+        return reader(type).readValue(content);
+    }
+
+    /**
+     * Decodes a value from a stream.
+     *
+     * @param content
+     *      the JSON content to decode.
+     * @param type
+     *      the type to decode into.
+     * @return
+     *      a decoded T instance.
+     * @throws IOException
+     *      if the content cannot be decoded.
+     */
+    public <T> T read(InputStream content, JavaType type) throws IOException {
+        return reader(type).readValue(content);
+    }
+
+    /**
+     * Holder for the shared codec, created and warmed on first use.
+     */
+    private static class Shared {
+
+        private static final JacksonCodec INSTANCE = new JacksonCodec(JacksonUtils.createMapper()).warm();
+    }
+}
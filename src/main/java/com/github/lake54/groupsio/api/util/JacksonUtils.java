@@ -1,14 +1,18 @@
 package com.github.lake54.groupsio.api.util;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.datatype.guava.GuavaModule;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.github.lake54.groupsio.api.domain.Page;
+import okhttp3.FormBody;
 
+import java.util.Map;
 import java.util.function.Function;
 
 /**
@@ -21,11 +25,6 @@ public class JacksonUtils {
      */
     private static final TypeFactory TYPE_FACTORY = TypeFactory.defaultInstance();
 
-    /**
-     * A static mapper instance to use for all JSON interaction.
-     */
-    private static final ObjectMapper MAPPER = createMapper();
-
     /**
      * Converts an object to the type defined by the provided generator.
      *
@@ -37,7 +36,29 @@ public class JacksonUtils {
      *      an instance of the defined type.
      */
     public static <T> T convert(Object object, Function<TypeFactory, JavaType> generator) {
-        return MAPPER.convertValue(object, generateType(generator));
+        return JacksonCodec.shared().getMapper().convertValue(object, generateType(generator));
+    }
+
+    /**
+     * Encodes the JSON fields of an object as a form body, with each
+     * field value in its string form.
+     *
+     * @param object
+     *      the object to encode.
+     * @return
+     *      a {@link FormBody} carrying the object's fields.
+     */
+    public static FormBody toFormBody(Object object) {
+        FormBody.Builder formBuilder = new FormBody.Builder();
+
+        Map<String, Object> data = convert(object, factory ->
+            factory.constructMapLikeType(Map.class, String.class, Object.class));
+
+        for (Map.Entry<String, Object> entry : data.entrySet()) {
+            formBuilder.add(entry.getKey(), entry.getValue().toString());
+        }
+
+        return formBuilder.build();
     }
 
     /**
@@ -47,7 +68,20 @@ public class JacksonUtils {
      *      an {@link ObjectMapper} instance.
      */
     public static ObjectMapper createMapper() {
-        ObjectMapper mapper = new ObjectMapper();
+        return createMapper(new MappingJsonFactory());
+    }
+
+    /**
+     * Creates an {@link ObjectMapper} instance with configuration, reading
+     * and writing the format of the provided factory.
+     *
+     * @param factory
+     *      the {@link JsonFactory} for the data format to use.
+     * @return
+     *      an {@link ObjectMapper} instance.
+     */
+    public static ObjectMapper createMapper(JsonFactory factory) {
+        ObjectMapper mapper = new ObjectMapper(factory);
 
         mapper.registerModule(new GuavaModule());
         mapper.registerModule(new Jdk8Module());
@@ -56,6 +90,22 @@ public class JacksonUtils {
         return mapper;
     }
 
+    /**
+     * Creates an {@link ObjectMapper} instance with configuration, which
+     * deduplicates low-cardinality string fields of the domain types
+     * (timezones, locations, websites and the like) through a pool.
+     *
+     * @param pool
+     *      the {@link StringPool} to intern strings into.
+     * @return
+     *      an {@link ObjectMapper} instance.
+     */
+    public static ObjectMapper createMapper(StringPool pool) {
+        ObjectMapper mapper = createMapper();
+        mapper.registerModule(new StringPoolModule(pool));
+        return mapper;
+    }
+
     /**
      * Creates a type reference to use for pagination.
      *
@@ -0,0 +1,132 @@
+package com.github.lake54.groupsio.api.util;
+
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded pool of canonical {@link String} instances.
+ *
+ * Interning a string returns a previously pooled instance with the same
+ * contents, if there is one, so that repeated values share a single copy.
+ * The pool is a fixed table of slots, each holding the last string
+ * interned into it: a string which is not pooled takes over its slot, so
+ * the pool keeps adapting to the values seen and never stops pooling, while
+ * its memory use stays bounded by the table size. Strings longer than the
+ * maximum length are never pooled.
+ *
+ * A pool is safe for concurrent use and may be shared between mappers.
+ */
+public class StringPool {
+
+    /**
+     * The default maximum number of pooled strings.
+     */
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    /**
+     * The default maximum length of a pooled string.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    /**
+     * The largest number of slots a pool may have.
+     */
+    private static final int MAX_SLOTS = 1 << 30;
+
+    /**
+     * The pooled strings, each held in the slot picked by its hash.
+     */
+    private final AtomicReferenceArray<String> slots;
+
+    /**
+     * The mask selecting a slot from a hash.
+     */
+    private final int mask;
+
+    /**
+     * The maximum length of a pooled string.
+     */
+    private final int maxLength;
+
+    /**
+     * Creates a pool with the default bounds.
+     */
+    public StringPool() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Creates a pool with custom bounds.
+     *
+     * @param maxSize
+     *      the maximum number of pooled strings, rounded up to a power of two.
+     * @param maxLength
+     *      the maximum length of a pooled string.
+     */
+    public StringPool(int maxSize, int maxLength) {
+        Preconditions.checkArgument(maxSize > 0, "maxSize must be positive");
+        Preconditions.checkArgument(maxSize <= MAX_SLOTS, "maxSize must not exceed %s", MAX_SLOTS);
+        Preconditions.checkArgument(maxLength >= 0, "maxLength must not be negative");
+
+        int slots = maxSize == 1 ? 1 : Integer.highestOneBit(maxSize - 1) << 1;
+
+        this.slots = new AtomicReferenceArray<>(slots);
+        this.mask = slots - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the canonical instance of a string.
+     *
+     * @param value
+     *      the string to intern.
+     * @return
+     *      the pooled instance, or the provided string if it is not pooled.
+     */
+    @Nullable
+    public String intern(@Nullable String value) {
+        if (value == null || value.length() > this.maxLength) {
+            return value;
+        }
+        if (value.isEmpty()) {
+            return "";
+        }
+
+        int hash = value.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & this.mask;
+        String pooled = this.slots.get(slot);
+
+        if (value.equals(pooled)) {
+            return pooled;
+        }
+
+        this.slots.lazySet(slot, value);
+        return value;
+    }
+
+    /**
+     * Returns the number of pooled strings, counting every slot.
+     *
+     * @return the pool size.
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < this.slots.length(); i++) {
+            if (this.slots.get(i) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes all pooled strings.
+     */
+    public void clear() {
+        for (int i = 0; i < this.slots.length(); i++) {
+            this.slots.set(i, null);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.lake54.groupsio.api.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.github.lake54.groupsio.api.domain.SubscriptionBase;
+import com.github.lake54.groupsio.api.domain.User;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Jackson module which interns low-cardinality string fields of the
+ * domain types into a {@link StringPool} as they are deserialized.
+ *
+ * Only fields drawn from a small set of values are pooled. Fields which
+ * are near-unique per object (emails, names, profiles, photo identifiers,
+ * moderator notes and timestamps) would only churn the pool, pushing out
+ * the values worth sharing, so they are left alone.
+ */
+class StringPoolModule extends SimpleModule {
+
+    /**
+     * The pooled JSON fields of each domain type.
+     */
+    private static final Map<Class<?>, Set<String>> POOLED_FIELDS = ImmutableMap.of(
+        SubscriptionBase.class, ImmutableSet.of(
+            "timezone", "about_format", "location", "website"
+        ),
+        User.class, ImmutableSet.of(
+            "timezone", "about_format", "location", "website"
+        )
+    );
+
+    /**
+     * Creates a module interning into the provided pool.
+     *
+     * @param pool
+     *      the {@link StringPool} to intern into.
+     */
+    StringPoolModule(StringPool pool) {
+        super("StringPoolModule");
+
+        StringDeserializer delegate = StringDeserializer.instance;
+        InterningDeserializer deserializer = new InterningDeserializer(delegate, pool);
+
+        setDeserializerModifier(new BeanDeserializerModifier() {
+
+            @Override
+            public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription description, BeanDeserializerBuilder builder) {
+                Set<String> fields = pooledFields(description.getBeanClass());
+
+                if (fields.isEmpty()) {
+                    return builder;
+                }
+
+                Iterator<SettableBeanProperty> properties = builder.getProperties();
+
+                while (properties.hasNext()) {
+                    SettableBeanProperty property = properties.next();
+
+                    if (property.getType().hasRawClass(String.class) && fields.contains(property.getName())) {
+                        builder.addOrReplaceProperty(property.withValueDeserializer(deserializer), true);
+                    }
+                }
+
+                return builder;
+            }
+        });
+    }
+
+    /**
+     * Returns the pooled fields for a bean class, including those of any
+     * domain type it extends (such as the generated Immutables classes).
+     */
+    private static Set<String> pooledFields(Class<?> beanClass) {
+        for (Map.Entry<Class<?>, Set<String>> entry : POOLED_FIELDS.entrySet()) {
+            if (entry.getKey().isAssignableFrom(beanClass)) {
+                return entry.getValue();
+            }
+        }
+        return ImmutableSet.of();
+    }
+
+    /**
+     * String deserializer which interns each value it reads.
+     */
+    private static class InterningDeserializer extends StdScalarDeserializer<String> {
+
+        private final StringDeserializer delegate;
+        private final StringPool pool;
+
+        private InterningDeserializer(StringDeserializer delegate, StringPool pool) {
+            super(String.class);
+            this.delegate = delegate;
+            this.pool = pool;
+        }
+
+        @Override
+        public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return this.pool.intern(this.delegate.deserialize(parser, context));
+        }
+    }
+}
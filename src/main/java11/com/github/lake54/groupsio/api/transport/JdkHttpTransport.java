@@ -0,0 +1,293 @@
+package com.github.lake54.groupsio.api.transport;
+
+import com.github.lake54.groupsio.api.GroupsIOApiRequest;
+import com.google.common.base.Preconditions;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link Transport} sending requests with the JDK's {@link HttpClient}.
+ *
+ * Only the timeouts and HTTP/2 preference of the {@link TransportSettings}
+ * apply: the JDK client has no per-client request limits, and keeps its
+ * own pool of connections. Timed requests only measure the time to first
+ * byte, from sending the request to receiving the response headers,
+ * which includes opening any new connection.
+ *
+ * Asynchronous calls buffer the response body before completing, so that
+ * no thread is blocked reading it.
+ */
+class JdkHttpTransport implements Transport {
+
+    /**
+     * Counter used to name the threads of each transport.
+     */
+    private static final AtomicInteger TRANSPORTS = new AtomicInteger();
+
+    /**
+     * The executor running the client's callbacks.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The client used to send requests.
+     */
+    private final HttpClient httpClient;
+
+    /**
+     * The timeout of each request, or null for none.
+     */
+    private final Duration timeout;
+
+    /**
+     * Creates a transport with its own client.
+     *
+     * @param settings
+     *      the {@link TransportSettings} to configure the transport with.
+     */
+    JdkHttpTransport(TransportSettings settings) {
+        int transport = TRANSPORTS.incrementAndGet();
+        AtomicInteger threads = new AtomicInteger();
+
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "groupsio-http-" + transport + "-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        HttpClient.Builder builder = HttpClient.newBuilder()
+            .executor(this.executor)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .version(settings.http2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1);
+
+        if (settings.connectTimeoutMillis() > 0) {
+            builder.connectTimeout(Duration.ofMillis(settings.connectTimeoutMillis()));
+        }
+
+        this.httpClient = builder.build();
+        this.timeout = settings.readTimeoutMillis() > 0 ? Duration.ofMillis(settings.readTimeoutMillis()) : null;
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        Timer timer = request.timed() ? new Timer() : null;
+
+        try {
+            HttpResponse<InputStream> response = this.httpClient.send(
+                createHttpRequest(request),
+                handler(timer, HttpResponse.BodyHandlers.ofInputStream()));
+
+            return new JdkResponse(response, response.body(), null, timer);
+        } catch (HttpTimeoutException e) {
+            throw timeout(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for response");
+        }
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> executeAsync(TransportRequest request) {
+        CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+        Timer timer = request.timed() ? new Timer() : null;
+
+        try {
+            this.httpClient
+                .sendAsync(createHttpRequest(request), handler(timer, HttpResponse.BodyHandlers.ofByteArray()))
+                .whenComplete((response, throwable) -> {
+                    if (throwable != null) {
+                        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause()
+                            : throwable;
+
+                        future.completeExceptionally(cause instanceof HttpTimeoutException
+                            ? timeout((HttpTimeoutException) cause)
+                            : cause);
+                    } else {
+                        future.complete(new JdkResponse(response, null, response.body(), timer));
+                    }
+                });
+        } catch (IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdown();
+    }
+
+    /**
+     * Converts a JDK timeout into the {@link SocketTimeoutException} raised
+     * by other transports, so that it is recognised as a transient failure.
+     *
+     * @param e
+     *      the timeout raised by the JDK client.
+     * @return
+     *      a {@link SocketTimeoutException} caused by the timeout.
+     */
+    private static SocketTimeoutException timeout(HttpTimeoutException e) {
+        SocketTimeoutException timeout = new SocketTimeoutException(e.getMessage());
+        timeout.initCause(e);
+        return timeout;
+    }
+
+    /**
+     * Converts a transport request into a JDK {@link HttpRequest}.
+     *
+     * @param request
+     *      the resolved request to convert.
+     * @return
+     *      a new {@link HttpRequest} instance.
+     * @throws IOException
+     *      if the request body cannot be written.
+     */
+    private HttpRequest createHttpRequest(TransportRequest request) throws IOException {
+        GroupsIOApiRequest apiRequest = request.request();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.url().uri());
+
+        if (this.timeout != null) {
+            builder.timeout(this.timeout);
+        }
+
+        for (Map.Entry<String, String> header : request.headers().entrySet()) {
+            builder.header(header.getKey(), header.getValue());
+        }
+
+        RequestBody body = apiRequest.body().orElse(null);
+
+        if (body == null) {
+            return builder.method(apiRequest.method(), HttpRequest.BodyPublishers.noBody()).build();
+        }
+
+        MediaType contentType = body.contentType();
+
+        if (contentType != null && !request.headers().containsKey("Content-Type")) {
+            builder.header("Content-Type", contentType.toString());
+        }
+
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+
+        return builder
+            .method(apiRequest.method(), HttpRequest.BodyPublishers.ofByteArray(buffer.readByteArray()))
+            .build();
+    }
+
+    /**
+     * Wraps a body handler to record when the response headers arrive.
+     */
+    private static <T> HttpResponse.BodyHandler<T> handler(@Nullable Timer timer, HttpResponse.BodyHandler<T> handler) {
+        if (timer == null) {
+            return handler;
+        }
+
+        return info -> {
+            timer.headers = System.nanoTime();
+            return handler.apply(info);
+        };
+    }
+
+    /**
+     * The times of the phases of a call which the JDK client exposes.
+     */
+    private static class Timer {
+
+        private final long sent = System.nanoTime();
+        private volatile long headers;
+
+        private NetworkTimings timings() {
+            long headers = this.headers;
+            return NetworkTimings.firstByteOnly(headers == 0 ? 0 : headers - this.sent);
+        }
+    }
+
+    /**
+     * {@link TransportResponse} backed by a JDK {@link HttpResponse}, with
+     * its body either streaming or already buffered.
+     */
+    private static class JdkResponse implements TransportResponse {
+
+        private final HttpResponse<?> response;
+        private final InputStream stream;
+        private final byte[] bytes;
+        private final Timer timer;
+
+        private JdkResponse(HttpResponse<?> response, @Nullable InputStream stream, @Nullable byte[] bytes, @Nullable Timer timer) {
+            this.response = response;
+            this.stream = stream;
+            this.bytes = bytes;
+            this.timer = timer;
+        }
+
+        @Override
+        public int code() {
+            return this.response.statusCode();
+        }
+
+        @Nullable
+        @Override
+        public String header(String name) {
+            return this.response.headers().firstValue(name).orElse(null);
+        }
+
+        @Override
+        public Map<String, List<String>> headers() {
+            return this.response.headers().map();
+        }
+
+        @Override
+        public InputStream body() {
+            return this.stream != null ? this.stream : new ByteArrayInputStream(Preconditions.checkNotNull(this.bytes));
+        }
+
+        @Override
+        public byte[] bytes() throws IOException {
+            if (this.bytes != null) {
+                return this.bytes;
+            }
+            return TransportResponse.super.bytes();
+        }
+
+        @Nullable
+        @Override
+        public NetworkTimings timings() {
+            return this.timer == null ? null : this.timer.timings();
+        }
+
+        @Override
+        public void close() {
+            if (this.stream == null) {
+                return;
+            }
+
+            try {
+                this.stream.close();
+            } catch (IOException ignored) {
+                // the connection is released either way
+            }
+        }
+    }
+}
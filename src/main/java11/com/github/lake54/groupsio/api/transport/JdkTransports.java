@@ -0,0 +1,31 @@
+package com.github.lake54.groupsio.api.transport;
+
+/**
+ * Creates transports backed by the JDK's {@code java.net.http.HttpClient}.
+ *
+ * This is the implementation used on Java 11 and later, where the JDK
+ * client is available.
+ */
+class JdkTransports {
+
+    /**
+     * Whether the JDK client is available.
+     *
+     * @return true, as the JDK client is available.
+     */
+    static boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * Creates a transport backed by the JDK client.
+     *
+     * @param settings
+     *      the {@link TransportSettings} to configure the transport with.
+     * @return
+     *      a new {@link JdkHttpTransport} instance.
+     */
+    static Transport create(TransportSettings settings) {
+        return new JdkHttpTransport(settings);
+    }
+}
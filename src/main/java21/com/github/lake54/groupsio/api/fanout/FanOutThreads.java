@@ -0,0 +1,38 @@
+package com.github.lake54.groupsio.api.fanout;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates the threads used to run a fan-out.
+ *
+ * This is the implementation used on Java 21 and later, which runs each
+ * operation on its own virtual thread. Blocking calls park the virtual
+ * thread rather than holding a platform thread, so a fan-out costs a few
+ * kilobytes per operation in flight; the number in flight is still capped
+ * by {@link FanOut}.
+ */
+class FanOutThreads {
+
+    /**
+     * Whether fan-outs run on virtual threads.
+     *
+     * @return true, as virtual threads are available.
+     */
+    static boolean isVirtual() {
+        return true;
+    }
+
+    /**
+     * Creates an executor starting a virtual thread for each operation.
+     *
+     * @param concurrency
+     *      the maximum number of operations running at once, which is
+     *      enforced by the caller.
+     * @return
+     *      a new {@link ExecutorService}, to be shut down by the caller.
+     */
+    static ExecutorService newExecutor(int concurrency) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("groupsio-fanout-", 1).factory());
+    }
+}